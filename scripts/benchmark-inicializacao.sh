@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Compara o tempo de inicialização do bootJar padrão com o modo AOT + AppCDS + lazy.
+# Requer o banco configurado em application.yml disponível.
+# Uso: scripts/benchmark-inicializacao.sh [execucoes]
+set -euo pipefail
+
+EXECUCOES=${1:-5}
+RAIZ=$(cd "$(dirname "$0")/.." && pwd)
+cd "$RAIZ"
+
+medir() {
+  local rotulo=$1
+  shift
+  local tempos=()
+  for _ in $(seq "$EXECUCOES"); do
+    local saida
+    saida=$("$@" 2>&1 | grep -o 'Started BackendApplication in [0-9.]* seconds' || true)
+    tempos+=("$(echo "$saida" | grep -o '[0-9.]*' | head -1)")
+  done
+  printf '%s\n' "${tempos[@]}" | sort -n | awk -v rotulo="$rotulo" '
+    { t[NR] = $1 }
+    END { printf "%-28s mediana %.3fs  min %.3fs  max %.3fs  (%d execuções)\n", rotulo, t[int((NR + 1) / 2)], t[1], t[NR], NR }'
+}
+
+./gradlew -q clean bootJar
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+cp "$JAR" build/padrao.jar
+
+./gradlew -q gerarArquivoCds -PinicioRapido
+APP=build/inicio-rapido/app
+
+medir "bootJar padrao" java -Dinicializacao.treino=true -jar build/padrao.jar
+# O classpath precisa ser idêntico ao usado no treino para o JVM aceitar o arquivo CDS.
+medir "AOT + AppCDS + lazy" bash -c "cd $APP && exec java -XX:SharedArchiveFile=../app.jsa \
+  -Dspring.aot.enabled=true -Dinicializacao.treino=true \
+  -cp 'BOOT-INF/classes:BOOT-INF/lib/*' br.com.fiap.api.BackendApplication \
+  --spring.profiles.active=inicio-rapido"
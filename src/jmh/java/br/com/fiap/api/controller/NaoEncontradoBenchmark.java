@@ -0,0 +1,83 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.config.IdempotenciaProperties;
+import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.json.MensagemJson;
+import br.com.fiap.api.service.IdempotenciaServiceImpl;
+import br.com.fiap.api.service.MensagemService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Tráfego dominado por 404/400: scanners consultando IDs aleatórios ou malformados.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NaoEncontradoBenchmark {
+
+    private static final String ID_INEXISTENTE = UUID.randomUUID().toString();
+    private static final String ID_MALFORMADO = "c0feb288-5c99-42fd-9be7-c59867714fZZ";
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setup() {
+        var mensagemService = (MensagemService) Proxy.newProxyInstance(
+                MensagemService.class.getClassLoader(),
+                new Class<?>[]{MensagemService.class},
+                (proxy, metodo, argumentos) -> {
+                    throw MensagemNotFoundException.naoEncontrada();
+                });
+        var controller = new MensagemController(
+                mensagemService, new IdempotenciaServiceImpl(new IdempotenciaProperties()), null, null);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
+    }
+
+    @Benchmark
+    public int buscarIdInexistente() throws Exception {
+        return mockMvc.perform(get("/mensagens/{id}", ID_INEXISTENTE)).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int buscarIdMalformado() throws Exception {
+        return mockMvc.perform(get("/mensagens/{id}", ID_MALFORMADO)).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public Object converterIdMalformado() {
+        return MensagemJson.converterUuid(ID_MALFORMADO);
+    }
+
+    @Benchmark
+    public Object converterIdMalformadoComExcecao() {
+        try {
+            return UUID.fromString(ID_MALFORMADO);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object excecaoSemStackTrace() {
+        return MensagemNotFoundException.naoEncontrada();
+    }
+
+    @Benchmark
+    public Object excecaoComStackTrace() {
+        return new RuntimeException("Mensagem não encontrada");
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.fiap.api.json;
+
+import br.com.fiap.api.model.Mensagem;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MensagemSerializacaoBenchmark {
+
+    @Param({"1", "100"})
+    private int quantidade;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    private final ObjectMapper objectMapperReflexivo = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .addMixIn(Mensagem.class, MensagemReflexiva.class);
+
+    private List<Mensagem> mensagens;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() throws Exception {
+        mensagens = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            mensagens.add(Mensagem.builder()
+                    .id(UUID.randomUUID())
+                    .usuario("usuario-" + i)
+                    .conteudo("Conteudo da Mensagem " + i)
+                    .dataCriacao(LocalDateTime.now().minusMinutes(i))
+                    .gostei(i)
+                    .build());
+        }
+        json = objectMapper.writeValueAsBytes(mensagens);
+    }
+
+    @Benchmark
+    public byte[] serializarManual() throws Exception {
+        return objectMapper.writeValueAsBytes(mensagens);
+    }
+
+    @Benchmark
+    public byte[] serializarReflexivo() throws Exception {
+        return objectMapperReflexivo.writeValueAsBytes(mensagens);
+    }
+
+    @Benchmark
+    public Mensagem[] desserializarManual() throws Exception {
+        return objectMapper.readValue(json, Mensagem[].class);
+    }
+
+    @Benchmark
+    public Mensagem[] desserializarReflexivo() throws Exception {
+        return objectMapperReflexivo.readValue(json, Mensagem[].class);
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    abstract static class MensagemReflexiva {
+
+        @JsonFormat(pattern = MensagemJson.PADRAO_DATA)
+        private LocalDateTime dataCriacao;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.fiap.api.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConteudoConverterBenchmark {
+
+    private static final String[] PALAVRAS = {
+            "mensagem", "conteúdo", "usuário", "api", "spring", "java", "banco", "dados",
+            "teste", "desempenho", "página", "lista", "de", "o", "a", "que", "para", "com"
+    };
+
+    @Param({"256", "1024", "8192", "65536"})
+    private int tamanho;
+
+    private final ConteudoConverter converter = new ConteudoConverter();
+
+    private String conteudo;
+
+    private String gravado;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var aleatorio = new Random(42);
+        var texto = new StringBuilder(tamanho + 16);
+        while (texto.length() < tamanho) {
+            texto.append(PALAVRAS[aleatorio.nextInt(PALAVRAS.length)]).append(' ');
+        }
+        conteudo = texto.substring(0, tamanho);
+        gravado = converter.convertToDatabaseColumn(conteudo);
+    }
+
+    @TearDown(Level.Trial)
+    public void relatarArmazenamento() {
+        var original = conteudo.getBytes(StandardCharsets.UTF_8).length;
+        var armazenado = gravado.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%ntamanho=%d original=%dB armazenado=%dB razao=%.2f%n",
+                tamanho, original, armazenado, (double) armazenado / original);
+    }
+
+    @Benchmark
+    public String gravar() {
+        return converter.convertToDatabaseColumn(conteudo);
+    }
+
+    @Benchmark
+    public String ler() {
+        return converter.convertToEntityAttribute(gravado);
+    }
+}
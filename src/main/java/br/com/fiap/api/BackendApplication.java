@@ -7,7 +7,11 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class BackendApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(BackendApplication.class, args);
+        var contexto = SpringApplication.run(BackendApplication.class, args);
+        // Execução de treino do arquivo AppCDS: encerra logo após a inicialização.
+        if (Boolean.getBoolean("inicializacao.treino")) {
+            System.exit(SpringApplication.exit(contexto));
+        }
     }
 
 }
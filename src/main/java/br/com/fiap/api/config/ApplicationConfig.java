@@ -1,10 +1,37 @@
 package br.com.fiap.api.config;
 
+import br.com.fiap.api.service.ArquivamentoService;
+import br.com.fiap.api.service.DeduplicacaoService;
+import br.com.fiap.api.service.EstatisticaUsuarioService;
+import br.com.fiap.api.service.LinhaTempoService;
+import br.com.fiap.api.service.OutboxService;
+import br.com.fiap.api.service.RankingService;
+import br.com.fiap.api.service.RetencaoService;
+import br.com.fiap.api.service.SincronizacaoService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
 @Configuration
+@EnableScheduling
+@ImportRuntimeHints(MensagemRuntimeHints.class)
+@EnableConfigurationProperties({
+        RetencaoProperties.class,
+        ArquivamentoProperties.class,
+        EstatisticaProperties.class,
+        DeduplicacaoProperties.class,
+        IdempotenciaProperties.class,
+        FragmentacaoProperties.class,
+        OutboxProperties.class,
+        SincronizacaoProperties.class,
+        LinhaTempoProperties.class,
+        CacheRespostaProperties.class,
+        AuditoriaProperties.class
+})
 public class ApplicationConfig {
 
     @Bean
@@ -14,4 +41,19 @@ public class ApplicationConfig {
         filter.setForceEncoding(true);
         return filter;
     }
+
+    // Serviços com @Scheduled ou aquecimento na inicialização não podem ser lazy, senão nunca são registrados.
+    @Bean
+    public static LazyInitializationExcludeFilter servicosAgendadosExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                RetencaoService.class,
+                ArquivamentoService.class,
+                EstatisticaUsuarioService.class,
+                RankingService.class,
+                DeduplicacaoService.class,
+                OutboxService.class,
+                SincronizacaoService.class,
+                LinhaTempoService.class,
+                FragmentacaoConfig.CriacaoEsquemaFragmentos.class);
+    }
 }
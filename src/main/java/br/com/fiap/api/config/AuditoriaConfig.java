@@ -0,0 +1,19 @@
+package br.com.fiap.api.config;
+
+import br.com.fiap.api.controller.AuditoriaInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class AuditoriaConfig implements WebMvcConfigurer {
+
+    private final AuditoriaInterceptor auditoriaInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(auditoriaInterceptor).addPathPatterns("/mensagens", "/mensagens/**");
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.auditoria")
+public class AuditoriaProperties {
+
+    private boolean habilitada = true;
+
+    private String diretorio = "dados/auditoria";
+
+    // Registros pré-alocados no anel (potência de 2); com o anel cheio os novos são descartados e contados.
+    private int capacidade = 8192;
+
+    private int tamanhoLote = 512;
+
+    // Pausa do consumidor quando o anel está vazio; quem publica nunca acorda o consumidor.
+    private Duration espera = Duration.ofMillis(10);
+
+    // Pausa antes de tentar de novo um lote que falhou ao gravar (disco cheio, arquivo que não abriu ao rolar).
+    private Duration esperaAposFalha = Duration.ofSeconds(1);
+
+    private DataSize tamanhoArquivo = DataSize.ofMegabytes(64);
+
+    private int arquivosRetidos = 10;
+}
@@ -0,0 +1,17 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.cache-resposta")
+public class CacheRespostaProperties {
+
+    private boolean habilitado = true;
+
+    // Soma dos corpos guardados (JSON e gzip); as entradas menos acessadas saem primeiro.
+    private DataSize capacidade = DataSize.ofMegabytes(64);
+
+    private DataSize comprimirAPartirDe = DataSize.ofKilobytes(1);
+}
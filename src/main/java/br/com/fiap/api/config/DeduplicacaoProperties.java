@@ -0,0 +1,19 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.deduplicacao")
+public class DeduplicacaoProperties {
+
+    private boolean habilitada = true;
+
+    private Duration janela = Duration.ofMinutes(10);
+
+    private int capacidade = 100_000;
+
+    private double taxaFalsoPositivo = 0.01;
+}
@@ -0,0 +1,13 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.estatisticas")
+public class EstatisticaProperties {
+
+    private int tamanhoLote = 200;
+
+    private boolean reconciliarNaInicializacao = false;
+}
@@ -0,0 +1,64 @@
+package br.com.fiap.api.config;
+
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+
+@Configuration
+@ConditionalOnProperty(prefix = "mensagem.fragmentacao", name = "habilitada", havingValue = "true")
+public class FragmentacaoConfig {
+
+    @Bean
+    @Primary
+    public FragmentoDataSource dataSource(FragmentacaoProperties fragmentacaoProperties) {
+        var fragmentos = new ArrayList<DataSource>();
+        for (var fragmento : fragmentacaoProperties.getFragmentos()) {
+            fragmentos.add(DataSourceBuilder.create()
+                    .url(fragmento.getUrl())
+                    .username(fragmento.getUsername())
+                    .password(fragmento.getPassword())
+                    .driverClassName(fragmento.getDriverClassName())
+                    .build());
+        }
+        return new FragmentoDataSource(fragmentos);
+    }
+
+    @Bean
+    public CriacaoEsquemaFragmentos criacaoEsquemaFragmentos(EntityManagerFactory entityManagerFactory,
+                                                             RoteadorFragmentos roteadorFragmentos,
+                                                             FragmentacaoProperties fragmentacaoProperties) {
+        return new CriacaoEsquemaFragmentos(entityManagerFactory, roteadorFragmentos, fragmentacaoProperties);
+    }
+
+    @RequiredArgsConstructor
+    public static class CriacaoEsquemaFragmentos implements SmartInitializingSingleton {
+
+        private final EntityManagerFactory entityManagerFactory;
+        private final RoteadorFragmentos roteadorFragmentos;
+        private final FragmentacaoProperties fragmentacaoProperties;
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            if (!fragmentacaoProperties.isCriarEsquema()) {
+                return;
+            }
+            var schemaManager = entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager();
+            roteadorFragmentos.paraCadaFragmento(fragmento -> {
+                if (fragmento > 0) {
+                    schemaManager.exportMappedObjects(true);
+                }
+                return fragmento;
+            });
+        }
+    }
+}
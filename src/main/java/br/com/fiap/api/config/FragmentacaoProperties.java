@@ -0,0 +1,35 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.fragmentacao")
+public class FragmentacaoProperties {
+
+    private boolean habilitada = false;
+
+    // Cria as tabelas nos fragmentos 1..N-1; o fragmento 0 segue o ddl-auto do Hibernate.
+    private boolean criarEsquema = false;
+
+    private List<Fragmento> fragmentos = new ArrayList<>();
+
+    public int quantidade() {
+        return habilitada && !fragmentos.isEmpty() ? fragmentos.size() : 1;
+    }
+
+    @Data
+    public static class Fragmento {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private String driverClassName;
+    }
+}
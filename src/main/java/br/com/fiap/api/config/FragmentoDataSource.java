@@ -0,0 +1,39 @@
+package br.com.fiap.api.config;
+
+import br.com.fiap.api.repository.FragmentoContexto;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+
+// Sem fragmento no contexto a conexão vai para o fragmento 0, onde ficam os dados não fragmentados.
+public class FragmentoDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<DataSource> fragmentos;
+
+    public FragmentoDataSource(List<DataSource> fragmentos) {
+        this.fragmentos = List.copyOf(fragmentos);
+        var destinos = new HashMap<Object, Object>();
+        for (int i = 0; i < fragmentos.size(); i++) {
+            destinos.put(i, fragmentos.get(i));
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(fragmentos.get(0));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return FragmentoContexto.atual();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (var fragmento : fragmentos) {
+            if (fragmento instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "idempotencia")
+public class IdempotenciaProperties {
+
+    private Duration ttl = Duration.ofHours(24);
+
+    private int capacidade = 10_000;
+
+    // Soma estimada das respostas guardadas para repetição (ver IdempotenciaServiceImpl.tamanho).
+    private DataSize capacidadeBytes = DataSize.ofMegabytes(64);
+
+    private Duration esperaMaxima = Duration.ofSeconds(10);
+}
@@ -0,0 +1,24 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.linha-tempo")
+public class LinhaTempoProperties {
+
+    // A partir desse número de seguidores as mensagens do autor não são distribuídas: cada seguidor as lê sob demanda.
+    private long limiteDistribuicao = 10_000;
+
+    private Duration retencao = Duration.ofDays(30);
+
+    // Distribuições à espera da thread; com a fila cheia a nova é descartada e contada, nunca executada por quem publica.
+    private int capacidadeFila = 10_000;
+
+    // O INSERT da distribuição é idempotente: repetir depois de uma falha não duplica entradas.
+    private int tentativas = 3;
+
+    private Duration esperaEntreTentativas = Duration.ofSeconds(1);
+}
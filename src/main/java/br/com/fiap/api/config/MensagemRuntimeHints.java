@@ -0,0 +1,60 @@
+package br.com.fiap.api.config;
+
+import br.com.fiap.api.json.MensagemDeserializer;
+import br.com.fiap.api.json.MensagemProjetadaSerializer;
+import br.com.fiap.api.json.MensagemSerializer;
+import br.com.fiap.api.json.PaginaMensagemSerializer;
+import br.com.fiap.api.event.RegistroEvento;
+import br.com.fiap.api.model.AlteracoesMensagens;
+import br.com.fiap.api.model.ConversaMensagem;
+import br.com.fiap.api.model.EntradaLinhaTempo;
+import br.com.fiap.api.model.EstatisticaUsuario;
+import br.com.fiap.api.model.EventoOutbox;
+import br.com.fiap.api.model.LinhaTempo;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemArquivada;
+import br.com.fiap.api.model.MensagemRemovida;
+import br.com.fiap.api.model.NoConversa;
+import br.com.fiap.api.model.Seguidor;
+import br.com.fiap.api.model.TotalSeguidores;
+import br.com.fiap.api.repository.EstatisticaUsuarioRepository;
+import br.com.fiap.api.repository.EventoOutboxRepository;
+import br.com.fiap.api.repository.LinhaTempoRepository;
+import br.com.fiap.api.repository.MensagemArquivadaRepository;
+import br.com.fiap.api.repository.MensagemRemovidaRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.SeguidorRepository;
+import br.com.fiap.api.repository.TotalSeguidoresRepository;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+
+import java.util.List;
+
+public class MensagemRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (var entidade : List.of(Mensagem.class, MensagemArquivada.class, EstatisticaUsuario.class,
+                EventoOutbox.class, RegistroEvento.class, MensagemRemovida.class, AlteracoesMensagens.class,
+                ConversaMensagem.class, NoConversa.class, Seguidor.class, Seguidor.Chave.class, TotalSeguidores.class,
+                EntradaLinhaTempo.class, EntradaLinhaTempo.Chave.class, LinhaTempo.class)) {
+            hints.reflection().registerType(entidade, MemberCategory.values());
+        }
+        for (var serializador : List.of(MensagemSerializer.class, MensagemDeserializer.class,
+                PaginaMensagemSerializer.class, MensagemProjetadaSerializer.class)) {
+            hints.reflection().registerType(serializador, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        for (var repositorio : List.of(MensagemRepository.class, MensagemArquivadaRepository.class,
+                EstatisticaUsuarioRepository.class, EventoOutboxRepository.class, MensagemRemovidaRepository.class,
+                SeguidorRepository.class, TotalSeguidoresRepository.class, LinhaTempoRepository.class)) {
+            hints.proxies().registerJdkProxy(repositorio, Repository.class, TransactionalProxy.class,
+                    SpringProxy.class, Advised.class, DecoratingProxy.class);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.outbox")
+public class OutboxProperties {
+
+    private boolean habilitado = false;
+
+    private String diretorio = "dados/eventos";
+
+    private int tamanhoLote = 500;
+
+    private DataSize tamanhoSegmento = DataSize.ofMegabytes(64);
+
+    private Duration idadeSegmento = Duration.ofHours(1);
+
+    private DataSize retencaoBytes = DataSize.ofGigabytes(1);
+
+    private Duration retencaoIdade = Duration.ofDays(7);
+
+    // Validade da concessão do transmissor, renovada a cada lote; deve superar a diferença de relógio entre instâncias.
+    private Duration lideranca = Duration.ofSeconds(30);
+}
@@ -0,0 +1,19 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.retencao")
+public class RetencaoProperties {
+
+    private boolean habilitada = false;
+
+    private Duration idade = Duration.ofDays(365);
+
+    private int tamanhoLote = 500;
+
+    private Duration pausaEntreLotes = Duration.ofMillis(200);
+}
@@ -0,0 +1,16 @@
+package br.com.fiap.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "mensagem.sincronizacao")
+public class SincronizacaoProperties {
+
+    // Alterações mais recentes que isso ainda não são entregues: transações abertas podem commitar com data anterior.
+    private Duration margem = Duration.ofSeconds(5);
+
+    private Duration retencaoMarcadores = Duration.ofDays(30);
+}
@@ -0,0 +1,16 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.model.AcaoAuditoria;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marca os endpoints cujas chamadas vão para o log de auditoria (AuditoriaInterceptor).
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Auditado {
+
+    AcaoAuditoria value();
+}
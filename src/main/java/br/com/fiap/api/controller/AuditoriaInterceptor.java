@@ -0,0 +1,46 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.json.MensagemJson;
+import br.com.fiap.api.service.AuditoriaService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class AuditoriaInterceptor implements HandlerInterceptor {
+
+    private static final String INICIO = AuditoriaInterceptor.class.getName() + ".inicio";
+
+    private final AuditoriaService auditoriaService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod metodo && metodo.hasMethodAnnotation(Auditado.class)) {
+            request.setAttribute(INICIO, System.nanoTime());
+        }
+        return true;
+    }
+
+    // Chamado depois do ControllerExceptionHandler: o status já é o que o cliente recebe, inclusive nos erros.
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(INICIO) instanceof Long inicio) || !(handler instanceof HandlerMethod metodo)) {
+            return;
+        }
+        var duracao = System.nanoTime() - inicio;
+        var variaveis = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        var id = variaveis != null && variaveis.get("id") instanceof String valor
+                ? MensagemJson.converterUuid(valor)
+                : null;
+        auditoriaService.registrar(metodo.getMethodAnnotation(Auditado.class).value(), id, response.getStatus(),
+                duracao, request.getRemoteAddr());
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.exception.CampoInvalidoException;
+import br.com.fiap.api.exception.ExpurgoEmExecucaoException;
+import br.com.fiap.api.exception.IdInvalidoException;
+import br.com.fiap.api.exception.IdempotenciaConflitoException;
+import br.com.fiap.api.exception.IdempotenciaEmAndamentoException;
+import br.com.fiap.api.exception.MensagemInvalidaException;
+import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.exception.OffsetExpiradoException;
+import br.com.fiap.api.exception.OffsetInvalidoException;
+import br.com.fiap.api.exception.OutboxDesabilitadoException;
+import br.com.fiap.api.exception.SeguidorInvalidoException;
+import br.com.fiap.api.exception.TokenExpiradoException;
+import br.com.fiap.api.exception.TokenInvalidoException;
+import br.com.fiap.api.exception.UsuarioNotFoundException;
+import br.com.fiap.api.model.ErroResposta;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.Instant;
+
+@RestControllerAdvice
+public class ControllerExceptionHandler {
+
+    @ExceptionHandler({MensagemNotFoundException.class, UsuarioNotFoundException.class})
+    public ResponseEntity<ErroResposta> naoEncontrado(RuntimeException e, HttpServletRequest request) {
+        return erro(HttpStatus.NOT_FOUND, e.getMessage(), request);
+    }
+
+    @ExceptionHandler({IdInvalidoException.class, MensagemInvalidaException.class, OffsetInvalidoException.class,
+            TokenInvalidoException.class, SeguidorInvalidoException.class, CampoInvalidoException.class})
+    public ResponseEntity<ErroResposta> requisicaoInvalida(RuntimeException e, HttpServletRequest request) {
+        return erro(HttpStatus.BAD_REQUEST, e.getMessage(), request);
+    }
+
+    @ExceptionHandler({OffsetExpiradoException.class, TokenExpiradoException.class})
+    public ResponseEntity<ErroResposta> expirado(RuntimeException e, HttpServletRequest request) {
+        return erro(HttpStatus.GONE, e.getMessage(), request);
+    }
+
+    @ExceptionHandler({IdempotenciaEmAndamentoException.class, ExpurgoEmExecucaoException.class})
+    public ResponseEntity<ErroResposta> conflito(RuntimeException e, HttpServletRequest request) {
+        return erro(HttpStatus.CONFLICT, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(IdempotenciaConflitoException.class)
+    public ResponseEntity<ErroResposta> naoProcessavel(RuntimeException e, HttpServletRequest request) {
+        return erro(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage(), request);
+    }
+
+    @ExceptionHandler(OutboxDesabilitadoException.class)
+    public ResponseEntity<ErroResposta> indisponivel(RuntimeException e, HttpServletRequest request) {
+        return erro(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), request);
+    }
+
+    private static ResponseEntity<ErroResposta> erro(HttpStatus status, String mensagem, HttpServletRequest request) {
+        var erro = new ErroResposta(Instant.now().toString(), status.value(), status.getReasonPhrase(),
+                mensagem, request.getRequestURI());
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(erro);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.exception.IdInvalidoException;
+import br.com.fiap.api.json.MensagemJson;
+import br.com.fiap.api.model.ConversaMensagem;
+import br.com.fiap.api.service.ConversaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("mensagens")
+@RequiredArgsConstructor
+public class ConversaController {
+
+    private final ConversaService conversaService;
+
+    @GetMapping(value = "/{id}/thread",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<ConversaMensagem> buscarConversa(@PathVariable String id,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") int limite) {
+        var uuid = MensagemJson.converterUuid(id);
+        if (uuid == null) {
+            throw IdInvalidoException.idInvalido();
+        }
+        var conversa = conversaService.buscarConversa(uuid, cursor, limite);
+        return new ResponseEntity<>(conversa, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.event.LogEventos;
+import br.com.fiap.api.service.OutboxService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequestMapping("eventos")
+@RequiredArgsConstructor
+public class EventoController {
+
+    public static final String CABECALHO_PROXIMO_OFFSET = "Proximo-Offset";
+    public static final String TIPO_NDJSON = "application/x-ndjson";
+
+    private static final String SENDFILE_SUPORTADO = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_ARQUIVO = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_INICIO = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FIM = "org.apache.tomcat.sendfile.end";
+
+    private final OutboxService outboxService;
+
+    @GetMapping
+    public void lerEventos(@RequestParam(defaultValue = "0") long offset,
+                           @RequestParam(defaultValue = "100") int limite,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        try (var trecho = outboxService.lerEventos(offset, limite)) {
+            response.setHeader(CABECALHO_PROXIMO_OFFSET, String.valueOf(trecho.proximoOffset()));
+            if (trecho.tamanho() == 0) {
+                response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+                return;
+            }
+            response.setContentType(TIPO_NDJSON);
+            response.setContentLengthLong(trecho.tamanho());
+            transferir(trecho, request, response);
+        }
+    }
+
+    // Os bytes do segmento já são o corpo da resposta: com sendfile o Tomcat os envia do page cache direto ao socket.
+    // Nesse caso o trecho é liberado antes do envio; a retenção só exclui o arquivo numa execução seguinte.
+    private static void transferir(LogEventos.Trecho trecho, HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPORTADO))) {
+            request.setAttribute(SENDFILE_ARQUIVO, trecho.arquivo().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_INICIO, trecho.posicao());
+            request.setAttribute(SENDFILE_FIM, trecho.posicao() + trecho.tamanho());
+            return;
+        }
+        try (var canal = FileChannel.open(trecho.arquivo(), StandardOpenOption.READ)) {
+            var saida = Channels.newChannel(response.getOutputStream());
+            var posicao = trecho.posicao();
+            var restante = trecho.tamanho();
+            while (restante > 0) {
+                var transferidos = canal.transferTo(posicao, restante, saida);
+                posicao += transferidos;
+                restante -= transferidos;
+            }
+        }
+    }
+}
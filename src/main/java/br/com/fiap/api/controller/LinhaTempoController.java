@@ -0,0 +1,45 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.model.LinhaTempo;
+import br.com.fiap.api.service.LinhaTempoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("usuarios")
+@RequiredArgsConstructor
+public class LinhaTempoController {
+
+    private final LinhaTempoService linhaTempoService;
+
+    @PutMapping(value = "/{usuario}/seguindo/{seguido}")
+    public ResponseEntity<Void> seguir(@PathVariable String usuario, @PathVariable String seguido) {
+        linhaTempoService.seguir(usuario, seguido);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @DeleteMapping(value = "/{usuario}/seguindo/{seguido}")
+    public ResponseEntity<Void> deixarDeSeguir(@PathVariable String usuario, @PathVariable String seguido) {
+        linhaTempoService.deixarDeSeguir(usuario, seguido);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @GetMapping(value = "/{usuario}/timeline",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<LinhaTempo> buscarLinhaTempo(@PathVariable String usuario,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "20") int limite) {
+        var linhaTempo = linhaTempoService.buscarLinhaTempo(usuario, cursor, limite);
+        return new ResponseEntity<>(linhaTempo, HttpStatus.OK);
+    }
+}
@@ -1,81 +1,212 @@
 package br.com.fiap.api.controller;
 
-import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.exception.IdInvalidoException;
+import br.com.fiap.api.json.MensagemJson;
+import br.com.fiap.api.model.AcaoAuditoria;
+import br.com.fiap.api.model.AlteracoesMensagens;
+import br.com.fiap.api.model.CampoMensagem;
 import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemProjetada;
+import br.com.fiap.api.model.PaginaMensagem;
+import br.com.fiap.api.model.RespostaCodificada;
+import br.com.fiap.api.service.CacheRespostaService;
+import br.com.fiap.api.service.IdempotenciaService;
 import br.com.fiap.api.service.MensagemService;
+import br.com.fiap.api.service.SincronizacaoService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("mensagens")
 @RequiredArgsConstructor
 public class MensagemController {
 
+    static final int LIMITE_BUSCA_EM_LOTE = 500;
+
     private final MensagemService mensagemService;
+    private final IdempotenciaService idempotenciaService;
+    private final SincronizacaoService sincronizacaoService;
+    private final CacheRespostaService cacheRespostaService;
 
+    @Auditado(AcaoAuditoria.REGISTRAR)
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<Mensagem> registrarMensagem(@RequestBody Mensagem mensagem) {
-        var mensagemRegistrada = mensagemService.registrarMensagem(mensagem);
-        return new ResponseEntity<>(mensagemRegistrada, HttpStatus.CREATED);
+    public ResponseEntity<?> registrarMensagem(
+            @RequestBody Mensagem mensagem,
+            @RequestHeader(value = IdempotenciaService.CABECALHO_CHAVE, required = false) String chaveIdempotencia) {
+        return idempotente(chaveIdempotencia, "POST " + impressao(mensagem), () -> {
+            var mensagemRegistrada = mensagemService.registrarMensagem(mensagem);
+            return new ResponseEntity<>(mensagemRegistrada, HttpStatus.CREATED);
+        });
+    }
+
+    @GetMapping(value = "/populares",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<List<Mensagem>> listarPopulares(@RequestParam(defaultValue = "10") int limite) {
+        var populares = mensagemService.listarPopulares(limite);
+        return new ResponseEntity<>(populares, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/changes",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<AlteracoesMensagens> listarAlteracoes(@RequestParam(required = false) String since,
+                                                                @RequestParam(defaultValue = "100") int limite) {
+        var alteracoes = sincronizacaoService.listarAlteracoes(since, limite);
+        return new ResponseEntity<>(alteracoes, HttpStatus.OK);
     }
 
     @GetMapping(value = "/{id}")
-    public ResponseEntity<?> buscarMensagem(@PathVariable String id) {
-        var uuid = UUID.fromString(id);
-        try {
+    public ResponseEntity<?> buscarMensagem(
+            @PathVariable String id,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        var uuid = converterId(id);
+        if (fields == null) {
             var mensagemEncontrada = mensagemService.buscarMensagem(uuid);
-            return new ResponseEntity<>(mensagemEncontrada, HttpStatus.OK);
-        } catch (MensagemNotFoundException mensagemNotFoundException) {
-            return new ResponseEntity<>("ID Inválido", HttpStatus.BAD_REQUEST);
+            return corpoCodificado(cacheRespostaService.codificar(mensagemEncontrada), acceptEncoding);
         }
+        var campos = CampoMensagem.of(fields);
+        var mensagemEncontrada = mensagemService.buscarMensagem(uuid, campos);
+        return new ResponseEntity<>(new MensagemProjetada(mensagemEncontrada, campos), HttpStatus.OK);
     }
 
-    @GetMapping(
+    @PostMapping(value = "/buscar",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<Page<Mensagem>> listarMensagens(
+    public ResponseEntity<?> buscarMensagens(@RequestBody List<UUID> ids) {
+        if (ids.contains(null)) {
+            throw new IdInvalidoException("lista de IDs não pode conter valores nulos");
+        }
+        if (ids.size() > LIMITE_BUSCA_EM_LOTE) {
+            throw new IdInvalidoException("lista de IDs excede o limite de " + LIMITE_BUSCA_EM_LOTE);
+        }
+        var resultado = mensagemService.buscarMensagens(ids);
+        return new ResponseEntity<>(resultado, HttpStatus.OK);
+    }
+
+    @GetMapping(
+            produces = {MediaType.APPLICATION_JSON_VALUE, PaginaMensagem.MEDIA_TYPE_VALUE}
+    )
+    public ResponseEntity<?> listarMensagens(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
 
         var pageRequest = PageRequest.of(page, size);
-        var mensagens = mensagemService.listarMensagem(pageRequest);
+        Page<?> mensagens;
+        if (fields == null) {
+            mensagens = mensagemService.listarMensagem(pageRequest);
+        } else {
+            var campos = CampoMensagem.of(fields);
+            mensagens = mensagemService.listarMensagem(pageRequest, campos)
+                    .map(mensagem -> new MensagemProjetada(mensagem, campos));
+        }
+        if (aceitaPaginaCompacta(accept)) {
+            return ResponseEntity.ok()
+                    .contentType(PaginaMensagem.MEDIA_TYPE)
+                    .body(PaginaMensagem.of(mensagens));
+        }
         return new ResponseEntity<>(mensagens, HttpStatus.OK);
     }
 
+    @Auditado(AcaoAuditoria.ALTERAR)
     @PutMapping(value = "/{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<?> alterarMensagem(@PathVariable String id, @RequestBody Mensagem mensagem) {
-        var uuid = UUID.fromString(id);
-        try {
+    public ResponseEntity<?> alterarMensagem(
+            @PathVariable String id,
+            @RequestBody Mensagem mensagem,
+            @RequestHeader(value = IdempotenciaService.CABECALHO_CHAVE, required = false) String chaveIdempotencia) {
+        var uuid = converterId(id);
+        return idempotente(chaveIdempotencia, "PUT " + uuid + " " + impressao(mensagem), () -> {
             var mensagemAtualizada = mensagemService.alterarMensagem(uuid, mensagem);
             return new ResponseEntity<>(mensagemAtualizada, HttpStatus.ACCEPTED);
-        } catch (MensagemNotFoundException mensagemNotFoundException) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(mensagemNotFoundException.getMessage());
-        }
+        });
     }
 
+    @Auditado(AcaoAuditoria.CURTIR)
+    @PostMapping(value = "/{id}/gostei",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<?> gostarMensagem(@PathVariable String id) {
+        var mensagemCurtida = mensagemService.gostarMensagem(converterId(id));
+        return new ResponseEntity<>(mensagemCurtida, HttpStatus.OK);
+    }
+
+    @Auditado(AcaoAuditoria.REMOVER)
     @DeleteMapping(value = "/{id}")
     public ResponseEntity<?> removerMensagem(@PathVariable String id) {
-        var uuid = UUID.fromString(id);
-        try {
-            mensagemService.removerMensagem(uuid);
-            return new ResponseEntity<>("mensagem removida", HttpStatus.OK);
-        } catch (MensagemNotFoundException mensagemNotFoundException) {
-            return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
-                    .body(mensagemNotFoundException.getMessage());
+        mensagemService.removerMensagem(converterId(id));
+        return new ResponseEntity<>("mensagem removida", HttpStatus.OK);
+    }
+
+    private ResponseEntity<?> idempotente(String chave, String impressao, Supplier<ResponseEntity<?>> operacao) {
+        if (chave == null) {
+            return operacao.get();
+        }
+        return idempotenciaService.executar(chave, impressao, operacao);
+    }
+
+    // Os bytes já são o corpo: o conversor de byte[] os copia para a resposta sem passar pelo Jackson.
+    private static ResponseEntity<byte[]> corpoCodificado(RespostaCodificada resposta, String acceptEncoding) {
+        var builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (resposta.gzip() != null && aceitaGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(resposta.gzip());
+        }
+        return builder.body(resposta.json());
+    }
+
+    private static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (var codificacao : acceptEncoding.split(",")) {
+            var partes = codificacao.split(";");
+            if (partes[0].trim().equalsIgnoreCase("gzip")) {
+                return partes.length == 1 || !partes[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static UUID converterId(String id) {
+        var uuid = MensagemJson.converterUuid(id);
+        if (uuid == null) {
+            throw IdInvalidoException.idInvalido();
+        }
+        return uuid;
+    }
+
+    // respostaDe faz parte da requisição: a mesma chave respondendo a outra mensagem é outra operação.
+    private static String impressao(Mensagem mensagem) {
+        var hash = Long.toHexString(Mensagem.calcularHashConteudo(mensagem.getUsuario(), mensagem.getConteudo()));
+        return mensagem.getRespostaDe() == null ? hash : hash + " " + mensagem.getRespostaDe();
+    }
+
+    private boolean aceitaPaginaCompacta(String accept) {
+        if (accept == null || !accept.contains(PaginaMensagem.MEDIA_TYPE.getSubtype())) {
+            return false;
         }
+        return MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(PaginaMensagem.MEDIA_TYPE::equalsTypeAndSubtype);
     }
 }
@@ -0,0 +1,26 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.service.RetencaoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("retencao")
+@RequiredArgsConstructor
+public class RetencaoController {
+
+    private final RetencaoService retencaoService;
+
+    @PostMapping(value = "/execucoes",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<?> executarExpurgo() {
+        var resultado = retencaoService.expurgarMensagensAntigas();
+        return new ResponseEntity<>(resultado, HttpStatus.OK);
+    }
+}
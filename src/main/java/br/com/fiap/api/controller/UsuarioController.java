@@ -0,0 +1,28 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.model.EstatisticaUsuario;
+import br.com.fiap.api.service.EstatisticaUsuarioService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("usuarios")
+@RequiredArgsConstructor
+public class UsuarioController {
+
+    private final EstatisticaUsuarioService estatisticaUsuarioService;
+
+    @GetMapping(value = "/{usuario}/estatisticas",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<EstatisticaUsuario> buscarEstatisticas(@PathVariable String usuario) {
+        var estatisticas = estatisticaUsuarioService.buscarEstatisticas(usuario);
+        return new ResponseEntity<>(estatisticas, HttpStatus.OK);
+    }
+}
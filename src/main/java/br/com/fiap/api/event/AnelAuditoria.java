@@ -0,0 +1,125 @@
+package br.com.fiap.api.event;
+
+import br.com.fiap.api.model.AcaoAuditoria;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Anel pré-alocado com vários produtores e um único consumidor, sem travas. Quem publica reserva uma sequência com
+// CAS e preenche um registro já existente; com o anel cheio o registro é descartado e contado, nunca espera.
+public class AnelAuditoria {
+
+    private final Registro[] registros;
+    private final int mascara;
+    private final AtomicLong proxima = new AtomicLong();
+    private final LongAdder descartados = new LongAdder();
+
+    // Escrita só pelo consumidor; os produtores leem para saber se há espaço.
+    private volatile long consumida;
+
+    public AnelAuditoria(int capacidade) {
+        if (capacidade <= 0 || Integer.bitCount(capacidade) != 1) {
+            throw new IllegalArgumentException("capacidade do anel deve ser potência de 2");
+        }
+        registros = new Registro[capacidade];
+        for (int i = 0; i < capacidade; i++) {
+            registros[i] = new Registro();
+        }
+        mascara = capacidade - 1;
+    }
+
+    public boolean publicar(AcaoAuditoria acao, UUID id, int status, long duracaoNanos, String cliente) {
+        long sequencia;
+        do {
+            sequencia = proxima.get();
+            if (sequencia - consumida >= registros.length) {
+                descartados.increment();
+                return false;
+            }
+        } while (!proxima.compareAndSet(sequencia, sequencia + 1));
+
+        var registro = registros[(int) (sequencia & mascara)];
+        registro.instante = System.currentTimeMillis();
+        registro.acao = acao;
+        registro.idMaisSignificativo = id == null ? 0 : id.getMostSignificantBits();
+        registro.idMenosSignificativo = id == null ? 0 : id.getLeastSignificantBits();
+        registro.temId = id != null;
+        registro.status = status;
+        registro.duracaoNanos = duracaoNanos;
+        registro.cliente = cliente;
+        // Escrita volátil por último: o consumidor que enxerga a sequência enxerga os campos acima.
+        registro.publicado = sequencia;
+        return true;
+    }
+
+    // Só a thread consumidora chama. Para no primeiro registro reservado e ainda não publicado, preservando a ordem.
+    public int consumir(int limite, Consumer<Registro> destino) {
+        var sequencia = consumida;
+        var lidos = 0;
+        while (lidos < limite) {
+            var registro = registros[(int) (sequencia & mascara)];
+            if (registro.publicado != sequencia) {
+                break;
+            }
+            destino.accept(registro);
+            registro.cliente = null;
+            sequencia++;
+            lidos++;
+        }
+        if (lidos > 0) {
+            consumida = sequencia;
+        }
+        return lidos;
+    }
+
+    public long descartados() {
+        return descartados.sum();
+    }
+
+    public int capacidade() {
+        return registros.length;
+    }
+
+    public static final class Registro {
+
+        private volatile long publicado = -1;
+
+        private long instante;
+        private AcaoAuditoria acao;
+        private boolean temId;
+        private long idMaisSignificativo;
+        private long idMenosSignificativo;
+        private int status;
+        private long duracaoNanos;
+        private String cliente;
+
+        private Registro() {
+        }
+
+        public long instante() {
+            return instante;
+        }
+
+        public AcaoAuditoria acao() {
+            return acao;
+        }
+
+        public UUID id() {
+            return temId ? new UUID(idMaisSignificativo, idMenosSignificativo) : null;
+        }
+
+        public int status() {
+            return status;
+        }
+
+        public long duracaoNanos() {
+            return duracaoNanos;
+        }
+
+        public String cliente() {
+            return cliente;
+        }
+    }
+}
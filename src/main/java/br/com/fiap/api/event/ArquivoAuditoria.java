@@ -0,0 +1,89 @@
+package br.com.fiap.api.event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+// Arquivos NDJSON rotativos: um novo a cada inicialização ou ao atingir o tamanho máximo; os mais antigos são apagados.
+public class ArquivoAuditoria implements Closeable {
+
+    static final String PREFIXO = "auditoria-";
+    static final String EXTENSAO = ".ndjson";
+
+    private final Path diretorio;
+    private final long tamanhoMaximo;
+    private final int arquivosRetidos;
+
+    private FileChannel canal;
+    private long tamanho;
+    private long ultimoNome;
+
+    public ArquivoAuditoria(Path diretorio, long tamanhoMaximo, int arquivosRetidos) throws IOException {
+        this.diretorio = diretorio;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.arquivosRetidos = Math.max(1, arquivosRetidos);
+        Files.createDirectories(diretorio);
+        rolar();
+    }
+
+    // Se a última rolagem falhou não há arquivo aberto: a próxima escrita tenta abrir outro.
+    public void escrever(ByteBuffer lote) throws IOException {
+        if (canal == null || (tamanho > 0 && tamanho + lote.remaining() > tamanhoMaximo)) {
+            rolar();
+        }
+        while (lote.hasRemaining()) {
+            tamanho += canal.write(lote);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (canal != null) {
+            var aberto = canal;
+            canal = null;
+            try (aberto) {
+                aberto.force(false);
+            }
+        }
+    }
+
+    private void rolar() throws IOException {
+        close();
+        // Nome pelo instante de criação, sempre crescente para que a ordem lexicográfica seja a cronológica.
+        var nome = Math.max(System.currentTimeMillis(), ultimoNome + 1);
+        ultimoNome = nome;
+        canal = FileChannel.open(diretorio.resolve(PREFIXO + nome + EXTENSAO),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        tamanho = 0;
+        expurgar();
+    }
+
+    private void expurgar() throws IOException {
+        var arquivos = new ArrayList<Path>();
+        try (var listagem = Files.list(diretorio)) {
+            listagem.filter(ArquivoAuditoria::ehArquivo).forEach(arquivos::add);
+        }
+        arquivos.sort(Comparator.comparingLong(ArquivoAuditoria::instante));
+        for (int i = 0; i < arquivos.size() - arquivosRetidos; i++) {
+            Files.deleteIfExists(arquivos.get(i));
+        }
+    }
+
+    static boolean ehArquivo(Path arquivo) {
+        var nome = arquivo.getFileName().toString();
+        return nome.length() > PREFIXO.length() + EXTENSAO.length()
+                && nome.startsWith(PREFIXO) && nome.endsWith(EXTENSAO)
+                && nome.substring(PREFIXO.length(), nome.length() - EXTENSAO.length()).chars().allMatch(Character::isDigit);
+    }
+
+    private static long instante(Path arquivo) {
+        var nome = arquivo.getFileName().toString();
+        return Long.parseLong(nome.substring(PREFIXO.length(), nome.length() - EXTENSAO.length()));
+    }
+}
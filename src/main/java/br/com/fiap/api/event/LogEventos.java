@@ -0,0 +1,192 @@
+package br.com.fiap.api.event;
+
+import br.com.fiap.api.exception.OffsetExpiradoException;
+import br.com.fiap.api.exception.OffsetInvalidoException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+
+// Log append-only em segmentos mapeados em memória. Offsets são sequenciais e o nome de cada arquivo é o seu primeiro offset.
+public class LogEventos implements Closeable {
+
+    private final Path diretorio;
+    private final int tamanhoSegmento;
+    private final Duration idadeSegmento;
+    private final long retencaoBytes;
+    private final Duration retencaoIdade;
+
+    private final TreeMap<Long, SegmentoLog> segmentos = new TreeMap<>();
+    // Fora da retenção mas ainda no disco: excluídos numa execução seguinte, quando nenhum trecho os referencia.
+    private final List<SegmentoLog> aposentados = new ArrayList<>();
+    private SegmentoLog ativo;
+    private long criacaoAtivo;
+
+    public LogEventos(Path diretorio, int tamanhoSegmento, Duration idadeSegmento,
+                      long retencaoBytes, Duration retencaoIdade) {
+        this.diretorio = diretorio;
+        this.tamanhoSegmento = tamanhoSegmento;
+        this.idadeSegmento = idadeSegmento;
+        this.retencaoBytes = retencaoBytes;
+        this.retencaoIdade = retencaoIdade;
+        try {
+            Files.createDirectories(diretorio);
+            abrir();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void abrir() throws IOException {
+        var arquivos = new ArrayList<Path>();
+        try (var listagem = Files.list(diretorio)) {
+            listagem.filter(SegmentoLog::ehSegmento).forEach(arquivos::add);
+        }
+        arquivos.sort(Comparator.comparingLong(SegmentoLog::baseOffset));
+        for (int i = 0; i < arquivos.size() - 1; i++) {
+            var segmento = SegmentoLog.abrir(arquivos.get(i));
+            segmentos.put(segmento.baseOffset(), segmento);
+        }
+        ativo = arquivos.isEmpty()
+                ? SegmentoLog.criar(diretorio, 0, tamanhoSegmento)
+                : SegmentoLog.recuperar(arquivos.get(arquivos.size() - 1), tamanhoSegmento);
+        criacaoAtivo = System.currentTimeMillis();
+        segmentos.put(ativo.baseOffset(), ativo);
+    }
+
+    // O gerador recebe o offset atribuído para que o registro possa carregá-lo; deve terminar em '\n'.
+    public synchronized long anexar(LongFunction<byte[]> gerador) {
+        try {
+            if (ativo.quantidade() > 0 && System.currentTimeMillis() - criacaoAtivo >= idadeSegmento.toMillis()) {
+                rolar();
+            }
+            var offset = ativo.proximoOffset();
+            var registro = gerador.apply(offset);
+            if (registro.length > tamanhoSegmento) {
+                throw new IllegalArgumentException("registro de " + registro.length + " bytes excede o segmento");
+            }
+            if (!ativo.cabe(registro.length)) {
+                rolar();
+            }
+            return ativo.anexar(registro);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void rolar() throws IOException {
+        ativo.fechar();
+        ativo = SegmentoLog.criar(diretorio, ativo.proximoOffset(), tamanhoSegmento);
+        criacaoAtivo = System.currentTimeMillis();
+        segmentos.put(ativo.baseOffset(), ativo);
+    }
+
+    public synchronized void sincronizar() {
+        ativo.sincronizar();
+    }
+
+    public synchronized Trecho ler(long offset, int limite) {
+        var primeiro = segmentos.firstKey();
+        var proximo = ativo.proximoOffset();
+        if (offset < primeiro) {
+            throw new OffsetExpiradoException("offset " + offset + " já foi removido pela retenção; o mais antigo é " + primeiro);
+        }
+        if (offset > proximo) {
+            throw new OffsetInvalidoException("offset " + offset + " ainda não existe; o próximo é " + proximo);
+        }
+        var segmento = segmentos.floorEntry(offset).getValue();
+        var fim = Math.min(offset + Math.max(limite, 1), segmento.proximoOffset());
+        var inicio = segmento.posicao(offset);
+        segmento.adquirir();
+        var liberado = new AtomicBoolean();
+        return new Trecho(segmento.arquivo(), inicio, segmento.posicao(fim) - inicio, offset, fim, () -> {
+            if (liberado.compareAndSet(false, true)) {
+                liberar(segmento);
+            }
+        });
+    }
+
+    private synchronized void liberar(SegmentoLog segmento) {
+        segmento.liberar();
+    }
+
+    public synchronized long primeiroOffset() {
+        return segmentos.firstKey();
+    }
+
+    public synchronized long proximoOffset() {
+        return ativo.proximoOffset();
+    }
+
+    // Tira de leitura segmentos fechados, do mais antigo para o mais novo, enquanto excederem o tamanho ou a idade de
+    // retenção. A exclusão fica para a execução seguinte: o sendfile do Tomcat abre o arquivo só depois que o
+    // controller devolve o trecho, e até lá o segmento precisa continuar no disco.
+    public synchronized int aplicarRetencao() {
+        excluirAposentados(false);
+        var total = segmentos.values().stream().mapToLong(SegmentoLog::tamanho).sum();
+        var limiteIdade = System.currentTimeMillis() - retencaoIdade.toMillis();
+        var removidos = 0;
+        try {
+            while (segmentos.size() > 1) {
+                var maisAntigo = segmentos.firstEntry().getValue();
+                if (total <= retencaoBytes && maisAntigo.ultimaEscrita() >= limiteIdade) {
+                    break;
+                }
+                maisAntigo.fechar();
+                segmentos.pollFirstEntry();
+                aposentados.add(maisAntigo);
+                total -= maisAntigo.tamanho();
+                removidos++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return removidos;
+    }
+
+    // Uma exclusão recusada (no Windows, arquivo ainda aberto por um leitor) é tentada de novo na próxima execução.
+    private void excluirAposentados(boolean todos) {
+        for (var iterador = aposentados.iterator(); iterador.hasNext(); ) {
+            var segmento = iterador.next();
+            if (segmento.emLeitura() && !todos) {
+                continue;
+            }
+            try {
+                segmento.excluir();
+                iterador.remove();
+            } catch (IOException e) {
+                // Fica para a próxima execução.
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        excluirAposentados(true);
+        ativo.fechar();
+    }
+
+    // Enquanto não for fechado, o trecho impede que a retenção exclua o arquivo do segmento.
+    public record Trecho(Path arquivo, long posicao, long tamanho, long offset, long proximoOffset,
+                         Runnable liberacao) implements AutoCloseable {
+
+        public Trecho(Path arquivo, long posicao, long tamanho, long offset, long proximoOffset) {
+            this(arquivo, posicao, tamanho, offset, proximoOffset, () -> {
+            });
+        }
+
+        @Override
+        public void close() {
+            liberacao.run();
+        }
+    }
+}
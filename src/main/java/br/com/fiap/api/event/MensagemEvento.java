@@ -0,0 +1,22 @@
+package br.com.fiap.api.event;
+
+import br.com.fiap.api.model.Mensagem;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class MensagemEvento {
+
+    private final TipoEventoMensagem tipo;
+    private final UUID id;
+    private final Mensagem mensagem;
+
+    public static MensagemEvento of(TipoEventoMensagem tipo, Mensagem mensagem) {
+        return new MensagemEvento(tipo, mensagem.getId(), mensagem);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.fiap.api.event;
+
+import br.com.fiap.api.json.MensagemJson;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Uma linha do log de eventos (NDJSON); "id" é o id do outbox e permite descartar reentregas.
+public record RegistroEvento(
+        long offset,
+        long id,
+        TipoEventoMensagem tipo,
+        UUID mensagemId,
+        @JsonFormat(pattern = MensagemJson.PADRAO_DATA) LocalDateTime dataEvento,
+        @JsonRawValue String mensagem) {
+}
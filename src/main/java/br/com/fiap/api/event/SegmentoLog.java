@@ -0,0 +1,205 @@
+package br.com.fiap.api.event;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Arquivo de registros separados por '\n', criado já com a capacidade inteira: o final zerado marca o fim e o
+// arquivo nunca é truncado, o que o Windows recusaria enquanto o mapeamento existe.
+final class SegmentoLog {
+
+    static final String EXTENSAO = ".log";
+
+    private static final MethodHandle LIBERAR_MAPEAMENTO = liberadorMapeamento();
+
+    private final long baseOffset;
+    private final Path arquivo;
+
+    private FileChannel canal;
+    private MappedByteBuffer buffer;
+    private int[] posicoes = new int[1024];
+    private int quantidade;
+    private int tamanho;
+    private long ultimaEscrita;
+    private int leitores;
+
+    private SegmentoLog(long baseOffset, Path arquivo, long ultimaEscrita) {
+        this.baseOffset = baseOffset;
+        this.arquivo = arquivo;
+        this.ultimaEscrita = ultimaEscrita;
+    }
+
+    static SegmentoLog criar(Path diretorio, long baseOffset, int capacidade) throws IOException {
+        var segmento = new SegmentoLog(baseOffset, diretorio.resolve(nomeArquivo(baseOffset)), System.currentTimeMillis());
+        segmento.mapear(capacidade);
+        return segmento;
+    }
+
+    static SegmentoLog abrir(Path arquivo) throws IOException {
+        var segmento = new SegmentoLog(baseOffset(arquivo), arquivo, Files.getLastModifiedTime(arquivo).toMillis());
+        // Leitura sem mapeamento: um segmento fechado não deixa mapeamento vivo que impeça a exclusão.
+        segmento.indexar(ByteBuffer.wrap(Files.readAllBytes(arquivo)));
+        return segmento;
+    }
+
+    // Reabre o último segmento para escrita; um registro incompleto (queda no meio da escrita) é descartado.
+    static SegmentoLog recuperar(Path arquivo, int capacidade) throws IOException {
+        var segmento = new SegmentoLog(baseOffset(arquivo), arquivo, System.currentTimeMillis());
+        segmento.mapear(Math.max(capacidade, Math.toIntExact(Files.size(arquivo))));
+        segmento.indexar(segmento.buffer);
+        for (int i = segmento.tamanho; i < segmento.buffer.capacity() && segmento.buffer.get(i) != 0; i++) {
+            segmento.buffer.put(i, (byte) 0);
+        }
+        return segmento;
+    }
+
+    static boolean ehSegmento(Path arquivo) {
+        return arquivo.getFileName().toString().endsWith(EXTENSAO);
+    }
+
+    static long baseOffset(Path arquivo) {
+        var nome = arquivo.getFileName().toString();
+        return Long.parseLong(nome.substring(0, nome.length() - EXTENSAO.length()));
+    }
+
+    private static String nomeArquivo(long baseOffset) {
+        return String.format("%020d%s", baseOffset, EXTENSAO);
+    }
+
+    private void mapear(int capacidade) throws IOException {
+        canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, capacidade);
+    }
+
+    private void indexar(ByteBuffer conteudo) {
+        var inicio = 0;
+        for (int i = 0; i < conteudo.limit(); i++) {
+            var valor = conteudo.get(i);
+            if (valor == 0) {
+                break;
+            }
+            if (valor == '\n') {
+                adicionarPosicao(inicio);
+                inicio = i + 1;
+            }
+        }
+        tamanho = inicio;
+    }
+
+    boolean cabe(int bytes) {
+        return buffer != null && tamanho + bytes <= buffer.capacity();
+    }
+
+    long anexar(byte[] registro) {
+        buffer.put(tamanho, registro);
+        adicionarPosicao(tamanho);
+        tamanho += registro.length;
+        ultimaEscrita = System.currentTimeMillis();
+        return baseOffset + quantidade - 1;
+    }
+
+    private void adicionarPosicao(int posicao) {
+        if (quantidade == posicoes.length) {
+            posicoes = Arrays.copyOf(posicoes, quantidade * 2);
+        }
+        posicoes[quantidade++] = posicao;
+    }
+
+    int posicao(long offset) {
+        var indice = Math.toIntExact(offset - baseOffset);
+        return indice == quantidade ? tamanho : posicoes[indice];
+    }
+
+    void sincronizar() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    // Desfaz o mapeamento na hora, em vez de esperar o GC, para que o arquivo possa ser excluído depois.
+    void fechar() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        buffer.force();
+        var mapeamento = buffer;
+        buffer = null;
+        liberarMapeamento(mapeamento);
+        canal.close();
+        canal = null;
+    }
+
+    void excluir() throws IOException {
+        fechar();
+        Files.deleteIfExists(arquivo);
+    }
+
+    void adquirir() {
+        leitores++;
+    }
+
+    void liberar() {
+        leitores--;
+    }
+
+    boolean emLeitura() {
+        return leitores > 0;
+    }
+
+    private static void liberarMapeamento(MappedByteBuffer mapeamento) {
+        if (LIBERAR_MAPEAMENTO == null) {
+            return;
+        }
+        try {
+            LIBERAR_MAPEAMENTO.invokeExact((ByteBuffer) mapeamento);
+        } catch (Throwable e) {
+            // Sem liberação explícita o mapeamento some no próximo GC.
+        }
+    }
+
+    // Unsafe.invokeCleaner (jdk.unsupported) é a única forma de desfazer um mapeamento sem esperar o GC.
+    private static MethodHandle liberadorMapeamento() {
+        try {
+            var classe = Class.forName("sun.misc.Unsafe");
+            var campo = classe.getDeclaredField("theUnsafe");
+            campo.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(classe, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(campo.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long proximoOffset() {
+        return baseOffset + quantidade;
+    }
+
+    Path arquivo() {
+        return arquivo;
+    }
+
+    int quantidade() {
+        return quantidade;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    long ultimaEscrita() {
+        return ultimaEscrita;
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.fiap.api.event;
+
+public enum TipoEventoMensagem {
+    REGISTRADA,
+    ALTERADA,
+    CURTIDA,
+    REMOVIDA
+}
@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class CampoInvalidoException extends RuntimeException {
+    public CampoInvalidoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class ExpurgoEmExecucaoException extends RuntimeException {
+    public ExpurgoEmExecucaoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.fiap.api.exception;
+
+public class IdInvalidoException extends RuntimeException {
+
+    private static final IdInvalidoException ID_INVALIDO = new IdInvalidoException("ID inválido");
+
+    public IdInvalidoException(String mensagem) {
+        super(mensagem, null, false, false);
+    }
+
+    public static IdInvalidoException idInvalido() {
+        return ID_INVALIDO;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class IdempotenciaConflitoException extends RuntimeException {
+    public IdempotenciaConflitoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class IdempotenciaEmAndamentoException extends RuntimeException {
+    public IdempotenciaEmAndamentoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -1,7 +1,16 @@
 package br.com.fiap.api.exception;
 
 public class MensagemNotFoundException extends RuntimeException {
+
+    private static final MensagemNotFoundException NAO_ENCONTRADA =
+            new MensagemNotFoundException("Mensagem não encontrada");
+
+    // Sem stack trace: buscas por IDs inexistentes são frequentes e o rastro não tem valor diagnóstico.
     public MensagemNotFoundException(String mensagem) {
-        super(mensagem);
+        super(mensagem, null, false, false);
+    }
+
+    public static MensagemNotFoundException naoEncontrada() {
+        return NAO_ENCONTRADA;
     }
 }
@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class OffsetExpiradoException extends RuntimeException {
+    public OffsetExpiradoException(String mensagem) {
+        super(mensagem);
+    }
+}
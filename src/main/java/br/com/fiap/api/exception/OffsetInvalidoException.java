@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class OffsetInvalidoException extends RuntimeException {
+    public OffsetInvalidoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class OutboxDesabilitadoException extends RuntimeException {
+    public OutboxDesabilitadoException(String mensagem) {
+        super(mensagem);
+    }
+}
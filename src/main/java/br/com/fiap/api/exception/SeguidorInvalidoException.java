@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class SeguidorInvalidoException extends RuntimeException {
+    public SeguidorInvalidoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.fiap.api.exception;
+
+public class TokenExpiradoException extends RuntimeException {
+    public TokenExpiradoException(String mensagem) {
+        super(mensagem);
+    }
+}
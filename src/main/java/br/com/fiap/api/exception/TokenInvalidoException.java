@@ -0,0 +1,19 @@
+package br.com.fiap.api.exception;
+
+public class TokenInvalidoException extends RuntimeException {
+
+    private static final TokenInvalidoException TOKEN_INVALIDO = new TokenInvalidoException("token de sincronização inválido");
+    private static final TokenInvalidoException CURSOR_INVALIDO = new TokenInvalidoException("cursor inválido");
+
+    public TokenInvalidoException(String mensagem) {
+        super(mensagem, null, false, false);
+    }
+
+    public static TokenInvalidoException tokenInvalido() {
+        return TOKEN_INVALIDO;
+    }
+
+    public static TokenInvalidoException cursorInvalido() {
+        return CURSOR_INVALIDO;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.fiap.api.exception;
+
+public class UsuarioNotFoundException extends RuntimeException {
+
+    private static final UsuarioNotFoundException NAO_ENCONTRADO =
+            new UsuarioNotFoundException("Usuário não encontrado");
+
+    public UsuarioNotFoundException(String mensagem) {
+        super(mensagem, null, false, false);
+    }
+
+    public static UsuarioNotFoundException naoEncontrado() {
+        return NAO_ENCONTRADO;
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.fiap.api.json;
+
+import br.com.fiap.api.model.Mensagem;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+public class MensagemDeserializer extends StdDeserializer<Mensagem> {
+
+    public MensagemDeserializer() {
+        super(Mensagem.class);
+    }
+
+    @Override
+    public Mensagem deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        var token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Mensagem) ctxt.handleUnexpectedToken(Mensagem.class, p);
+        }
+
+        var mensagem = new Mensagem();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            var campo = p.currentName();
+            p.nextToken();
+            switch (campo) {
+                case "id" -> mensagem.setId(MensagemJson.lerUuid(p, ctxt));
+                case "usuario" -> mensagem.setUsuario(MensagemJson.lerTexto(p, ctxt));
+                case "conteudo" -> mensagem.setConteudo(MensagemJson.lerTexto(p, ctxt));
+                case "dataCriacao" -> mensagem.setDataCriacao(MensagemJson.lerData(p, ctxt));
+                case "gostei" -> mensagem.setGostei(MensagemJson.lerInteiro(p, ctxt));
+                case "respostaDe" -> mensagem.setRespostaDe(MensagemJson.lerUuid(p, ctxt));
+                default -> handleUnknownProperty(p, ctxt, mensagem, campo);
+            }
+        }
+        return mensagem;
+    }
+}
@@ -0,0 +1,252 @@
+package br.com.fiap.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+public final class MensagemJson {
+
+    public static final String PADRAO_DATA = "yyyy-MM-dd HH:mm:ss.SSSSS";
+    public static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern(PADRAO_DATA);
+
+    static final SerializedString ID = new SerializedString("id");
+    static final SerializedString USUARIO = new SerializedString("usuario");
+    static final SerializedString CONTEUDO = new SerializedString("conteudo");
+    static final SerializedString DATA_CRIACAO = new SerializedString("dataCriacao");
+    static final SerializedString GOSTEI = new SerializedString("gostei");
+    static final SerializedString RESPOSTA_DE = new SerializedString("respostaDe");
+    static final SerializedString RESPOSTAS = new SerializedString("respostas");
+
+    private static final int TAMANHO_UUID = 36;
+    private static final int TAMANHO_DATA = 25;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // Buffer reaproveitado por thread: evita criar Strings intermediárias para UUID e data.
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[TAMANHO_UUID]);
+
+    private MensagemJson() {
+    }
+
+    public static void escreverUuid(JsonGenerator gen, UUID uuid) throws IOException {
+        if (uuid == null) {
+            gen.writeNull();
+            return;
+        }
+        var buffer = BUFFER.get();
+        var msb = uuid.getMostSignificantBits();
+        var lsb = uuid.getLeastSignificantBits();
+        hex(msb >>> 32, buffer, 0, 8);
+        buffer[8] = '-';
+        hex(msb >>> 16, buffer, 9, 4);
+        buffer[13] = '-';
+        hex(msb, buffer, 14, 4);
+        buffer[18] = '-';
+        hex(lsb >>> 48, buffer, 19, 4);
+        buffer[23] = '-';
+        hex(lsb, buffer, 24, 12);
+        gen.writeString(buffer, 0, TAMANHO_UUID);
+    }
+
+    public static void escreverData(JsonGenerator gen, LocalDateTime data) throws IOException {
+        if (data == null) {
+            gen.writeNull();
+            return;
+        }
+        var ano = data.getYear();
+        if (ano < 1 || ano > 9999) {
+            gen.writeString(FORMATO_DATA.format(data));
+            return;
+        }
+        var buffer = BUFFER.get();
+        digitos(ano, buffer, 0, 4);
+        buffer[4] = '-';
+        digitos(data.getMonthValue(), buffer, 5, 2);
+        buffer[7] = '-';
+        digitos(data.getDayOfMonth(), buffer, 8, 2);
+        buffer[10] = ' ';
+        digitos(data.getHour(), buffer, 11, 2);
+        buffer[13] = ':';
+        digitos(data.getMinute(), buffer, 14, 2);
+        buffer[16] = ':';
+        digitos(data.getSecond(), buffer, 17, 2);
+        buffer[19] = '.';
+        digitos(data.getNano() / 10_000, buffer, 20, 5);
+        gen.writeString(buffer, 0, TAMANHO_DATA);
+    }
+
+    public static UUID lerUuid(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            return (UUID) ctxt.handleUnexpectedToken(UUID.class, p);
+        }
+        var texto = p.getTextCharacters();
+        var inicio = p.getTextOffset();
+        if (p.getTextLength() == TAMANHO_UUID && formatoUuidValido(texto, inicio)) {
+            var msb = (lerHex(texto, inicio, 8) << 32)
+                    | (lerHex(texto, inicio + 9, 4) << 16)
+                    | lerHex(texto, inicio + 14, 4);
+            var lsb = (lerHex(texto, inicio + 19, 4) << 48)
+                    | lerHex(texto, inicio + 24, 12);
+            return new UUID(msb, lsb);
+        }
+        return (UUID) ctxt.handleWeirdStringValue(UUID.class, p.getText(), "UUID inválido");
+    }
+
+    // Converte sem lançar exceção: IDs malformados são comuns e UUID.fromString é caro no caminho de erro.
+    public static UUID converterUuid(String texto) {
+        if (texto == null || texto.length() != TAMANHO_UUID) {
+            return null;
+        }
+        var caracteres = texto.toCharArray();
+        if (!formatoUuidValido(caracteres, 0)) {
+            return null;
+        }
+        var msb = (lerHex(caracteres, 0, 8) << 32)
+                | (lerHex(caracteres, 9, 4) << 16)
+                | lerHex(caracteres, 14, 4);
+        var lsb = (lerHex(caracteres, 19, 4) << 48)
+                | lerHex(caracteres, 24, 12);
+        return new UUID(msb, lsb);
+    }
+
+    // Aceita escalares, como o StringDeserializer padrão; objetos e arrays são rejeitados em vez de lidos pela metade.
+    public static String lerTexto(JsonParser p, DeserializationContext ctxt) throws IOException {
+        var token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != null && token.isScalarValue()) {
+            return p.getText();
+        }
+        return (String) ctxt.handleUnexpectedToken(String.class, p);
+    }
+
+    public static int lerInteiro(JsonParser p, DeserializationContext ctxt) throws IOException {
+        var token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            var valor = p.getText().trim();
+            try {
+                return Integer.parseInt(valor);
+            } catch (NumberFormatException e) {
+                return (Integer) ctxt.handleWeirdStringValue(Integer.TYPE, valor, "número inteiro inválido");
+            }
+        }
+        return (Integer) ctxt.handleUnexpectedToken(Integer.TYPE, p);
+    }
+
+    public static LocalDateTime lerData(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            return (LocalDateTime) ctxt.handleUnexpectedToken(LocalDateTime.class, p);
+        }
+        var tamanho = p.getTextLength();
+        if (tamanho == 0) {
+            return null;
+        }
+        var texto = p.getTextCharacters();
+        var inicio = p.getTextOffset();
+        if (tamanho == TAMANHO_DATA && formatoDataValido(texto, inicio)) {
+            try {
+                return LocalDateTime.of(
+                        lerDecimal(texto, inicio, 4),
+                        lerDecimal(texto, inicio + 5, 2),
+                        lerDecimal(texto, inicio + 8, 2),
+                        lerDecimal(texto, inicio + 11, 2),
+                        lerDecimal(texto, inicio + 14, 2),
+                        lerDecimal(texto, inicio + 17, 2),
+                        lerDecimal(texto, inicio + 20, 5) * 10_000);
+            } catch (DateTimeException e) {
+                return (LocalDateTime) ctxt.handleWeirdStringValue(LocalDateTime.class, p.getText(), e.getMessage());
+            }
+        }
+        var valor = p.getText().trim();
+        try {
+            return LocalDateTime.parse(valor, FORMATO_DATA);
+        } catch (DateTimeParseException e) {
+            return (LocalDateTime) ctxt.handleWeirdStringValue(LocalDateTime.class, valor, e.getMessage());
+        }
+    }
+
+    private static void hex(long valor, char[] buffer, int offset, int quantidade) {
+        for (int i = offset + quantidade - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (valor & 0xF)];
+            valor >>>= 4;
+        }
+    }
+
+    private static void digitos(int valor, char[] buffer, int offset, int quantidade) {
+        for (int i = offset + quantidade - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+    }
+
+    private static long lerHex(char[] texto, int offset, int quantidade) {
+        long valor = 0;
+        for (int i = offset; i < offset + quantidade; i++) {
+            valor = (valor << 4) | Character.digit(texto[i], 16);
+        }
+        return valor;
+    }
+
+    private static boolean formatoUuidValido(char[] texto, int inicio) {
+        for (int posicao = 0; posicao < TAMANHO_UUID; posicao++) {
+            var c = texto[inicio + posicao];
+            if (posicao == 8 || posicao == 13 || posicao == 18 || posicao == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int lerDecimal(char[] texto, int offset, int quantidade) {
+        int valor = 0;
+        for (int i = offset; i < offset + quantidade; i++) {
+            valor = valor * 10 + (texto[i] - '0');
+        }
+        return valor;
+    }
+
+    private static boolean formatoDataValido(char[] texto, int inicio) {
+        for (int posicao = 0; posicao < TAMANHO_DATA; posicao++) {
+            var c = texto[inicio + posicao];
+            var esperado = switch (posicao) {
+                case 4, 7 -> '-';
+                case 10 -> ' ';
+                case 13, 16 -> ':';
+                case 19 -> '.';
+                default -> '0';
+            };
+            if (esperado == '0' ? (c < '0' || c > '9') : c != esperado) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
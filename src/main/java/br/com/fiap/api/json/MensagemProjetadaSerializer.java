@@ -0,0 +1,46 @@
+package br.com.fiap.api.json;
+
+import br.com.fiap.api.model.MensagemProjetada;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class MensagemProjetadaSerializer extends StdSerializer<MensagemProjetada> {
+
+    public MensagemProjetadaSerializer() {
+        super(MensagemProjetada.class);
+    }
+
+    @Override
+    public void serialize(MensagemProjetada projetada, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        var mensagem = projetada.getMensagem();
+        gen.writeStartObject(projetada);
+        for (var campo : projetada.getCampos()) {
+            switch (campo) {
+                case ID -> {
+                    gen.writeFieldName(MensagemJson.ID);
+                    MensagemJson.escreverUuid(gen, mensagem.getId());
+                }
+                case USUARIO -> {
+                    gen.writeFieldName(MensagemJson.USUARIO);
+                    gen.writeString(mensagem.getUsuario());
+                }
+                case CONTEUDO -> {
+                    gen.writeFieldName(MensagemJson.CONTEUDO);
+                    gen.writeString(mensagem.getConteudo());
+                }
+                case DATA_CRIACAO -> {
+                    gen.writeFieldName(MensagemJson.DATA_CRIACAO);
+                    MensagemJson.escreverData(gen, mensagem.getDataCriacao());
+                }
+                case GOSTEI -> {
+                    gen.writeFieldName(MensagemJson.GOSTEI);
+                    gen.writeNumber(mensagem.getGostei());
+                }
+            }
+        }
+        gen.writeEndObject();
+    }
+}
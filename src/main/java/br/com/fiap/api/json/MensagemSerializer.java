@@ -0,0 +1,40 @@
+package br.com.fiap.api.json;
+
+import br.com.fiap.api.model.Mensagem;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class MensagemSerializer extends StdSerializer<Mensagem> {
+
+    public MensagemSerializer() {
+        super(Mensagem.class);
+    }
+
+    @Override
+    public void serialize(Mensagem mensagem, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(mensagem);
+        gen.writeFieldName(MensagemJson.ID);
+        MensagemJson.escreverUuid(gen, mensagem.getId());
+        gen.writeFieldName(MensagemJson.USUARIO);
+        gen.writeString(mensagem.getUsuario());
+        gen.writeFieldName(MensagemJson.CONTEUDO);
+        gen.writeString(mensagem.getConteudo());
+        gen.writeFieldName(MensagemJson.DATA_CRIACAO);
+        MensagemJson.escreverData(gen, mensagem.getDataCriacao());
+        gen.writeFieldName(MensagemJson.GOSTEI);
+        gen.writeNumber(mensagem.getGostei());
+        // Campos de conversa só aparecem quando há conversa: mensagens avulsas mantêm o formato anterior.
+        if (mensagem.getRespostaDe() != null) {
+            gen.writeFieldName(MensagemJson.RESPOSTA_DE);
+            MensagemJson.escreverUuid(gen, mensagem.getRespostaDe());
+        }
+        if (mensagem.getRespostas() > 0) {
+            gen.writeFieldName(MensagemJson.RESPOSTAS);
+            gen.writeNumber(mensagem.getRespostas());
+        }
+        gen.writeEndObject();
+    }
+}
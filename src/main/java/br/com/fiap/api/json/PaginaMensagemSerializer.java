@@ -0,0 +1,50 @@
+package br.com.fiap.api.json;
+
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.PaginaMensagem;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class PaginaMensagemSerializer extends StdSerializer<PaginaMensagem> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL = new SerializedString("total");
+    private static final SerializedString HAS_NEXT = new SerializedString("hasNext");
+
+    private final MensagemSerializer mensagemSerializer = new MensagemSerializer();
+
+    public PaginaMensagemSerializer() {
+        super(PaginaMensagem.class);
+    }
+
+    @Override
+    public void serialize(PaginaMensagem pagina, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(pagina);
+        gen.writeFieldName(CONTENT);
+        var content = pagina.getContent();
+        gen.writeStartArray(content, content.size());
+        for (var item : content) {
+            if (item instanceof Mensagem mensagem) {
+                mensagemSerializer.serialize(mensagem, gen, provider);
+            } else {
+                provider.defaultSerializeValue(item, gen);
+            }
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(PAGE);
+        gen.writeNumber(pagina.getPage());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(pagina.getSize());
+        gen.writeFieldName(TOTAL);
+        gen.writeNumber(pagina.getTotal());
+        gen.writeFieldName(HAS_NEXT);
+        gen.writeBoolean(pagina.isHasNext());
+        gen.writeEndObject();
+    }
+}
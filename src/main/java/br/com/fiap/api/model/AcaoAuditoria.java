@@ -0,0 +1,8 @@
+package br.com.fiap.api.model;
+
+public enum AcaoAuditoria {
+    REGISTRAR,
+    ALTERAR,
+    CURTIR,
+    REMOVER
+}
@@ -0,0 +1,17 @@
+package br.com.fiap.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class AlteracoesMensagens {
+
+    private final List<Mensagem> alteradas;
+    private final List<UUID> removidas;
+    private final String token;
+    private final boolean temMais;
+}
@@ -0,0 +1,41 @@
+package br.com.fiap.api.model;
+
+import br.com.fiap.api.exception.CampoInvalidoException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Getter
+@RequiredArgsConstructor
+public enum CampoMensagem {
+
+    ID("id"),
+    USUARIO("usuario"),
+    CONTEUDO("conteudo"),
+    DATA_CRIACAO("dataCriacao"),
+    GOSTEI("gostei");
+
+    private final String nome;
+
+    public static CampoMensagem porNome(String nome) {
+        for (var campo : values()) {
+            if (campo.nome.equals(nome)) {
+                return campo;
+            }
+        }
+        throw new CampoInvalidoException("campo inválido: " + nome);
+    }
+
+    public static Set<CampoMensagem> of(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new CampoInvalidoException("fields não pode estar vazio");
+        }
+        var campos = EnumSet.noneOf(CampoMensagem.class);
+        for (var nome : fields.split(",")) {
+            campos.add(porNome(nome.trim()));
+        }
+        return campos;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.fiap.api.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ChaveMensagem {
+
+    UUID getId();
+
+    LocalDateTime getDataCriacao();
+}
@@ -0,0 +1,90 @@
+package br.com.fiap.api.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Compacta conteúdos grandes com deflate. Valores compactados começam com um marcador de controle,
+// então linhas gravadas antes da compactação continuam sendo lidas como texto puro.
+@Converter
+public class ConteudoConverter implements AttributeConverter<String, String> {
+
+    static final int LIMIAR_COMPACTACAO = 1024;
+
+    private static final char MARCADOR = '\u0001';
+    private static final String PREFIXO_DEFLATE = MARCADOR + "D";
+    private static final String PREFIXO_TEXTO = MARCADOR + "T";
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[8192]);
+
+    @Override
+    public String convertToDatabaseColumn(String conteudo) {
+        if (conteudo == null || conteudo.isEmpty()) {
+            return conteudo;
+        }
+        if (conteudo.length() >= LIMIAR_COMPACTACAO) {
+            var compactado = PREFIXO_DEFLATE + Base64.getEncoder().encodeToString(compactar(conteudo));
+            if (compactado.length() < conteudo.length()) {
+                return compactado;
+            }
+        }
+        // Texto que por acaso começa com o marcador é escapado para não ser confundido com dado compactado.
+        return conteudo.charAt(0) == MARCADOR ? PREFIXO_TEXTO + conteudo : conteudo;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String valor) {
+        if (valor == null || valor.isEmpty() || valor.charAt(0) != MARCADOR) {
+            return valor;
+        }
+        if (valor.startsWith(PREFIXO_DEFLATE)) {
+            return descompactar(Base64.getDecoder().decode(valor.substring(PREFIXO_DEFLATE.length())));
+        }
+        if (valor.startsWith(PREFIXO_TEXTO)) {
+            return valor.substring(PREFIXO_TEXTO.length());
+        }
+        return valor;
+    }
+
+    private static byte[] compactar(String conteudo) {
+        var bytes = conteudo.getBytes(StandardCharsets.UTF_8);
+        var deflater = DEFLATER.get();
+        var buffer = BUFFER.get();
+        var saida = new ByteArrayOutputStream(bytes.length / 2);
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+        while (!deflater.finished()) {
+            saida.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return saida.toByteArray();
+    }
+
+    private static String descompactar(byte[] compactado) {
+        var inflater = INFLATER.get();
+        var buffer = BUFFER.get();
+        var saida = new ByteArrayOutputStream(compactado.length * 3);
+        inflater.reset();
+        inflater.setInput(compactado);
+        try {
+            while (!inflater.finished()) {
+                var quantidade = inflater.inflate(buffer);
+                if (quantidade == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("conteúdo compactado truncado");
+                }
+                saida.write(buffer, 0, quantidade);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("conteúdo compactado inválido", e);
+        }
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.fiap.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ConversaMensagem {
+
+    private final Mensagem mensagem;
+    private final List<NoConversa> respostas;
+    private final String cursor;
+    private final boolean temMais;
+    // Respostas aninhadas além do limite por página ficaram de fora; os contadores "respostas" indicam quantas.
+    private final boolean truncada;
+}
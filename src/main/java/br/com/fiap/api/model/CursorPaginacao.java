@@ -0,0 +1,23 @@
+package br.com.fiap.api.model;
+
+import br.com.fiap.api.exception.TokenInvalidoException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Posição (data, id) do último item entregue em uma listagem paginada; mesmo formato opaco do token de sincronização.
+public record CursorPaginacao(LocalDateTime data, UUID id) {
+
+    public String codificar() {
+        return new TokenSincronizacao(data, id).codificar();
+    }
+
+    public static CursorPaginacao decodificar(String cursor) {
+        try {
+            var posicao = TokenSincronizacao.decodificar(cursor);
+            return new CursorPaginacao(posicao.data(), posicao.id());
+        } catch (TokenInvalidoException e) {
+            throw TokenInvalidoException.cursorInvalido();
+        }
+    }
+}
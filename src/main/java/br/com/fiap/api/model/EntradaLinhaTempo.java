@@ -0,0 +1,47 @@
+package br.com.fiap.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Linha do tempo materializada: uma linha por seguidor e mensagem, gravada no fragmento do seguidor.
+@Entity
+@IdClass(EntradaLinhaTempo.Chave.class)
+@Table(name = "linha_tempo",
+        indexes = @Index(name = "idx_linha_tempo_usuario_data_criacao", columnList = "usuario, data_criacao, mensagem_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntradaLinhaTempo {
+
+    @Id
+    private String usuario;
+
+    @Id
+    private UUID mensagemId;
+
+    @Column(nullable = false)
+    private String autor;
+
+    @Column(nullable = false)
+    private LocalDateTime dataCriacao;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+
+        private String usuario;
+        private UUID mensagemId;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.fiap.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ErroResposta {
+
+    private String timestamp;
+
+    private int status;
+
+    private String error;
+
+    private String message;
+
+    private String path;
+}
@@ -0,0 +1,30 @@
+package br.com.fiap.api.model;
+
+import br.com.fiap.api.json.MensagemJson;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "estatistica_usuario")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticaUsuario {
+
+    @Id
+    private String usuario;
+
+    private long totalMensagens;
+
+    private long totalGostei;
+
+    @JsonFormat(pattern = MensagemJson.PADRAO_DATA)
+    private LocalDateTime ultimaPublicacao;
+}
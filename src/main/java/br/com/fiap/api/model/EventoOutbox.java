@@ -0,0 +1,45 @@
+package br.com.fiap.api.model;
+
+import br.com.fiap.api.event.TipoEventoMensagem;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "evento_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TipoEventoMensagem tipo;
+
+    @Column(nullable = false)
+    private UUID mensagemId;
+
+    @Column(nullable = false)
+    private LocalDateTime dataEvento;
+
+    // JSON da mensagem no momento do evento; o relay não precisa reler a tabela.
+    @Column(nullable = false, length = 2 * Mensagem.TAMANHO_MAXIMO_CONTEUDO)
+    private String payload;
+}
@@ -0,0 +1,26 @@
+package br.com.fiap.api.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Concessão do transmissor do outbox, gravada no fragmento 0: só a instância que a detém anexa ao seu log.
+@Entity
+@Table(name = "lideranca_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiderancaOutbox {
+
+    @Id
+    private String recurso;
+
+    private String instancia;
+
+    private LocalDateTime expiraEm;
+}
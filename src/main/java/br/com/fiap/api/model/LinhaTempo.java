@@ -0,0 +1,15 @@
+package br.com.fiap.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LinhaTempo {
+
+    private final List<Mensagem> mensagens;
+    private final String cursor;
+    private final boolean temMais;
+}
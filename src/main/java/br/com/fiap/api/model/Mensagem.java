@@ -1,26 +1,58 @@
 package br.com.fiap.api.model;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
+import br.com.fiap.api.json.MensagemDeserializer;
+import br.com.fiap.api.json.MensagemSerializer;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = {
+        @Index(name = "idx_mensagem_data_criacao", columnList = "data_criacao, id"),
+        @Index(name = "idx_mensagem_hash_conteudo", columnList = "hash_conteudo, data_criacao"),
+        @Index(name = "idx_mensagem_atualizado_em", columnList = "atualizado_em, id"),
+        @Index(name = "idx_mensagem_resposta_de", columnList = "resposta_de, data_criacao, id"),
+        @Index(name = "idx_mensagem_usuario_data_criacao", columnList = "usuario, data_criacao, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Mensagem {
+@JsonSerialize(using = MensagemSerializer.class)
+@JsonDeserialize(using = MensagemDeserializer.class)
+public class Mensagem implements Persistable<UUID> {
+
+    public static final int TAMANHO_MAXIMO_CONTEUDO = 1_000_000;
 
     @Id
     private UUID id;
@@ -29,20 +61,59 @@ public class Mensagem {
     @NotEmpty(message = "usuário não pode estar vazio")
     private String usuario;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = TAMANHO_MAXIMO_CONTEUDO)
+    @Convert(converter = ConteudoConverter.class)
     @NotEmpty(message = "conteúdo não pode estar vazio")
     private String conteudo;
 
     @CreationTimestamp
-    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSS")
     private LocalDateTime dataCriacao;
 
     @Builder.Default
     private int gostei = 0;
 
+    private UUID respostaDe;
+
+    // Respostas diretas, mantidas a cada resposta registrada ou removida (ConversaServiceImpl).
+    @Builder.Default
+    private int respostas = 0;
+
+    @JsonIgnore
+    private Long hashConteudo;
+
+    @JsonIgnore
+    private LocalDateTime atualizadoEm;
+
     @PrePersist
     public void prePersist() {
         var timestamp = LocalDateTime.now();
         dataCriacao = timestamp;
+        atualizadoEm = timestamp;
+        hashConteudo = calcularHashConteudo(usuario, conteudo);
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        atualizadoEm = LocalDateTime.now();
+        hashConteudo = calcularHashConteudo(usuario, conteudo);
+    }
+
+    // Sem dataCriacao a mensagem ainda não foi gravada: save() faz persist direto, sem o SELECT do merge.
+    @Override
+    @Transient
+    public boolean isNew() {
+        return dataCriacao == null;
+    }
+
+    public static long calcularHashConteudo(String usuario, String conteudo) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(usuario).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(conteudo).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
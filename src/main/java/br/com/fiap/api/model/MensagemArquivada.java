@@ -0,0 +1,68 @@
+package br.com.fiap.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@DynamicUpdate
+@Table(name = "mensagem_arquivada",
+        indexes = {
+                @Index(name = "idx_mensagem_arquivada_data_criacao", columnList = "data_criacao, id"),
+                @Index(name = "idx_mensagem_arquivada_atualizado_em", columnList = "atualizado_em, id"),
+                @Index(name = "idx_mensagem_arquivada_resposta_de", columnList = "resposta_de, data_criacao, id")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MensagemArquivada {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String usuario;
+
+    @Column(nullable = false, length = Mensagem.TAMANHO_MAXIMO_CONTEUDO)
+    @Convert(converter = ConteudoConverter.class)
+    private String conteudo;
+
+    private LocalDateTime dataCriacao;
+
+    private int gostei;
+
+    private LocalDateTime atualizadoEm;
+
+    private UUID respostaDe;
+
+    private int respostas;
+
+    @PreUpdate
+    public void preUpdate() {
+        atualizadoEm = LocalDateTime.now();
+    }
+
+    public Mensagem toMensagem() {
+        return Mensagem.builder()
+                .id(id)
+                .usuario(usuario)
+                .conteudo(conteudo)
+                .dataCriacao(dataCriacao)
+                .gostei(gostei)
+                .atualizadoEm(atualizadoEm)
+                .respostaDe(respostaDe)
+                .respostas(respostas)
+                .build();
+    }
+}
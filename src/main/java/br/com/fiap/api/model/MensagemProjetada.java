@@ -0,0 +1,17 @@
+package br.com.fiap.api.model;
+
+import br.com.fiap.api.json.MensagemProjetadaSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+@JsonSerialize(using = MensagemProjetadaSerializer.class)
+public class MensagemProjetada {
+
+    private final Mensagem mensagem;
+    private final Set<CampoMensagem> campos;
+}
@@ -0,0 +1,38 @@
+package br.com.fiap.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Marcador de remoção: permite que a sincronização incremental informe exclusões aos clientes.
+@Entity
+@Table(name = "mensagem_removida",
+        indexes = @Index(name = "idx_mensagem_removida_removida_em", columnList = "removida_em, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MensagemRemovida implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private LocalDateTime removidaEm;
+
+    // Marcadores só são inseridos: persist direto, sem o SELECT que o merge faria para cada id.
+    @Override
+    @Transient
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.fiap.api.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record NoConversa(Mensagem mensagem, List<NoConversa> respostas) {
+
+    public static NoConversa of(Mensagem mensagem) {
+        return new NoConversa(mensagem, new ArrayList<>());
+    }
+}
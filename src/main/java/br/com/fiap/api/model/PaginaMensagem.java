@@ -0,0 +1,34 @@
+package br.com.fiap.api.model;
+
+import br.com.fiap.api.json.PaginaMensagemSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@JsonSerialize(using = PaginaMensagemSerializer.class)
+public class PaginaMensagem {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.fiap.pagina+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private final List<?> content;
+    private final int page;
+    private final int size;
+    private final long total;
+    private final boolean hasNext;
+
+    public static PaginaMensagem of(Page<?> pagina) {
+        return new PaginaMensagem(
+                pagina.getContent(),
+                pagina.getNumber(),
+                pagina.getSize(),
+                pagina.getTotalElements(),
+                pagina.hasNext());
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.fiap.api.model;
+
+import java.time.LocalDateTime;
+
+// Corpo de GET /mensagens/{id} já serializado; gzip é null quando a compressão não compensa.
+public record RespostaCodificada(LocalDateTime versao, byte[] json, byte[] gzip) {
+
+    public long tamanho() {
+        return json.length + (gzip == null ? 0 : gzip.length);
+    }
+}
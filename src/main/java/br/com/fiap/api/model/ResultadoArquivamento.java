@@ -0,0 +1,13 @@
+package br.com.fiap.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResultadoArquivamento {
+
+    private final long movidas;
+    private final int lotes;
+    private final long duracaoMs;
+}
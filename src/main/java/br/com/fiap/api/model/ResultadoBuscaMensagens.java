@@ -0,0 +1,15 @@
+package br.com.fiap.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ResultadoBuscaMensagens {
+
+    private final List<Mensagem> encontradas;
+    private final List<UUID> naoEncontradas;
+}
@@ -0,0 +1,58 @@
+package br.com.fiap.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// Gravado no fragmento do seguidor, junto com a linha do tempo que ele lê.
+@Entity
+@IdClass(Seguidor.Chave.class)
+@Table(name = "seguidor",
+        indexes = @Index(name = "idx_seguidor_seguido", columnList = "seguido, seguidor"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Seguidor implements Persistable<Seguidor.Chave> {
+
+    @Id
+    private String seguidor;
+
+    @Id
+    private String seguido;
+
+    @Column(nullable = false)
+    private LocalDateTime dataCriacao;
+
+    @Override
+    @Transient
+    public Chave getId() {
+        return new Chave(seguidor, seguido);
+    }
+
+    // A criação passa por SeguidorRepository.criarSeAusente; save, se usado, faz persist direto, sem o SELECT do merge.
+    @Override
+    @Transient
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+
+        private String seguidor;
+        private String seguido;
+    }
+}
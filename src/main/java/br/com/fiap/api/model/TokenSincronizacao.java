@@ -0,0 +1,34 @@
+package br.com.fiap.api.model;
+
+import br.com.fiap.api.exception.TokenInvalidoException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+// Posição (atualizadoEm, id) da última alteração entregue, opaca para o cliente.
+public record TokenSincronizacao(LocalDateTime data, UUID id) {
+
+    private static final char SEPARADOR = '|';
+
+    public String codificar() {
+        var texto = data.toString() + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TokenSincronizacao decodificar(String token) {
+        try {
+            var texto = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separador = texto.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw TokenInvalidoException.tokenInvalido();
+            }
+            return new TokenSincronizacao(LocalDateTime.parse(texto.substring(0, separador)),
+                    UUID.fromString(texto.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw TokenInvalidoException.tokenInvalido();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.fiap.api.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Gravado no fragmento do usuário seguido; decide entre distribuição na escrita e leitura sob demanda.
+@Entity
+@Table(name = "total_seguidores")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TotalSeguidores {
+
+    @Id
+    private String usuario;
+
+    private long total;
+}
@@ -0,0 +1,67 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.EstatisticaUsuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EstatisticaUsuarioRepository extends JpaRepository<EstatisticaUsuario, String>,
+        EstatisticaUsuarioRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE EstatisticaUsuario e SET e.totalMensagens = e.totalMensagens + 1, "
+            + "e.totalGostei = e.totalGostei + :gostei, "
+            + "e.ultimaPublicacao = CASE WHEN e.ultimaPublicacao IS NULL OR e.ultimaPublicacao < :dataCriacao "
+            + "THEN :dataCriacao ELSE e.ultimaPublicacao END "
+            + "WHERE e.usuario = :usuario")
+    int registrarPublicacao(@Param("usuario") String usuario,
+                            @Param("gostei") long gostei,
+                            @Param("dataCriacao") LocalDateTime dataCriacao);
+
+    @Modifying
+    @Query("UPDATE EstatisticaUsuario e SET e.totalGostei = e.totalGostei + :gostei WHERE e.usuario = :usuario")
+    int registrarGostei(@Param("usuario") String usuario, @Param("gostei") long gostei);
+
+    @Modifying
+    @Query("UPDATE EstatisticaUsuario e SET e.totalMensagens = e.totalMensagens - 1, "
+            + "e.totalGostei = e.totalGostei - :gostei "
+            + "WHERE e.usuario = :usuario")
+    int registrarRemocao(@Param("usuario") String usuario, @Param("gostei") long gostei);
+
+    @Query("SELECT DISTINCT m.usuario FROM Mensagem m WHERE m.usuario > :cursor ORDER BY m.usuario")
+    List<String> buscarUsuariosQuentes(@Param("cursor") String cursor, Pageable pageable);
+
+    @Query("SELECT DISTINCT m.usuario FROM MensagemArquivada m WHERE m.usuario > :cursor ORDER BY m.usuario")
+    List<String> buscarUsuariosArquivados(@Param("cursor") String cursor, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "estatistica_usuario"))
+    @Query(value = "UPDATE estatistica_usuario e SET "
+            + "total_mensagens = (SELECT COUNT(*) FROM mensagem m WHERE m.usuario = e.usuario) "
+            + "+ (SELECT COUNT(*) FROM mensagem_arquivada a WHERE a.usuario = e.usuario), "
+            + "total_gostei = (SELECT COALESCE(SUM(m.gostei), 0) FROM mensagem m WHERE m.usuario = e.usuario) "
+            + "+ (SELECT COALESCE(SUM(a.gostei), 0) FROM mensagem_arquivada a WHERE a.usuario = e.usuario), "
+            + "ultima_publicacao = COALESCE("
+            + "(SELECT MAX(m.data_criacao) FROM mensagem m WHERE m.usuario = e.usuario), "
+            + "(SELECT MAX(a.data_criacao) FROM mensagem_arquivada a WHERE a.usuario = e.usuario)) "
+            + "WHERE e.usuario IN (:usuarios)",
+            nativeQuery = true)
+    int recalcular(@Param("usuarios") Collection<String> usuarios);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "estatistica_usuario"))
+    @Query(value = "DELETE FROM estatistica_usuario "
+            + "WHERE NOT EXISTS (SELECT 1 FROM mensagem m WHERE m.usuario = estatistica_usuario.usuario) "
+            + "AND NOT EXISTS (SELECT 1 FROM mensagem_arquivada a WHERE a.usuario = estatistica_usuario.usuario)",
+            nativeQuery = true)
+    int removerOrfas();
+}
@@ -0,0 +1,6 @@
+package br.com.fiap.api.repository;
+
+public interface EstatisticaUsuarioRepositoryCustom {
+
+    void criarSeAusente(String usuario);
+}
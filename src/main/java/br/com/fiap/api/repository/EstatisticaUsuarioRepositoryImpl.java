@@ -0,0 +1,35 @@
+package br.com.fiap.api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.SQLException;
+
+public class EstatisticaUsuarioRepositoryImpl implements EstatisticaUsuarioRepositoryCustom {
+
+    private static final String VIOLACAO_UNICIDADE = "23505";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Na conexão da transação corrente, sob um savepoint: se outra transação criou a linha primeiro, só o INSERT
+    // é desfeito. Não aborta a transação da mensagem e não pede uma segunda conexão ao pool.
+    @Override
+    public void criarSeAusente(String usuario) {
+        entityManager.unwrap(Session.class).doWork(conexao -> {
+            var savepoint = conexao.setSavepoint();
+            try (var insert = conexao.prepareStatement(
+                    "INSERT INTO estatistica_usuario (usuario, total_mensagens, total_gostei) VALUES (?, 0, 0)")) {
+                insert.setString(1, usuario);
+                insert.executeUpdate();
+                conexao.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                if (!VIOLACAO_UNICIDADE.equals(e.getSQLState())) {
+                    throw e;
+                }
+                conexao.rollback(savepoint);
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.EventoOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+    @Query("SELECT e FROM EventoOutbox e ORDER BY e.id")
+    List<EventoOutbox> buscarPendentes(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EventoOutbox e WHERE e.id IN :ids")
+    int removerPorIds(@Param("ids") Collection<Long> ids);
+}
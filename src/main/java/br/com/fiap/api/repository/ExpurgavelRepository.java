@@ -0,0 +1,21 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.ChaveMensagem;
+import br.com.fiap.api.model.Mensagem;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ExpurgavelRepository {
+
+    List<ChaveMensagem> buscarChavesAnteriores(LocalDateTime corte, Pageable pageable);
+
+    List<ChaveMensagem> buscarChavesAnteriores(LocalDateTime corte, LocalDateTime ultimaData, UUID ultimoId, Pageable pageable);
+
+    List<Mensagem> buscarParaExpurgo(Collection<UUID> ids);
+
+    int removerPorIds(Collection<UUID> ids);
+}
@@ -0,0 +1,30 @@
+package br.com.fiap.api.repository;
+
+import java.util.function.Supplier;
+
+public final class FragmentoContexto {
+
+    private static final ThreadLocal<Integer> ATUAL = new ThreadLocal<>();
+
+    private FragmentoContexto() {
+    }
+
+    public static Integer atual() {
+        return ATUAL.get();
+    }
+
+    // A conexão é escolhida quando a transação começa, então o contexto precisa envolver a transação inteira.
+    public static <T> T executar(int fragmento, Supplier<T> operacao) {
+        var anterior = ATUAL.get();
+        ATUAL.set(fragmento);
+        try {
+            return operacao.get();
+        } finally {
+            if (anterior == null) {
+                ATUAL.remove();
+            } else {
+                ATUAL.set(anterior);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.LiderancaOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface LiderancaOutboxRepository extends JpaRepository<LiderancaOutbox, String>,
+        LiderancaOutboxRepositoryCustom {
+
+    // Renova a concessão da própria instância ou assume uma vencida; 0 linhas significa que outra instância lidera.
+    @Modifying
+    @Query("UPDATE LiderancaOutbox l SET l.instancia = :instancia, l.expiraEm = :expiraEm "
+            + "WHERE l.recurso = :recurso AND (l.instancia = :instancia OR l.expiraEm IS NULL OR l.expiraEm < :agora)")
+    int assumir(@Param("recurso") String recurso,
+                @Param("instancia") String instancia,
+                @Param("agora") LocalDateTime agora,
+                @Param("expiraEm") LocalDateTime expiraEm);
+}
@@ -0,0 +1,6 @@
+package br.com.fiap.api.repository;
+
+public interface LiderancaOutboxRepositoryCustom {
+
+    void criarSeAusente(String recurso);
+}
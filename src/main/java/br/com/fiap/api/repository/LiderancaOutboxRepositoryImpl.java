@@ -0,0 +1,33 @@
+package br.com.fiap.api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.SQLException;
+
+public class LiderancaOutboxRepositoryImpl implements LiderancaOutboxRepositoryCustom {
+
+    private static final String VIOLACAO_UNICIDADE = "23505";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Mesmo esquema de TotalSeguidoresRepositoryImpl: INSERT sob savepoint, ignorando a linha criada por outra instância.
+    @Override
+    public void criarSeAusente(String recurso) {
+        entityManager.unwrap(Session.class).doWork(conexao -> {
+            var savepoint = conexao.setSavepoint();
+            try (var insert = conexao.prepareStatement("INSERT INTO lideranca_outbox (recurso) VALUES (?)")) {
+                insert.setString(1, recurso);
+                insert.executeUpdate();
+                conexao.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                if (!VIOLACAO_UNICIDADE.equals(e.getSQLState())) {
+                    throw e;
+                }
+                conexao.rollback(savepoint);
+            }
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.EntradaLinhaTempo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface LinhaTempoRepository extends JpaRepository<EntradaLinhaTempo, EntradaLinhaTempo.Chave> {
+
+    @Query("SELECT e FROM EntradaLinhaTempo e WHERE e.usuario = :usuario "
+            + "ORDER BY e.dataCriacao DESC, e.mensagemId DESC")
+    List<EntradaLinhaTempo> buscarEntradas(@Param("usuario") String usuario, Pageable pageable);
+
+    @Query("SELECT e FROM EntradaLinhaTempo e WHERE e.usuario = :usuario "
+            + "AND (e.dataCriacao < :ultimaData OR (e.dataCriacao = :ultimaData AND e.mensagemId < :ultimoId)) "
+            + "ORDER BY e.dataCriacao DESC, e.mensagemId DESC")
+    List<EntradaLinhaTempo> buscarEntradas(@Param("usuario") String usuario,
+                                           @Param("ultimaData") LocalDateTime ultimaData,
+                                           @Param("ultimoId") UUID ultimoId,
+                                           Pageable pageable);
+
+    // Um único INSERT ... SELECT por fragmento, qualquer que seja o número de seguidores. Ignora quem já recebeu a
+    // mensagem no preenchimento feito ao começar a seguir o autor.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "linha_tempo"))
+    @Query(value = "INSERT INTO linha_tempo (usuario, mensagem_id, autor, data_criacao) "
+            + "SELECT s.seguidor, :mensagemId, :autor, :dataCriacao FROM seguidor s WHERE s.seguido = :autor "
+            + "AND NOT EXISTS (SELECT 1 FROM linha_tempo l WHERE l.usuario = s.seguidor AND l.mensagem_id = :mensagemId)",
+            nativeQuery = true)
+    int distribuir(@Param("mensagemId") UUID mensagemId,
+                   @Param("autor") String autor,
+                   @Param("dataCriacao") LocalDateTime dataCriacao);
+
+    @Modifying
+    @Query("DELETE FROM EntradaLinhaTempo e WHERE e.usuario = :usuario AND e.autor = :autor")
+    int removerDoAutor(@Param("usuario") String usuario, @Param("autor") String autor);
+
+    @Modifying
+    @Query("DELETE FROM EntradaLinhaTempo e WHERE e.dataCriacao < :corte")
+    int removerAnteriores(@Param("corte") LocalDateTime corte);
+}
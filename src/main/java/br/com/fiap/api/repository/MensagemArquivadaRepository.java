@@ -0,0 +1,90 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.ChaveMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemArquivada;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MensagemArquivadaRepository extends JpaRepository<MensagemArquivada, UUID>,
+        MensagemArquivadaRepositoryCustom, ExpurgavelRepository {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "mensagem_arquivada"))
+    @Query(value = "INSERT INTO mensagem_arquivada "
+            + "(id, usuario, conteudo, data_criacao, gostei, atualizado_em, resposta_de, respostas) "
+            + "SELECT id, usuario, conteudo, data_criacao, gostei, atualizado_em, resposta_de, respostas "
+            + "FROM mensagem WHERE id IN (:ids)",
+            nativeQuery = true)
+    int arquivarPorIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT m FROM MensagemArquivada m WHERE m.atualizadoEm <= :ate ORDER BY m.atualizadoEm, m.id")
+    List<MensagemArquivada> buscarAlteradas(@Param("ate") LocalDateTime ate, Pageable pageable);
+
+    @Query("SELECT m FROM MensagemArquivada m WHERE m.atualizadoEm <= :ate "
+            + "AND (m.atualizadoEm > :ultimaData OR (m.atualizadoEm = :ultimaData AND m.id > :ultimoId)) "
+            + "ORDER BY m.atualizadoEm, m.id")
+    List<MensagemArquivada> buscarAlteradas(@Param("ate") LocalDateTime ate,
+                                            @Param("ultimaData") LocalDateTime ultimaData,
+                                            @Param("ultimoId") UUID ultimoId,
+                                            Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MensagemArquivada m SET m.gostei = m.gostei + 1, m.atualizadoEm = :agora WHERE m.id = :id")
+    int incrementarGostei(@Param("id") UUID id, @Param("agora") LocalDateTime agora);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MensagemArquivada m WHERE m.id = :id")
+    Optional<MensagemArquivada> buscarParaAtualizar(@Param("id") UUID id);
+
+    @Query("SELECT m FROM MensagemArquivada m WHERE m.respostaDe = :id ORDER BY m.dataCriacao, m.id")
+    List<MensagemArquivada> buscarRespostas(@Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT m FROM MensagemArquivada m WHERE m.respostaDe = :id "
+            + "AND (m.dataCriacao > :ultimaData OR (m.dataCriacao = :ultimaData AND m.id > :ultimoId)) "
+            + "ORDER BY m.dataCriacao, m.id")
+    List<MensagemArquivada> buscarRespostas(@Param("id") UUID id,
+                                            @Param("ultimaData") LocalDateTime ultimaData,
+                                            @Param("ultimoId") UUID ultimoId,
+                                            Pageable pageable);
+
+    @Override
+    @Query("SELECT m.id AS id, m.dataCriacao AS dataCriacao FROM MensagemArquivada m "
+            + "WHERE m.dataCriacao < :corte "
+            + "ORDER BY m.dataCriacao, m.id")
+    List<ChaveMensagem> buscarChavesAnteriores(@Param("corte") LocalDateTime corte, Pageable pageable);
+
+    @Override
+    @Query("SELECT m.id AS id, m.dataCriacao AS dataCriacao FROM MensagemArquivada m "
+            + "WHERE m.dataCriacao < :corte "
+            + "AND (m.dataCriacao > :ultimaData OR (m.dataCriacao = :ultimaData AND m.id > :ultimoId)) "
+            + "ORDER BY m.dataCriacao, m.id")
+    List<ChaveMensagem> buscarChavesAnteriores(@Param("corte") LocalDateTime corte,
+                                               @Param("ultimaData") LocalDateTime ultimaData,
+                                               @Param("ultimoId") UUID ultimoId,
+                                               Pageable pageable);
+
+    @Override
+    default List<Mensagem> buscarParaExpurgo(Collection<UUID> ids) {
+        return findAllById(ids).stream().map(MensagemArquivada::toMensagem).toList();
+    }
+
+    @Override
+    @Modifying
+    @Query("DELETE FROM MensagemArquivada m WHERE m.id IN :ids")
+    int removerPorIds(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,19 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemArquivada;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface MensagemArquivadaRepositoryCustom {
+
+    List<MensagemArquivada> listarMensagens(long inicio, int limite);
+
+    List<Mensagem> listarMensagens(Set<CampoMensagem> campos, long inicio, int limite);
+
+    List<UUID> buscarDescendentes(Collection<UUID> ids, int limite);
+}
@@ -0,0 +1,60 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemArquivada;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class MensagemArquivadaRepositoryImpl implements MensagemArquivadaRepositoryCustom {
+
+    private static final String DESCENDENTES = "WITH RECURSIVE arvore (id, data_criacao) AS ("
+            + "SELECT id, data_criacao FROM mensagem_arquivada WHERE resposta_de IN (:ids) "
+            + "UNION ALL "
+            + "SELECT m.id, m.data_criacao FROM mensagem_arquivada m JOIN arvore a ON m.resposta_de = a.id) "
+            + "SELECT id FROM arvore ORDER BY data_criacao, id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MensagemArquivada> listarMensagens(long inicio, int limite) {
+        return entityManager.createQuery(
+                        "SELECT m FROM MensagemArquivada m ORDER BY m.dataCriacao DESC, m.id", MensagemArquivada.class)
+                .setFirstResult(Math.toIntExact(inicio))
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public List<Mensagem> listarMensagens(Set<CampoMensagem> campos, long inicio, int limite) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(MensagemArquivada.class);
+        query.multiselect(ProjecaoMensagem.selecionar(root, campos))
+                .orderBy(cb.desc(root.get("dataCriacao")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(inicio))
+                .setMaxResults(limite)
+                .getResultStream()
+                .map(tupla -> ProjecaoMensagem.converter(tupla, campos))
+                .toList();
+    }
+
+    @Override
+    public List<UUID> buscarDescendentes(Collection<UUID> ids, int limite) {
+        return ((List<?>) entityManager.createNativeQuery(DESCENDENTES)
+                .setParameter("ids", ids)
+                .setMaxResults(limite)
+                .getResultList())
+                .stream()
+                .map(UUID.class::cast)
+                .toList();
+    }
+}
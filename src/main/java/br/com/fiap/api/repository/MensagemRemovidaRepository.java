@@ -0,0 +1,27 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.MensagemRemovida;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface MensagemRemovidaRepository extends JpaRepository<MensagemRemovida, UUID> {
+
+    @Query("SELECT r FROM MensagemRemovida r WHERE r.removidaEm <= :ate "
+            + "AND (r.removidaEm > :ultimaData OR (r.removidaEm = :ultimaData AND r.id > :ultimoId)) "
+            + "ORDER BY r.removidaEm, r.id")
+    List<MensagemRemovida> buscarRemovidas(@Param("ate") LocalDateTime ate,
+                                           @Param("ultimaData") LocalDateTime ultimaData,
+                                           @Param("ultimoId") UUID ultimoId,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MensagemRemovida r WHERE r.removidaEm < :corte")
+    int removerAnteriores(@Param("corte") LocalDateTime corte);
+}
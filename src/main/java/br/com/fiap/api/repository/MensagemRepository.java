@@ -1,15 +1,111 @@
 package br.com.fiap.api.repository;
 
+import br.com.fiap.api.model.ChaveMensagem;
 import br.com.fiap.api.model.Mensagem;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface MensagemRepository extends JpaRepository<Mensagem, UUID> {
+public interface MensagemRepository extends JpaRepository<Mensagem, UUID>, MensagemRepositoryCustom, ExpurgavelRepository {
 
-    @Query("SELECT m FROM Mensagem m ORDER BY m.dataCriacao DESC")
+    @Query("SELECT m FROM Mensagem m ORDER BY m.dataCriacao DESC, m.id")
     Page<Mensagem> listarMensagens(Pageable pageable);
+
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
+    @Query("SELECT m FROM Mensagem m ORDER BY m.dataCriacao DESC, m.id")
+    Page<Mensagem> listarPrimeirasMensagens(Pageable pageable);
+
+    @Query("SELECT m FROM Mensagem m ORDER BY m.gostei DESC, m.dataCriacao DESC, m.id")
+    List<Mensagem> buscarMaisCurtidas(Pageable pageable);
+
+    @Query("SELECT m FROM Mensagem m WHERE m.hashConteudo = :hash AND m.usuario = :usuario "
+            + "AND m.conteudo = :conteudo AND m.dataCriacao >= :corte "
+            + "AND (m.respostaDe = :respostaDe OR (:respostaDe IS NULL AND m.respostaDe IS NULL)) "
+            + "ORDER BY m.dataCriacao DESC")
+    List<Mensagem> buscarDuplicadas(@Param("hash") long hash,
+                                    @Param("usuario") String usuario,
+                                    @Param("conteudo") String conteudo,
+                                    @Param("respostaDe") UUID respostaDe,
+                                    @Param("corte") LocalDateTime corte,
+                                    Pageable pageable);
+
+    @Query("SELECT m.hashConteudo FROM Mensagem m WHERE m.dataCriacao >= :corte AND m.hashConteudo IS NOT NULL")
+    List<Long> buscarHashesConteudoDesde(@Param("corte") LocalDateTime corte);
+
+    @Query("SELECT m FROM Mensagem m WHERE m.atualizadoEm <= :ate ORDER BY m.atualizadoEm, m.id")
+    List<Mensagem> buscarAlteradas(@Param("ate") LocalDateTime ate, Pageable pageable);
+
+    @Query("SELECT m FROM Mensagem m WHERE m.atualizadoEm <= :ate "
+            + "AND (m.atualizadoEm > :ultimaData OR (m.atualizadoEm = :ultimaData AND m.id > :ultimoId)) "
+            + "ORDER BY m.atualizadoEm, m.id")
+    List<Mensagem> buscarAlteradas(@Param("ate") LocalDateTime ate,
+                                   @Param("ultimaData") LocalDateTime ultimaData,
+                                   @Param("ultimoId") UUID ultimoId,
+                                   Pageable pageable);
+
+    @Query("SELECT m FROM Mensagem m WHERE m.usuario IN :autores ORDER BY m.dataCriacao DESC, m.id DESC")
+    List<Mensagem> buscarPorAutores(@Param("autores") Collection<String> autores, Pageable pageable);
+
+    @Query("SELECT m FROM Mensagem m WHERE m.usuario IN :autores "
+            + "AND (m.dataCriacao < :ultimaData OR (m.dataCriacao = :ultimaData AND m.id < :ultimoId)) "
+            + "ORDER BY m.dataCriacao DESC, m.id DESC")
+    List<Mensagem> buscarPorAutores(@Param("autores") Collection<String> autores,
+                                    @Param("ultimaData") LocalDateTime ultimaData,
+                                    @Param("ultimoId") UUID ultimoId,
+                                    Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Mensagem m WHERE m.id = :id")
+    Optional<Mensagem> buscarParaAtualizar(@Param("id") UUID id);
+
+    @Query("SELECT m FROM Mensagem m WHERE m.respostaDe = :id ORDER BY m.dataCriacao, m.id")
+    List<Mensagem> buscarRespostas(@Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT m FROM Mensagem m WHERE m.respostaDe = :id "
+            + "AND (m.dataCriacao > :ultimaData OR (m.dataCriacao = :ultimaData AND m.id > :ultimoId)) "
+            + "ORDER BY m.dataCriacao, m.id")
+    List<Mensagem> buscarRespostas(@Param("id") UUID id,
+                                   @Param("ultimaData") LocalDateTime ultimaData,
+                                   @Param("ultimoId") UUID ultimoId,
+                                   Pageable pageable);
+
+    @Override
+    @Query("SELECT m.id AS id, m.dataCriacao AS dataCriacao FROM Mensagem m "
+            + "WHERE m.dataCriacao < :corte "
+            + "ORDER BY m.dataCriacao, m.id")
+    List<ChaveMensagem> buscarChavesAnteriores(@Param("corte") LocalDateTime corte, Pageable pageable);
+
+    @Override
+    @Query("SELECT m.id AS id, m.dataCriacao AS dataCriacao FROM Mensagem m "
+            + "WHERE m.dataCriacao < :corte "
+            + "AND (m.dataCriacao > :ultimaData OR (m.dataCriacao = :ultimaData AND m.id > :ultimoId)) "
+            + "ORDER BY m.dataCriacao, m.id")
+    List<ChaveMensagem> buscarChavesAnteriores(@Param("corte") LocalDateTime corte,
+                                               @Param("ultimaData") LocalDateTime ultimaData,
+                                               @Param("ultimoId") UUID ultimoId,
+                                               Pageable pageable);
+
+    @Override
+    default List<Mensagem> buscarParaExpurgo(Collection<UUID> ids) {
+        return buscarPorIds(ids);
+    }
+
+    @Override
+    @Modifying
+    @Query("DELETE FROM Mensagem m WHERE m.id IN :ids")
+    int removerPorIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,23 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface MensagemRepositoryCustom {
+
+    Optional<Mensagem> buscarMensagem(UUID id, Set<CampoMensagem> campos);
+
+    Page<Mensagem> listarMensagens(Set<CampoMensagem> campos, Pageable pageable);
+
+    List<Mensagem> buscarPorIds(Collection<UUID> ids);
+
+    List<UUID> buscarDescendentes(Collection<UUID> ids, int limite);
+}
@@ -0,0 +1,95 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public class MensagemRepositoryImpl implements MensagemRepositoryCustom {
+
+    // A árvore inteira sai de uma consulta, qualquer que seja a profundidade; a ordem por data põe pais antes dos filhos.
+    private static final String DESCENDENTES = "WITH RECURSIVE arvore (id, data_criacao) AS ("
+            + "SELECT id, data_criacao FROM mensagem WHERE resposta_de IN (:ids) "
+            + "UNION ALL "
+            + "SELECT m.id, m.data_criacao FROM mensagem m JOIN arvore a ON m.resposta_de = a.id) "
+            + "SELECT id FROM arvore ORDER BY data_criacao, id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Mensagem> buscarMensagem(UUID id, Set<CampoMensagem> campos) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Mensagem.class);
+        query.multiselect(ProjecaoMensagem.selecionar(root, campos))
+                .where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .findFirst()
+                .map(tupla -> ProjecaoMensagem.converter(tupla, campos));
+    }
+
+    // multiLoad consulta o contexto de persistência e o cache de segundo nível antes de ir ao banco.
+    @Override
+    public List<Mensagem> buscarPorIds(Collection<UUID> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Mensagem.class)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(new ArrayList<>(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<UUID> buscarDescendentes(Collection<UUID> ids, int limite) {
+        return ((List<?>) entityManager.createNativeQuery(DESCENDENTES)
+                .setParameter("ids", ids)
+                .setMaxResults(limite)
+                .getResultList())
+                .stream()
+                .map(UUID.class::cast)
+                .toList();
+    }
+
+    @Override
+    public Page<Mensagem> listarMensagens(Set<CampoMensagem> campos, Pageable pageable) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Mensagem.class);
+        query.multiselect(ProjecaoMensagem.selecionar(root, campos))
+                .orderBy(cb.desc(root.get("dataCriacao")), cb.asc(root.get("id")));
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        var mensagens = typedQuery.getResultList().stream()
+                .map(tupla -> ProjecaoMensagem.converter(tupla, campos))
+                .toList();
+
+        return PageableExecutionUtils.getPage(mensagens, pageable, this::contarMensagens);
+    }
+
+    private long contarMensagens() {
+        return entityManager.createQuery("SELECT count(m) FROM Mensagem m", Long.class)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Mensagem e MensagemArquivada têm os mesmos atributos projetáveis, então a seleção e a conversão são compartilhadas.
+final class ProjecaoMensagem {
+
+    private ProjecaoMensagem() {
+    }
+
+    static List<Selection<?>> selecionar(Root<?> root, Set<CampoMensagem> campos) {
+        List<Selection<?>> selecao = new ArrayList<>(campos.size());
+        for (var campo : campos) {
+            selecao.add(root.get(campo.getNome()).alias(campo.getNome()));
+        }
+        return selecao;
+    }
+
+    static Mensagem converter(Tuple tupla, Set<CampoMensagem> campos) {
+        var mensagem = new Mensagem();
+        for (var campo : campos) {
+            var valor = tupla.get(campo.getNome());
+            switch (campo) {
+                case ID -> mensagem.setId((UUID) valor);
+                case USUARIO -> mensagem.setUsuario((String) valor);
+                case CONTEUDO -> mensagem.setConteudo((String) valor);
+                case DATA_CRIACAO -> mensagem.setDataCriacao((LocalDateTime) valor);
+                case GOSTEI -> mensagem.setGostei((Integer) valor);
+            }
+        }
+        return mensagem;
+    }
+}
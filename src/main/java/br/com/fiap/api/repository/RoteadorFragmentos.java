@@ -0,0 +1,27 @@
+package br.com.fiap.api.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+public interface RoteadorFragmentos {
+
+    int quantidade();
+
+    int fragmentoDe(UUID id);
+
+    // Dados por usuário (seguidores, linha do tempo) ficam no fragmento derivado do nome.
+    default int fragmentoDe(String usuario) {
+        return fragmentoDe(UUID.nameUUIDFromBytes(usuario.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    <T> T executar(int fragmento, Supplier<T> operacao);
+
+    <T> T consultar(int fragmento, Supplier<T> consulta);
+
+    <T> List<T> consultarTodos(IntFunction<T> consulta);
+
+    <T> List<T> paraCadaFragmento(IntFunction<T> operacao);
+}
@@ -0,0 +1,126 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.config.FragmentacaoProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+@Component
+public class RoteadorFragmentosImpl implements RoteadorFragmentos, DisposableBean {
+
+    private final int quantidade;
+    private final TransactionTemplate transacao;
+    private final TransactionTemplate transacaoLeitura;
+    private final ExecutorService executor;
+
+    public RoteadorFragmentosImpl(FragmentacaoProperties fragmentacaoProperties,
+                                  PlatformTransactionManager transactionManager) {
+        quantidade = fragmentacaoProperties.quantidade();
+        transacao = new TransactionTemplate(transactionManager);
+        transacaoLeitura = new TransactionTemplate(transactionManager);
+        transacaoLeitura.setReadOnly(true);
+        if (quantidade == 1) {
+            executor = null;
+            return;
+        }
+        // Com vários fragmentos cada operação abre a própria transação, ligada à conexão do fragmento.
+        transacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transacaoLeitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        var contador = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(quantidade, Runtime.getRuntime().availableProcessors()), tarefa -> {
+            var thread = new Thread(tarefa, "fragmento-consulta-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public int quantidade() {
+        return quantidade;
+    }
+
+    @Override
+    public int fragmentoDe(UUID id) {
+        return fragmentoDe(id, quantidade);
+    }
+
+    @Override
+    public <T> T executar(int fragmento, Supplier<T> operacao) {
+        if (quantidade == 1) {
+            return transacao.execute(status -> operacao.get());
+        }
+        return FragmentoContexto.executar(fragmento, () -> transacao.execute(status -> operacao.get()));
+    }
+
+    @Override
+    public <T> T consultar(int fragmento, Supplier<T> consulta) {
+        if (quantidade == 1) {
+            return consulta.get();
+        }
+        return FragmentoContexto.executar(fragmento, () -> transacaoLeitura.execute(status -> consulta.get()));
+    }
+
+    @Override
+    public <T> List<T> consultarTodos(IntFunction<T> consulta) {
+        if (quantidade == 1) {
+            return Collections.singletonList(consulta.apply(0));
+        }
+        var futuros = new ArrayList<CompletableFuture<T>>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            var fragmento = i;
+            futuros.add(CompletableFuture.supplyAsync(() -> consultar(fragmento, () -> consulta.apply(fragmento)), executor));
+        }
+        var resultados = new ArrayList<T>(quantidade);
+        try {
+            for (var futuro : futuros) {
+                resultados.add(futuro.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+        return resultados;
+    }
+
+    @Override
+    public <T> List<T> paraCadaFragmento(IntFunction<T> operacao) {
+        if (quantidade == 1) {
+            return Collections.singletonList(operacao.apply(0));
+        }
+        var resultados = new ArrayList<T>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            var fragmento = i;
+            resultados.add(FragmentoContexto.executar(fragmento, () -> operacao.apply(fragmento)));
+        }
+        return resultados;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    // Mistura os 128 bits antes do módulo para que ids sequenciais ou escritos à mão também se espalhem.
+    static int fragmentoDe(UUID id, int quantidade) {
+        var hash = (id.getMostSignificantBits() ^ id.getLeastSignificantBits()) * 0x9E3779B97F4A7C15L;
+        return (int) Long.remainderUnsigned(hash ^ (hash >>> 32), quantidade);
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.Seguidor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SeguidorRepository extends JpaRepository<Seguidor, Seguidor.Chave>, SeguidorRepositoryCustom {
+
+    @Query("SELECT s.seguido FROM Seguidor s WHERE s.seguidor = :seguidor AND s.seguido IN :seguidos")
+    List<String> buscarSeguidos(@Param("seguidor") String seguidor, @Param("seguidos") Collection<String> seguidos);
+}
@@ -0,0 +1,8 @@
+package br.com.fiap.api.repository;
+
+import java.time.LocalDateTime;
+
+public interface SeguidorRepositoryCustom {
+
+    boolean criarSeAusente(String seguidor, String seguido, LocalDateTime dataCriacao);
+}
@@ -0,0 +1,41 @@
+package br.com.fiap.api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+public class SeguidorRepositoryImpl implements SeguidorRepositoryCustom {
+
+    private static final String VIOLACAO_UNICIDADE = "23505";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Mesmo esquema de TotalSeguidoresRepositoryImpl: dois pedidos concorrentes para o mesmo par não viram erro 500,
+    // o segundo só descobre que a relação já existe.
+    @Override
+    public boolean criarSeAusente(String seguidor, String seguido, LocalDateTime dataCriacao) {
+        return entityManager.unwrap(Session.class).doReturningWork(conexao -> {
+            var savepoint = conexao.setSavepoint();
+            try (var insert = conexao.prepareStatement(
+                    "INSERT INTO seguidor (seguidor, seguido, data_criacao) VALUES (?, ?, ?)")) {
+                insert.setString(1, seguidor);
+                insert.setString(2, seguido);
+                insert.setTimestamp(3, Timestamp.valueOf(dataCriacao));
+                insert.executeUpdate();
+                conexao.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException e) {
+                if (!VIOLACAO_UNICIDADE.equals(e.getSQLState())) {
+                    throw e;
+                }
+                conexao.rollback(savepoint);
+                return false;
+            }
+        });
+    }
+}
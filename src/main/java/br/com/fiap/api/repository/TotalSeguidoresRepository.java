@@ -0,0 +1,20 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.TotalSeguidores;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TotalSeguidoresRepository extends JpaRepository<TotalSeguidores, String>,
+        TotalSeguidoresRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE TotalSeguidores t SET t.total = t.total + :delta WHERE t.usuario = :usuario")
+    int alterarTotal(@Param("usuario") String usuario, @Param("delta") long delta);
+
+    @Query("SELECT t.usuario FROM TotalSeguidores t WHERE t.total >= :minimo")
+    List<String> buscarUsuariosComPeloMenos(@Param("minimo") long minimo);
+}
@@ -0,0 +1,34 @@
+package br.com.fiap.api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.SQLException;
+
+public class TotalSeguidoresRepositoryImpl implements TotalSeguidoresRepositoryCustom {
+
+    private static final String VIOLACAO_UNICIDADE = "23505";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Mesmo esquema de EstatisticaUsuarioRepositoryImpl: INSERT sob savepoint, ignorando a linha criada por outra transação.
+    @Override
+    public void criarSeAusente(String usuario) {
+        entityManager.unwrap(Session.class).doWork(conexao -> {
+            var savepoint = conexao.setSavepoint();
+            try (var insert = conexao.prepareStatement(
+                    "INSERT INTO total_seguidores (usuario, total) VALUES (?, 0)")) {
+                insert.setString(1, usuario);
+                insert.executeUpdate();
+                conexao.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                if (!VIOLACAO_UNICIDADE.equals(e.getSQLState())) {
+                    throw e;
+                }
+                conexao.rollback(savepoint);
+            }
+        });
+    }
+}
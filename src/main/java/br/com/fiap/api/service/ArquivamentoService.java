@@ -0,0 +1,36 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.ResultadoArquivamento;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ArquivamentoService {
+
+    ResultadoArquivamento arquivarMensagensAntigas();
+
+    Optional<Mensagem> buscarMensagem(UUID id);
+
+    List<Mensagem> buscarMensagens(Collection<UUID> ids);
+
+    Optional<Mensagem> alterarConteudo(UUID id, String conteudo);
+
+    Optional<Mensagem> incrementarGostei(UUID id);
+
+    Optional<Mensagem> removerMensagem(UUID id);
+
+    Page<Mensagem> completarPagina(Page<Mensagem> paginaQuente, Pageable pageable);
+
+    Page<Mensagem> completarPagina(Page<Mensagem> paginaQuente, Pageable pageable, Set<CampoMensagem> campos);
+
+    Page<Mensagem> listarMensagens(Pageable pageable);
+
+    Page<Mensagem> listarMensagens(Pageable pageable, Set<CampoMensagem> campos);
+}
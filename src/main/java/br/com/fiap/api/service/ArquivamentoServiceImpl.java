@@ -0,0 +1,244 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.ArquivamentoProperties;
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.model.ChaveMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemArquivada;
+import br.com.fiap.api.model.ResultadoArquivamento;
+import br.com.fiap.api.repository.MensagemArquivadaRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+@Service
+@RequiredArgsConstructor
+public class ArquivamentoServiceImpl implements ArquivamentoService {
+
+    static final String METRICA_MOVIDAS = "mensagem.arquivamento.movidas";
+    static final String METRICA_LOTE = "mensagem.arquivamento.lote";
+
+    private final MensagemRepository mensagemRepository;
+    private final MensagemArquivadaRepository mensagemArquivadaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ArquivamentoProperties arquivamentoProperties;
+    private final MeterRegistry meterRegistry;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    private final AtomicBoolean emExecucao = new AtomicBoolean();
+
+    // Total da tabela de arquivo em cache, para que páginas que não cruzam a fronteira não consultem o arquivo.
+    private final AtomicLong totalArquivado = new AtomicLong(-1);
+
+    @Scheduled(cron = "${mensagem.arquivamento.cron:0 */15 * * * *}")
+    public void executarArquivamentoAgendado() {
+        if (arquivamentoProperties.isHabilitado()) {
+            arquivarMensagensAntigas();
+        }
+    }
+
+    @Override
+    public ResultadoArquivamento arquivarMensagensAntigas() {
+        if (!emExecucao.compareAndSet(false, true)) {
+            return new ResultadoArquivamento(0, 0, 0);
+        }
+        try {
+            var inicio = System.nanoTime();
+            var corte = LocalDateTime.now().minus(arquivamentoProperties.getIdade());
+            var progressos = roteadorFragmentos.paraCadaFragmento(fragmento -> arquivar(corte));
+            return new ResultadoArquivamento(
+                    progressos.stream().mapToLong(Progresso::movidas).sum(),
+                    progressos.stream().mapToInt(Progresso::lotes).sum(),
+                    Duration.ofNanos(System.nanoTime() - inicio).toMillis());
+        } finally {
+            totalArquivado.set(roteadorFragmentos.paraCadaFragmento(fragmento -> mensagemArquivadaRepository.count())
+                    .stream().mapToLong(Long::longValue).sum());
+            emExecucao.set(false);
+        }
+    }
+
+    private Progresso arquivar(LocalDateTime corte) {
+        var movidas = 0L;
+        var lotes = 0;
+
+        while (true) {
+            var inicioLote = System.nanoTime();
+            var quantidade = transactionTemplate.execute(status -> moverLote(corte));
+            meterRegistry.timer(METRICA_LOTE).record(Duration.ofNanos(System.nanoTime() - inicioLote));
+
+            if (quantidade == null || quantidade == 0) {
+                break;
+            }
+            movidas += quantidade;
+            lotes++;
+            meterRegistry.counter(METRICA_MOVIDAS).increment(quantidade);
+
+            if (quantidade < arquivamentoProperties.getTamanhoLote() || !pausar()) {
+                break;
+            }
+        }
+        return new Progresso(movidas, lotes);
+    }
+
+    @Override
+    public Optional<Mensagem> buscarMensagem(UUID id) {
+        if (!arquivamentoProperties.isHabilitado()) {
+            return Optional.empty();
+        }
+        return mensagemArquivadaRepository.findById(id).map(MensagemArquivada::toMensagem);
+    }
+
+    @Override
+    public List<Mensagem> buscarMensagens(Collection<UUID> ids) {
+        if (!arquivamentoProperties.isHabilitado() || ids.isEmpty()) {
+            return List.of();
+        }
+        return mensagemArquivadaRepository.findAllById(ids).stream()
+                .map(MensagemArquivada::toMensagem)
+                .toList();
+    }
+
+    @Override
+    public Optional<Mensagem> alterarConteudo(UUID id, String conteudo) {
+        if (!arquivamentoProperties.isHabilitado()) {
+            return Optional.empty();
+        }
+        return mensagemArquivadaRepository.findById(id).map(mensagemArquivada -> {
+            mensagemArquivada.setConteudo(conteudo);
+            return mensagemArquivadaRepository.save(mensagemArquivada).toMensagem();
+        });
+    }
+
+    @Override
+    public Optional<Mensagem> incrementarGostei(UUID id) {
+        if (!arquivamentoProperties.isHabilitado() || mensagemArquivadaRepository.incrementarGostei(id, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        return mensagemArquivadaRepository.findById(id).map(MensagemArquivada::toMensagem);
+    }
+
+    @Override
+    public Optional<Mensagem> removerMensagem(UUID id) {
+        if (!arquivamentoProperties.isHabilitado()) {
+            return Optional.empty();
+        }
+        return mensagemArquivadaRepository.findById(id).map(mensagemArquivada -> {
+            mensagemArquivadaRepository.delete(mensagemArquivada);
+            totalArquivado.updateAndGet(total -> total > 0 ? total - 1 : total);
+            return mensagemArquivada.toMensagem();
+        });
+    }
+
+    @Override
+    public Page<Mensagem> completarPagina(Page<Mensagem> paginaQuente, Pageable pageable) {
+        return completarPagina(paginaQuente, pageable, this::listarArquivadas);
+    }
+
+    @Override
+    public Page<Mensagem> completarPagina(Page<Mensagem> paginaQuente, Pageable pageable, Set<CampoMensagem> campos) {
+        return completarPagina(paginaQuente, pageable,
+                (inicio, limite) -> mensagemArquivadaRepository.listarMensagens(campos, inicio, limite));
+    }
+
+    @Override
+    public Page<Mensagem> listarMensagens(Pageable pageable) {
+        return listarMensagens(pageable, this::listarArquivadas);
+    }
+
+    @Override
+    public Page<Mensagem> listarMensagens(Pageable pageable, Set<CampoMensagem> campos) {
+        return listarMensagens(pageable,
+                (inicio, limite) -> mensagemArquivadaRepository.listarMensagens(campos, inicio, limite));
+    }
+
+    private Page<Mensagem> completarPagina(Page<Mensagem> paginaQuente, Pageable pageable,
+                                           BiFunction<Long, Integer, List<Mensagem>> listarArquivo) {
+        if (!arquivamentoProperties.isHabilitado() || pageable.isUnpaged()) {
+            return paginaQuente;
+        }
+        var totalQuente = paginaQuente.getTotalElements();
+        var quantidadeQuente = paginaQuente.getNumberOfElements();
+        if (quantidadeQuente == pageable.getPageSize()) {
+            return new PageImpl<>(paginaQuente.getContent(), pageable, totalQuente + totalArquivado());
+        }
+
+        var inicioArquivo = Math.max(0, pageable.getOffset() - totalQuente);
+        var conteudo = new ArrayList<>(paginaQuente.getContent());
+        conteudo.addAll(listarArquivo.apply(inicioArquivo, pageable.getPageSize() - quantidadeQuente));
+        var total = mensagemArquivadaRepository.count();
+        totalArquivado.set(total);
+        return new PageImpl<>(conteudo, pageable, totalQuente + total);
+    }
+
+    private Page<Mensagem> listarMensagens(Pageable pageable, BiFunction<Long, Integer, List<Mensagem>> listarArquivo) {
+        if (!arquivamentoProperties.isHabilitado()) {
+            return Page.empty(pageable);
+        }
+        var inicio = pageable.isPaged() ? pageable.getOffset() : 0;
+        var limite = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        return new PageImpl<>(listarArquivo.apply(inicio, limite), pageable, mensagemArquivadaRepository.count());
+    }
+
+    private List<Mensagem> listarArquivadas(long inicio, int limite) {
+        return mensagemArquivadaRepository.listarMensagens(inicio, limite).stream()
+                .map(MensagemArquivada::toMensagem)
+                .toList();
+    }
+
+    private long totalArquivado() {
+        var total = totalArquivado.get();
+        if (total < 0) {
+            total = mensagemArquivadaRepository.count();
+            totalArquivado.set(total);
+        }
+        return total;
+    }
+
+    private int moverLote(LocalDateTime corte) {
+        var chaves = mensagemRepository.buscarChavesAnteriores(corte, PageRequest.of(0, arquivamentoProperties.getTamanhoLote()));
+        if (chaves.isEmpty()) {
+            return 0;
+        }
+        var ids = chaves.stream().map(ChaveMensagem::getId).toList();
+        mensagemArquivadaRepository.arquivarPorIds(ids);
+        mensagemRepository.removerPorIds(ids);
+        return ids.size();
+    }
+
+    private boolean pausar() {
+        var pausa = arquivamentoProperties.getPausaEntreLotes();
+        if (pausa.isZero() || pausa.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pausa.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Progresso(long movidas, int lotes) {
+    }
+}
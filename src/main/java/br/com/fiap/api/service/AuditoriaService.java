@@ -0,0 +1,12 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.AcaoAuditoria;
+
+import java.util.UUID;
+
+public interface AuditoriaService {
+
+    void registrar(AcaoAuditoria acao, UUID id, int status, long duracaoNanos, String cliente);
+
+    long descartados();
+}
@@ -0,0 +1,169 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.AuditoriaProperties;
+import br.com.fiap.api.event.AnelAuditoria;
+import br.com.fiap.api.event.ArquivoAuditoria;
+import br.com.fiap.api.model.AcaoAuditoria;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditoriaServiceImpl implements AuditoriaService {
+
+    private final AuditoriaProperties auditoriaProperties;
+
+    private final StringBuilder lote = new StringBuilder();
+
+    private AnelAuditoria anel;
+    private ArquivoAuditoria arquivo;
+    private Thread consumidor;
+    private long descartadosGravados;
+    // Lote já codificado que ainda não foi gravado; enquanto existir, o anel não é esvaziado.
+    private ByteBuffer pendente;
+    private boolean falhando;
+
+    private volatile boolean ativo;
+
+    @PostConstruct
+    public void iniciar() throws IOException {
+        if (!auditoriaProperties.isHabilitada()) {
+            return;
+        }
+        anel = new AnelAuditoria(auditoriaProperties.getCapacidade());
+        arquivo = new ArquivoAuditoria(Path.of(auditoriaProperties.getDiretorio()),
+                auditoriaProperties.getTamanhoArquivo().toBytes(), auditoriaProperties.getArquivosRetidos());
+        ativo = true;
+        consumidor = new Thread(this::consumir, "auditoria-consumidor");
+        consumidor.setDaemon(true);
+        consumidor.start();
+    }
+
+    // O consumidor esvazia o anel e grava o último lote antes de fechar o arquivo.
+    @PreDestroy
+    public void fechar() throws InterruptedException {
+        if (consumidor == null) {
+            return;
+        }
+        ativo = false;
+        LockSupport.unpark(consumidor);
+        consumidor.join(TimeUnit.SECONDS.toMillis(10));
+        if (consumidor.isAlive()) {
+            log.warn("consumidor de auditoria não terminou em 10s; registros ainda no anel podem se perder");
+        }
+    }
+
+    // Na thread da requisição: sem E/S, sem alocação de registro e sem trava.
+    @Override
+    public void registrar(AcaoAuditoria acao, UUID id, int status, long duracaoNanos, String cliente) {
+        if (anel != null) {
+            anel.publicar(acao, id, status, duracaoNanos, cliente);
+        }
+    }
+
+    @Override
+    public long descartados() {
+        return anel == null ? 0 : anel.descartados();
+    }
+
+    // Uma falha de gravação não encerra a thread: o lote fica pendente e é gravado de novo após uma pausa,
+    // enquanto o anel cheio descarta e conta os novos registros, como em qualquer outro atraso do consumidor.
+    private void consumir() {
+        while (true) {
+            // Lido antes de esvaziar: depois de ver ativo=false, uma última passada pega o que ainda restava.
+            var continuar = ativo;
+            var lidos = 0;
+            if (pendente == null) {
+                lidos = anel.consumir(auditoriaProperties.getTamanhoLote(), this::anexar);
+                anexarDescartados();
+            }
+            if (!gravar()) {
+                if (!continuar) {
+                    log.error("auditoria encerrada sem gravar {} bytes pendentes", pendente.remaining());
+                    break;
+                }
+                LockSupport.parkNanos(auditoriaProperties.getEsperaAposFalha().toNanos());
+                continue;
+            }
+            if (lidos == 0) {
+                if (!continuar) {
+                    break;
+                }
+                LockSupport.parkNanos(auditoriaProperties.getEspera().toNanos());
+            }
+        }
+        try {
+            arquivo.close();
+        } catch (IOException e) {
+            log.error("falha ao fechar o arquivo de auditoria", e);
+        }
+    }
+
+    private boolean gravar() {
+        if (pendente == null && !lote.isEmpty()) {
+            pendente = ByteBuffer.wrap(lote.toString().getBytes(StandardCharsets.UTF_8));
+            lote.setLength(0);
+        }
+        if (pendente == null) {
+            return true;
+        }
+        try {
+            arquivo.escrever(pendente);
+        } catch (IOException | RuntimeException e) {
+            // Só a primeira falha de uma sequência é registrada com a causa, para não inundar o log.
+            if (!falhando) {
+                log.error("falha ao gravar auditoria; nova tentativa em {}", auditoriaProperties.getEsperaAposFalha(), e);
+                falhando = true;
+            }
+            return false;
+        }
+        pendente = null;
+        if (falhando) {
+            log.warn("gravação de auditoria retomada");
+            falhando = false;
+        }
+        return true;
+    }
+
+    private void anexar(AnelAuditoria.Registro registro) {
+        lote.append("{\"instante\":\"").append(Instant.ofEpochMilli(registro.instante()))
+                .append("\",\"acao\":\"").append(registro.acao().name()).append('"');
+        var id = registro.id();
+        if (id != null) {
+            lote.append(",\"id\":\"").append(id).append('"');
+        }
+        lote.append(",\"status\":").append(registro.status())
+                .append(",\"duracaoMicros\":").append(TimeUnit.NANOSECONDS.toMicros(registro.duracaoNanos()));
+        if (registro.cliente() != null) {
+            lote.append(",\"cliente\":\"").append(escapar(registro.cliente())).append('"');
+        }
+        lote.append("}\n");
+    }
+
+    // Lacunas no registro ficam explícitas no próprio arquivo.
+    private void anexarDescartados() {
+        var descartados = anel.descartados();
+        if (descartados > descartadosGravados) {
+            lote.append("{\"instante\":\"").append(Instant.now())
+                    .append("\",\"descartados\":").append(descartados - descartadosGravados).append("}\n");
+            descartadosGravados = descartados;
+        }
+    }
+
+    private static String escapar(String valor) {
+        return valor.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.RespostaCodificada;
+
+import java.util.UUID;
+
+public interface CacheRespostaService {
+
+    RespostaCodificada codificar(Mensagem mensagem);
+
+    void remover(UUID id);
+
+    long tamanho();
+}
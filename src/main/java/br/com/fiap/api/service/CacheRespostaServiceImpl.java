@@ -0,0 +1,115 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.CacheRespostaProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.RespostaCodificada;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class CacheRespostaServiceImpl implements CacheRespostaService {
+
+    private final CacheRespostaProperties cacheRespostaProperties;
+    private final ObjectMapper objectMapper;
+
+    private final Object trava = new Object();
+
+    // Ordem de acesso: a primeira entrada é a menos usada recentemente.
+    private final LinkedHashMap<UUID, RespostaCodificada> entradas = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long bytes;
+
+    // A versão (atualizadoEm) vem da entidade recém-lida: uma entrada antiga nunca é servida, mesmo que uma leitura
+    // concorrente a tenha gravado depois da invalidação.
+    @Override
+    public RespostaCodificada codificar(Mensagem mensagem) {
+        var versao = mensagem.getAtualizadoEm() != null ? mensagem.getAtualizadoEm() : mensagem.getDataCriacao();
+        if (cacheRespostaProperties.isHabilitado() && versao != null) {
+            synchronized (trava) {
+                var entrada = entradas.get(mensagem.getId());
+                if (entrada != null && versao.equals(entrada.versao())) {
+                    return entrada;
+                }
+            }
+        }
+
+        var json = serializar(mensagem);
+        var gzip = json.length >= cacheRespostaProperties.getComprimirAPartirDe().toBytes() ? comprimir(json) : null;
+        var codificada = new RespostaCodificada(versao, json, gzip != null && gzip.length < json.length ? gzip : null);
+        if (cacheRespostaProperties.isHabilitado() && versao != null) {
+            guardar(mensagem.getId(), codificada);
+        }
+        return codificada;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMensagem(MensagemEvento evento) {
+        if (evento.getTipo() != TipoEventoMensagem.REGISTRADA) {
+            remover(evento.getId());
+        }
+    }
+
+    @Override
+    public void remover(UUID id) {
+        synchronized (trava) {
+            var anterior = entradas.remove(id);
+            if (anterior != null) {
+                bytes -= anterior.tamanho();
+            }
+        }
+    }
+
+    @Override
+    public long tamanho() {
+        synchronized (trava) {
+            return bytes;
+        }
+    }
+
+    private void guardar(UUID id, RespostaCodificada codificada) {
+        var capacidade = cacheRespostaProperties.getCapacidade().toBytes();
+        if (codificada.tamanho() > capacidade) {
+            return;
+        }
+        synchronized (trava) {
+            var anterior = entradas.put(id, codificada);
+            bytes += codificada.tamanho() - (anterior == null ? 0 : anterior.tamanho());
+            var iterador = entradas.values().iterator();
+            while (bytes > capacidade) {
+                bytes -= iterador.next().tamanho();
+                iterador.remove();
+            }
+        }
+    }
+
+    private byte[] serializar(Mensagem mensagem) {
+        try {
+            return objectMapper.writeValueAsBytes(mensagem);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] comprimir(byte[] json) {
+        var saida = new ByteArrayOutputStream(json.length / 2);
+        try (var gzip = new GZIPOutputStream(saida)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+}
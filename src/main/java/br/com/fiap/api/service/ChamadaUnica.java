@@ -0,0 +1,45 @@
+package br.com.fiap.api.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Chamadas concorrentes com a mesma chave compartilham uma única execução e o seu resultado (ou falha).
+final class ChamadaUnica<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+    V executar(K chave, Supplier<V> operacao) {
+        var nova = new CompletableFuture<V>();
+        var existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            return aguardar(existente);
+        }
+        try {
+            var resultado = operacao.get();
+            nova.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            nova.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Removida assim que termina: a próxima chamada consulta de novo, inclusive depois de uma falha.
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    private static <V> V aguardar(CompletableFuture<V> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+}
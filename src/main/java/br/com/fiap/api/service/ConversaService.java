@@ -0,0 +1,10 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.ConversaMensagem;
+
+import java.util.UUID;
+
+public interface ConversaService {
+
+    ConversaMensagem buscarConversa(UUID id, String cursor, int limite);
+}
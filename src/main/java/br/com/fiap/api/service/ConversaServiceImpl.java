@@ -0,0 +1,167 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.ArquivamentoProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.exception.MensagemInvalidaException;
+import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.model.ConversaMensagem;
+import br.com.fiap.api.model.CursorPaginacao;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemArquivada;
+import br.com.fiap.api.model.NoConversa;
+import br.com.fiap.api.repository.MensagemArquivadaRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ConversaServiceImpl implements ConversaService {
+
+    static final int LIMITE_RESPOSTAS = 100;
+    static final int LIMITE_DESCENDENTES = 1000;
+
+    // Mesma ordem do banco: data e depois o UUID comparado byte a byte (sem sinal).
+    static final Comparator<Mensagem> ORDEM_RESPOSTA = Comparator.comparing(Mensagem::getDataCriacao)
+            .thenComparing(Mensagem::getId, SincronizacaoServiceImpl::compararUuid);
+
+    private final MensagemRepository mensagemRepository;
+    private final MensagemArquivadaRepository mensagemArquivadaRepository;
+    private final ArquivamentoProperties arquivamentoProperties;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    // Síncrono: o contador muda na mesma transação (e no mesmo fragmento) que registrou ou removeu a resposta.
+    @EventListener
+    public void aoAlterarMensagem(MensagemEvento evento) {
+        if (evento.getMensagem() == null || evento.getMensagem().getRespostaDe() == null) {
+            return;
+        }
+        var respostaDe = evento.getMensagem().getRespostaDe();
+        if (evento.getTipo() == TipoEventoMensagem.REGISTRADA && !alterarRespostas(respostaDe, 1)) {
+            throw new MensagemInvalidaException("mensagem respondida não existe");
+        }
+        if (evento.getTipo() == TipoEventoMensagem.REMOVIDA) {
+            alterarRespostas(respostaDe, -1);
+        }
+    }
+
+    @Override
+    public ConversaMensagem buscarConversa(UUID id, String cursor, int limite) {
+        var posicao = cursor == null ? null : CursorPaginacao.decodificar(cursor);
+        var quantidade = Math.max(1, Math.min(limite, LIMITE_RESPOSTAS));
+        // Respostas são gravadas no fragmento da mensagem respondida: a conversa inteira está em um só banco.
+        return roteadorFragmentos.consultar(roteadorFragmentos.fragmentoDe(id),
+                () -> montarConversa(id, posicao, quantidade));
+    }
+
+    private ConversaMensagem montarConversa(UUID id, CursorPaginacao posicao, int quantidade) {
+        var mensagem = mensagemRepository.findById(id)
+                .or(() -> arquivamentoProperties.isHabilitado()
+                        ? mensagemArquivadaRepository.findById(id).map(MensagemArquivada::toMensagem)
+                        : Optional.<Mensagem>empty())
+                .orElseThrow(MensagemNotFoundException::naoEncontrada);
+
+        // Um item a mais por fonte indica se ainda há respostas diretas depois desta página.
+        var pagina = PageRequest.of(0, quantidade + 1);
+        var fontes = new ArrayList<List<Mensagem>>(2);
+        fontes.add(posicao == null
+                ? mensagemRepository.buscarRespostas(id, pagina)
+                : mensagemRepository.buscarRespostas(id, posicao.data(), posicao.id(), pagina));
+        if (arquivamentoProperties.isHabilitado()) {
+            fontes.add((posicao == null
+                    ? mensagemArquivadaRepository.buscarRespostas(id, pagina)
+                    : mensagemArquivadaRepository.buscarRespostas(id, posicao.data(), posicao.id(), pagina))
+                    .stream().map(MensagemArquivada::toMensagem).toList());
+        }
+        var diretas = Intercalacao.intercalar(fontes, ORDEM_RESPOSTA, 0, quantidade + 1);
+        var temMais = diretas.size() > quantidade;
+        if (temMais) {
+            diretas = diretas.subList(0, quantidade);
+        }
+
+        var descendentes = buscarDescendentes(diretas);
+        var truncada = descendentes.size() > LIMITE_DESCENDENTES;
+        if (truncada) {
+            descendentes = descendentes.subList(0, LIMITE_DESCENDENTES);
+        }
+        var ultima = diretas.isEmpty() ? null : diretas.get(diretas.size() - 1);
+        var proximoCursor = temMais ? new CursorPaginacao(ultima.getDataCriacao(), ultima.getId()).codificar() : null;
+        return new ConversaMensagem(mensagem, montarArvore(diretas, descendentes), proximoCursor, temMais, truncada);
+    }
+
+    // Uma consulta recursiva por tabela, independente da profundidade. Respostas são mais novas que a mensagem
+    // respondida, então o arquivamento nunca deixa uma resposta arquivada sob uma mensagem ainda quente.
+    private List<Mensagem> buscarDescendentes(List<Mensagem> diretas) {
+        if (diretas.isEmpty()) {
+            return List.of();
+        }
+        var raizes = new ArrayList<UUID>(diretas.size());
+        diretas.forEach(mensagem -> raizes.add(mensagem.getId()));
+
+        List<Mensagem> arquivadas = List.of();
+        if (arquivamentoProperties.isHabilitado()) {
+            var ids = mensagemArquivadaRepository.buscarDescendentes(raizes, LIMITE_DESCENDENTES + 1);
+            if (!ids.isEmpty()) {
+                arquivadas = mensagemArquivadaRepository.findAllById(ids).stream()
+                        .map(MensagemArquivada::toMensagem)
+                        .sorted(ORDEM_RESPOSTA)
+                        .toList();
+                raizes.addAll(ids);
+            }
+        }
+        var ids = mensagemRepository.buscarDescendentes(raizes, LIMITE_DESCENDENTES + 1);
+        var quentes = ids.isEmpty() ? List.<Mensagem>of() : mensagemRepository.buscarPorIds(ids);
+        return Intercalacao.intercalar(List.of(arquivadas, quentes), ORDEM_RESPOSTA, 0, LIMITE_DESCENDENTES + 1);
+    }
+
+    private static List<NoConversa> montarArvore(List<Mensagem> diretas, List<Mensagem> descendentes) {
+        var nos = new HashMap<UUID, NoConversa>();
+        var arvore = new ArrayList<NoConversa>(diretas.size());
+        for (var mensagem : diretas) {
+            var no = NoConversa.of(mensagem);
+            nos.put(mensagem.getId(), no);
+            arvore.add(no);
+        }
+        for (var mensagem : descendentes) {
+            nos.put(mensagem.getId(), NoConversa.of(mensagem));
+        }
+        // Respostas cujo pai ficou fora do limite são descartadas junto com ele.
+        for (var mensagem : descendentes) {
+            var pai = nos.get(mensagem.getRespostaDe());
+            if (pai != null) {
+                pai.respostas().add(nos.get(mensagem.getId()));
+            }
+        }
+        return arvore;
+    }
+
+    // Entidade gerenciada e bloqueada, como nas curtidas: só a entrada da mensagem respondida sai do cache,
+    // e a resposta recém-gravada continua gerenciada para os listeners seguintes.
+    private boolean alterarRespostas(UUID id, int delta) {
+        var mensagem = mensagemRepository.buscarParaAtualizar(id);
+        if (mensagem.isPresent()) {
+            mensagem.get().setRespostas(mensagem.get().getRespostas() + delta);
+            return true;
+        }
+        if (!arquivamentoProperties.isHabilitado()) {
+            return false;
+        }
+        return mensagemArquivadaRepository.buscarParaAtualizar(id)
+                .map(arquivada -> {
+                    arquivada.setRespostas(arquivada.getRespostas() + delta);
+                    return true;
+                })
+                .orElse(false);
+    }
+}
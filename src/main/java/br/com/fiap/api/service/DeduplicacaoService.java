@@ -0,0 +1,12 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.Mensagem;
+
+import java.util.Optional;
+
+public interface DeduplicacaoService {
+
+    Optional<Mensagem> buscarDuplicada(Mensagem mensagem);
+
+    void registrar(Mensagem mensagem);
+}
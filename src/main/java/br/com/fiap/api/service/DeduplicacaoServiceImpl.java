@@ -0,0 +1,114 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.DeduplicacaoProperties;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class DeduplicacaoServiceImpl implements DeduplicacaoService {
+
+    static final String METRICA_VERIFICACOES = "mensagem.deduplicacao.verificacoes";
+    static final String METRICA_TAXA_FALSO_POSITIVO = "mensagem.deduplicacao.taxa_falso_positivo_estimada";
+
+    private final MensagemRepository mensagemRepository;
+    private final DeduplicacaoProperties deduplicacaoProperties;
+    private final MeterRegistry meterRegistry;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    // Duas gerações do filtro: cada hash permanece visível por no mínimo uma janela completa.
+    private volatile FiltroBloom geracaoAtual;
+    private volatile FiltroBloom geracaoAnterior;
+    private volatile long inicioGeracao;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aquecer() {
+        if (!deduplicacaoProperties.isHabilitada()) {
+            return;
+        }
+        rotacionar(System.nanoTime());
+        var corte = LocalDateTime.now().minus(deduplicacaoProperties.getJanela());
+        roteadorFragmentos.consultarTodos(fragmento -> mensagemRepository.buscarHashesConteudoDesde(corte))
+                .forEach(hashes -> hashes.forEach(geracaoAtual::adicionar));
+        Gauge.builder(METRICA_TAXA_FALSO_POSITIVO, this, DeduplicacaoServiceImpl::taxaFalsoPositivoEstimada)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Mensagem> buscarDuplicada(Mensagem mensagem) {
+        if (!deduplicacaoProperties.isHabilitada()) {
+            return Optional.empty();
+        }
+        var hash = Mensagem.calcularHashConteudo(mensagem.getUsuario(), mensagem.getConteudo());
+        if (!podeConter(hash)) {
+            contar("filtrada");
+            return Optional.empty();
+        }
+
+        var corte = LocalDateTime.now().minus(deduplicacaoProperties.getJanela());
+        var duplicada = roteadorFragmentos.consultarTodos(fragmento -> mensagemRepository.buscarDuplicadas(
+                        hash, mensagem.getUsuario(), mensagem.getConteudo(), mensagem.getRespostaDe(), corte,
+                        PageRequest.of(0, 1)))
+                .stream()
+                .flatMap(List::stream)
+                .findFirst();
+        contar(duplicada.isPresent() ? "duplicada" : "falso_positivo");
+        return duplicada;
+    }
+
+    @Override
+    public void registrar(Mensagem mensagem) {
+        if (!deduplicacaoProperties.isHabilitada()) {
+            return;
+        }
+        var hash = Mensagem.calcularHashConteudo(mensagem.getUsuario(), mensagem.getConteudo());
+        filtroAtual().adicionar(hash);
+    }
+
+    double taxaFalsoPositivoEstimada() {
+        var atual = geracaoAtual;
+        var anterior = geracaoAnterior;
+        var taxaAtual = atual == null ? 0 : atual.taxaFalsoPositivoEstimada();
+        var taxaAnterior = anterior == null ? 0 : anterior.taxaFalsoPositivoEstimada();
+        return 1 - (1 - taxaAtual) * (1 - taxaAnterior);
+    }
+
+    private boolean podeConter(long hash) {
+        var atual = filtroAtual();
+        var anterior = geracaoAnterior;
+        return atual.podeConter(hash) || (anterior != null && anterior.podeConter(hash));
+    }
+
+    private FiltroBloom filtroAtual() {
+        var agora = System.nanoTime();
+        if (geracaoAtual == null || agora - inicioGeracao >= deduplicacaoProperties.getJanela().toNanos()) {
+            rotacionar(agora);
+        }
+        return geracaoAtual;
+    }
+
+    private synchronized void rotacionar(long agora) {
+        if (geracaoAtual != null && agora - inicioGeracao < deduplicacaoProperties.getJanela().toNanos()) {
+            return;
+        }
+        geracaoAnterior = geracaoAtual;
+        geracaoAtual = new FiltroBloom(deduplicacaoProperties.getCapacidade(), deduplicacaoProperties.getTaxaFalsoPositivo());
+        inicioGeracao = agora;
+    }
+
+    private void contar(String resultado) {
+        meterRegistry.counter(METRICA_VERIFICACOES, "resultado", resultado).increment();
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.EstatisticaUsuario;
+
+public interface EstatisticaUsuarioService {
+
+    EstatisticaUsuario buscarEstatisticas(String usuario);
+
+    long reconciliar();
+}
@@ -0,0 +1,143 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.EstatisticaProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.exception.UsuarioNotFoundException;
+import br.com.fiap.api.model.EstatisticaUsuario;
+import br.com.fiap.api.repository.EstatisticaUsuarioRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class EstatisticaUsuarioServiceImpl implements EstatisticaUsuarioService {
+
+    private final EstatisticaUsuarioRepository estatisticaUsuarioRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EstatisticaProperties estatisticaProperties;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    // Cada fragmento guarda os totais das mensagens que abriga; a leitura soma as parciais.
+    @Override
+    public EstatisticaUsuario buscarEstatisticas(String usuario) {
+        return roteadorFragmentos.consultarTodos(fragmento -> estatisticaUsuarioRepository.findById(usuario))
+                .stream()
+                .flatMap(Optional::stream)
+                .reduce(EstatisticaUsuarioServiceImpl::somar)
+                .orElseThrow(UsuarioNotFoundException::naoEncontrado);
+    }
+
+    // Executa de forma síncrona, dentro da mesma transação que alterou a mensagem.
+    @EventListener
+    public void aoAlterarMensagem(MensagemEvento evento) {
+        var mensagem = evento.getMensagem();
+        if (mensagem == null) {
+            return;
+        }
+        var usuario = mensagem.getUsuario();
+        switch (evento.getTipo()) {
+            case REGISTRADA -> atualizar(usuario, () -> estatisticaUsuarioRepository
+                    .registrarPublicacao(usuario, mensagem.getGostei(), mensagem.getDataCriacao()));
+            case CURTIDA -> atualizar(usuario, () -> estatisticaUsuarioRepository.registrarGostei(usuario, 1));
+            case REMOVIDA -> estatisticaUsuarioRepository.registrarRemocao(usuario, mensagem.getGostei());
+            default -> {
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconciliarNaInicializacao() {
+        if (estatisticaProperties.isReconciliarNaInicializacao()) {
+            reconciliar();
+        }
+    }
+
+    @Scheduled(cron = "${mensagem.estatisticas.cron:0 30 4 * * *}")
+    public void executarReconciliacaoAgendada() {
+        reconciliar();
+    }
+
+    @Override
+    public long reconciliar() {
+        return roteadorFragmentos.paraCadaFragmento(fragmento -> reconciliarFragmento())
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    private long reconciliarFragmento() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var cursor = "";
+        var usuarios = 0L;
+        while (true) {
+            var ultimoCursor = cursor;
+            var lote = transactionTemplate.execute(status -> reconciliarLote(ultimoCursor));
+            if (lote == null || lote.isEmpty()) {
+                break;
+            }
+            usuarios += lote.size();
+            cursor = lote.get(lote.size() - 1);
+            if (lote.size() < estatisticaProperties.getTamanhoLote()) {
+                break;
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> estatisticaUsuarioRepository.removerOrfas());
+        return usuarios;
+    }
+
+    private List<String> reconciliarLote(String cursor) {
+        var tamanhoLote = estatisticaProperties.getTamanhoLote();
+        var pagina = PageRequest.of(0, tamanhoLote);
+        var usuarios = new TreeSet<>(estatisticaUsuarioRepository.buscarUsuariosQuentes(cursor, pagina));
+        usuarios.addAll(estatisticaUsuarioRepository.buscarUsuariosArquivados(cursor, pagina));
+        var lote = usuarios.stream().limit(tamanhoLote).toList();
+        if (lote.isEmpty()) {
+            return lote;
+        }
+
+        var existentes = estatisticaUsuarioRepository.findAllById(lote).stream()
+                .map(EstatisticaUsuario::getUsuario)
+                .collect(Collectors.toSet());
+        var novos = lote.stream()
+                .filter(usuario -> !existentes.contains(usuario))
+                .map(usuario -> new EstatisticaUsuario(usuario, 0, 0, null))
+                .toList();
+        estatisticaUsuarioRepository.saveAllAndFlush(novos);
+        estatisticaUsuarioRepository.recalcular(lote);
+        return lote;
+    }
+
+    private static EstatisticaUsuario somar(EstatisticaUsuario a, EstatisticaUsuario b) {
+        var ultimaPublicacao = Stream.of(a.getUltimaPublicacao(), b.getUltimaPublicacao())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new EstatisticaUsuario(a.getUsuario(),
+                a.getTotalMensagens() + b.getTotalMensagens(),
+                a.getTotalGostei() + b.getTotalGostei(),
+                ultimaPublicacao);
+    }
+
+    private void atualizar(String usuario, IntSupplier atualizacao) {
+        if (atualizacao.getAsInt() == 0) {
+            estatisticaUsuarioRepository.criarSeAusente(usuario);
+            atualizacao.getAsInt();
+        }
+    }
+}
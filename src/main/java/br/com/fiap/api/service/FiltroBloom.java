@@ -0,0 +1,57 @@
+package br.com.fiap.api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class FiltroBloom {
+
+    private final AtomicLongArray palavras;
+    private final long tamanho;
+    private final int funcoes;
+    private final AtomicLong bitsLigados = new AtomicLong();
+
+    FiltroBloom(int capacidade, double taxaFalsoPositivo) {
+        var log2 = Math.log(2);
+        var bits = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (log2 * log2));
+        this.palavras = new AtomicLongArray((int) Math.max(1, (bits + 63) / 64));
+        this.tamanho = palavras.length() * 64L;
+        this.funcoes = Math.max(1, (int) Math.round((double) tamanho / capacidade * log2));
+    }
+
+    void adicionar(long hash) {
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        for (var i = 0; i < funcoes; i++) {
+            ligar(Math.floorMod(h1 + (long) i * h2, tamanho));
+        }
+    }
+
+    boolean podeConter(long hash) {
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+        for (var i = 0; i < funcoes; i++) {
+            var indice = Math.floorMod(h1 + (long) i * h2, tamanho);
+            if ((palavras.get((int) (indice >>> 6)) & (1L << indice)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    double taxaFalsoPositivoEstimada() {
+        return Math.pow((double) bitsLigados.get() / tamanho, funcoes);
+    }
+
+    private void ligar(long indice) {
+        var palavra = (int) (indice >>> 6);
+        var mascara = 1L << indice;
+        long atual;
+        do {
+            atual = palavras.get(palavra);
+            if ((atual & mascara) != 0) {
+                return;
+            }
+        } while (!palavras.compareAndSet(palavra, atual, atual | mascara));
+        bitsLigados.incrementAndGet();
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.fiap.api.service;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+public interface IdempotenciaService {
+
+    String CABECALHO_CHAVE = "Idempotency-Key";
+
+    String CABECALHO_REPETIDA = "Idempotent-Replayed";
+
+    ResponseEntity<?> executar(String chave, String impressao, Supplier<ResponseEntity<?>> operacao);
+}
@@ -0,0 +1,150 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.IdempotenciaProperties;
+import br.com.fiap.api.exception.IdempotenciaConflitoException;
+import br.com.fiap.api.exception.IdempotenciaEmAndamentoException;
+import br.com.fiap.api.model.Mensagem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+public class IdempotenciaServiceImpl implements IdempotenciaService {
+
+    // Cabeçalhos, objetos e a própria entrada, além do texto contado em tamanho().
+    static final int CUSTO_FIXO_ENTRADA = 256;
+
+    private final IdempotenciaProperties idempotenciaProperties;
+
+    private final ConcurrentHashMap<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    // Ordem de inserção para despejar primeiro as entradas mais antigas.
+    private final ConcurrentLinkedQueue<Entrada> ordemInsercao = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong bytesArmazenados = new AtomicLong();
+
+    @Override
+    public ResponseEntity<?> executar(String chave, String impressao, Supplier<ResponseEntity<?>> operacao) {
+        while (true) {
+            var agora = System.nanoTime();
+            var nova = new Entrada(chave, impressao, new CompletableFuture<>(), agora);
+            var existente = entradas.putIfAbsent(chave, nova);
+            if (existente == null) {
+                ordemInsercao.add(nova);
+                return executarPrimeira(nova, operacao);
+            }
+            if (expirada(existente, agora) && existente.resposta().isDone()) {
+                remover(existente);
+                continue;
+            }
+            if (!existente.impressao().equals(impressao)) {
+                throw new IdempotenciaConflitoException("Idempotency-Key já utilizada em outra requisição");
+            }
+            var resposta = aguardar(existente);
+            if (resposta != null) {
+                return ResponseEntity.status(resposta.entidade().getStatusCode())
+                        .headers(resposta.entidade().getHeaders())
+                        .header(CABECALHO_REPETIDA, "true")
+                        .body(resposta.entidade().getBody());
+            }
+        }
+    }
+
+    private ResponseEntity<?> executarPrimeira(Entrada entrada, Supplier<ResponseEntity<?>> operacao) {
+        ResponseEntity<?> resposta;
+        try {
+            resposta = operacao.get();
+        } catch (Throwable e) {
+            // Sem resposta para repetir: libera a chave para que a próxima tentativa execute de novo.
+            entradas.remove(entrada.chave(), entrada);
+            entrada.resposta().completeExceptionally(e);
+            throw e;
+        }
+        var tamanho = tamanho(entrada, resposta);
+        bytesArmazenados.addAndGet(tamanho);
+        entrada.resposta().complete(new Resposta(resposta, tamanho));
+        despejar(System.nanoTime());
+        return resposta;
+    }
+
+    private Resposta aguardar(Entrada entrada) {
+        try {
+            return entrada.resposta().get(idempotenciaProperties.getEsperaMaxima().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            throw new IdempotenciaEmAndamentoException("requisição com a mesma Idempotency-Key em processamento");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotenciaEmAndamentoException("requisição com a mesma Idempotency-Key em processamento");
+        }
+    }
+
+    private void despejar(long agora) {
+        for (var iterador = ordemInsercao.iterator(); iterador.hasNext(); ) {
+            var entrada = iterador.next();
+            var ativa = entradas.get(entrada.chave()) == entrada;
+            // Em andamento nunca é despejada: liberar a chave deixaria a mesma requisição executar duas vezes.
+            if (ativa && !entrada.resposta().isDone()) {
+                continue;
+            }
+            if (ativa && !expirada(entrada, agora) && !excedeCapacidade()) {
+                break;
+            }
+            iterador.remove();
+            remover(entrada);
+        }
+    }
+
+    private boolean excedeCapacidade() {
+        return entradas.size() > idempotenciaProperties.getCapacidade()
+                || bytesArmazenados.get() > idempotenciaProperties.getCapacidadeBytes().toBytes();
+    }
+
+    // Só entradas concluídas com sucesso continuam no mapa: as que falham saem antes de completar o futuro.
+    private void remover(Entrada entrada) {
+        if (entradas.remove(entrada.chave(), entrada)) {
+            bytesArmazenados.addAndGet(-entrada.resposta().getNow(null).tamanho());
+        }
+    }
+
+    // Estimativa a partir da entidade, sem serializar o corpo uma segunda vez: texto conta 2 bytes por caractere.
+    private static long tamanho(Entrada entrada, ResponseEntity<?> resposta) {
+        var tamanho = CUSTO_FIXO_ENTRADA + 2L * (entrada.chave().length() + entrada.impressao().length());
+        var contentLength = resposta.getHeaders().getContentLength();
+        if (contentLength > 0) {
+            return tamanho + contentLength;
+        }
+        if (resposta.getBody() instanceof Mensagem mensagem) {
+            return tamanho + 2L * (comprimento(mensagem.getUsuario()) + comprimento(mensagem.getConteudo()));
+        }
+        if (resposta.getBody() instanceof CharSequence texto) {
+            return tamanho + 2L * texto.length();
+        }
+        return tamanho;
+    }
+
+    private static int comprimento(String texto) {
+        return texto == null ? 0 : texto.length();
+    }
+
+    private boolean expirada(Entrada entrada, long agora) {
+        return agora - entrada.criadaEm() >= idempotenciaProperties.getTtl().toNanos();
+    }
+
+    private record Entrada(String chave, String impressao, CompletableFuture<Resposta> resposta, long criadaEm) {
+    }
+
+    private record Resposta(ResponseEntity<?> entidade, long tamanho) {
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.fiap.api.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Intercalação de k listas já ordenadas: um heap com a cabeça de cada lista, O(n log k).
+final class Intercalacao {
+
+    private Intercalacao() {
+    }
+
+    static <T> List<T> intercalar(List<? extends List<? extends T>> listas, Comparator<? super T> ordem,
+                                  long inicio, int limite) {
+        var heap = new PriorityQueue<Cursor<T>>(Math.max(1, listas.size()),
+                (a, b) -> ordem.compare(a.atual, b.atual));
+        for (var lista : listas) {
+            var cursor = new Cursor<T>(lista.iterator());
+            if (cursor.avancar()) {
+                heap.add(cursor);
+            }
+        }
+
+        var resultado = new ArrayList<T>();
+        var posicao = 0L;
+        while (!heap.isEmpty() && resultado.size() < limite) {
+            var cursor = heap.poll();
+            if (posicao++ >= inicio) {
+                resultado.add(cursor.atual);
+            }
+            if (cursor.avancar()) {
+                heap.add(cursor);
+            }
+        }
+        return resultado;
+    }
+
+    private static final class Cursor<T> {
+
+        private final Iterator<? extends T> iterador;
+        private T atual;
+
+        private Cursor(Iterator<? extends T> iterador) {
+            this.iterador = iterador;
+        }
+
+        private boolean avancar() {
+            if (!iterador.hasNext()) {
+                return false;
+            }
+            atual = iterador.next();
+            return true;
+        }
+    }
+}
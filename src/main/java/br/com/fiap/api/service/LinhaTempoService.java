@@ -0,0 +1,16 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.LinhaTempo;
+
+public interface LinhaTempoService {
+
+    void seguir(String seguidor, String seguido);
+
+    void deixarDeSeguir(String seguidor, String seguido);
+
+    LinhaTempo buscarLinhaTempo(String usuario, String cursor, int limite);
+
+    void atualizarAutoresPopulares();
+
+    int expurgarEntradas();
+}
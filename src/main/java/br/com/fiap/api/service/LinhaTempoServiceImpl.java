@@ -0,0 +1,271 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.LinhaTempoProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.exception.SeguidorInvalidoException;
+import br.com.fiap.api.model.CursorPaginacao;
+import br.com.fiap.api.model.EntradaLinhaTempo;
+import br.com.fiap.api.model.LinhaTempo;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.Seguidor;
+import br.com.fiap.api.repository.LinhaTempoRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import br.com.fiap.api.repository.SeguidorRepository;
+import br.com.fiap.api.repository.TotalSeguidoresRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LinhaTempoServiceImpl implements LinhaTempoService {
+
+    static final int LIMITE_ENTRADAS = 100;
+    static final int LIMITE_PREENCHIMENTO = 50;
+
+    // Mais recentes primeiro; empate pelo UUID sem sinal, como o ORDER BY ... DESC do banco.
+    static final Comparator<CursorPaginacao> ORDEM = Comparator.comparing(CursorPaginacao::data)
+            .thenComparing(CursorPaginacao::id, SincronizacaoServiceImpl::compararUuid)
+            .reversed();
+
+    private final SeguidorRepository seguidorRepository;
+    private final TotalSeguidoresRepository totalSeguidoresRepository;
+    private final LinhaTempoRepository linhaTempoRepository;
+    private final MensagemRepository mensagemRepository;
+    private final MensagemService mensagemService;
+    private final LinhaTempoProperties linhaTempoProperties;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    // Uma só thread: as distribuições saem na ordem de registro e não disputam conexões com as requisições.
+    private ThreadPoolExecutor distribuidor;
+
+    // Com a fila cheia a distribuição é descartada e contada, como no anel de auditoria: quem publica nunca a executa.
+    private final LongAdder descartadas = new LongAdder();
+
+    // Autores acima do limite de distribuição; cada instância mantém a sua cópia, atualizada periodicamente.
+    private volatile Set<String> autoresPopulares = Set.of();
+
+    @PostConstruct
+    public void iniciar() {
+        distribuidor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(linhaTempoProperties.getCapacidadeFila()), tarefa -> {
+                    var thread = new Thread(tarefa, "linha-tempo-distribuicao");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (tarefa, executor) -> {
+                    descartadas.increment();
+                    log.warn("Fila de distribuição cheia; distribuição descartada ({} no total)", descartadas.sum());
+                });
+    }
+
+    long distribuicoesDescartadas() {
+        return descartadas.sum();
+    }
+
+    @PreDestroy
+    public void fechar() {
+        distribuidor.shutdown();
+    }
+
+    // Depois do commit, fora da requisição: o custo de escrever em N linhas do tempo não recai sobre quem publica.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMensagem(MensagemEvento evento) {
+        var mensagem = evento.getMensagem();
+        if (evento.getTipo() != TipoEventoMensagem.REGISTRADA || mensagem == null
+                || autoresPopulares.contains(mensagem.getUsuario())) {
+            return;
+        }
+        // Só o necessário para o INSERT: a tarefa na fila não retém o conteúdo da mensagem.
+        var distribuicao = new Distribuicao(mensagem.getId(), mensagem.getUsuario(), mensagem.getDataCriacao());
+        distribuidor.execute(() -> distribuir(distribuicao));
+    }
+
+    void distribuir(Distribuicao distribuicao) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                roteadorFragmentos.paraCadaFragmento(fragmento -> roteadorFragmentos.executar(fragmento,
+                        () -> linhaTempoRepository.distribuir(distribuicao.id(), distribuicao.autor(), distribuicao.dataCriacao())));
+                return;
+            } catch (RuntimeException e) {
+                if (tentativa >= linhaTempoProperties.getTentativas() || !esperarNovaTentativa()) {
+                    log.error("Distribuição da mensagem {} abandonada após {} tentativa(s)", distribuicao.id(), tentativa, e);
+                    return;
+                }
+                log.warn("Distribuição da mensagem {} falhou na tentativa {}", distribuicao.id(), tentativa, e);
+            }
+        }
+    }
+
+    private boolean esperarNovaTentativa() {
+        try {
+            Thread.sleep(linhaTempoProperties.getEsperaEntreTentativas().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void seguir(String seguidor, String seguido) {
+        if (seguidor.equals(seguido)) {
+            throw new SeguidorInvalidoException("usuário não pode seguir a si mesmo");
+        }
+        var recentes = autoresPopulares.contains(seguido) ? List.<CursorPaginacao>of() : buscarRecentes(seguido);
+        // Relação e preenchimento no mesmo commit: a distribuição concorrente enxerga os dois ou nenhum, e o
+        // NOT EXISTS do INSERT evita a entrada repetida. Dois pedidos concorrentes para o mesmo par: um só cria.
+        boolean novo = roteadorFragmentos.executar(roteadorFragmentos.fragmentoDe(seguidor), () -> {
+            if (!seguidorRepository.criarSeAusente(seguidor, seguido, LocalDateTime.now())) {
+                return false;
+            }
+            linhaTempoRepository.saveAll(recentes.stream()
+                    .map(posicao -> new EntradaLinhaTempo(seguidor, posicao.id(), seguido, posicao.data()))
+                    .toList());
+            return true;
+        });
+        if (novo) {
+            roteadorFragmentos.executar(roteadorFragmentos.fragmentoDe(seguido), () -> {
+                totalSeguidoresRepository.criarSeAusente(seguido);
+                return totalSeguidoresRepository.alterarTotal(seguido, 1);
+            });
+        }
+    }
+
+    // Mensagens recentes do autor para preencher a linha do tempo; as seguintes chegam pela distribuição.
+    private List<CursorPaginacao> buscarRecentes(String autor) {
+        return Intercalacao.intercalar(roteadorFragmentos.consultarTodos(fragmento -> mensagemRepository
+                        .buscarPorAutores(List.of(autor), PageRequest.of(0, LIMITE_PREENCHIMENTO)).stream()
+                        .map(LinhaTempoServiceImpl::posicao)
+                        .toList()),
+                ORDEM, 0, LIMITE_PREENCHIMENTO);
+    }
+
+    @Override
+    public void deixarDeSeguir(String seguidor, String seguido) {
+        boolean removido = roteadorFragmentos.executar(roteadorFragmentos.fragmentoDe(seguidor), () -> {
+            var chave = new Seguidor.Chave(seguidor, seguido);
+            if (!seguidorRepository.existsById(chave)) {
+                return false;
+            }
+            seguidorRepository.deleteById(chave);
+            linhaTempoRepository.removerDoAutor(seguidor, seguido);
+            return true;
+        });
+        if (removido) {
+            roteadorFragmentos.executar(roteadorFragmentos.fragmentoDe(seguido),
+                    () -> totalSeguidoresRepository.alterarTotal(seguido, -1));
+        }
+    }
+
+    @Override
+    public LinhaTempo buscarLinhaTempo(String usuario, String cursor, int limite) {
+        var posicao = cursor == null ? null : CursorPaginacao.decodificar(cursor);
+        var quantidade = Math.max(1, Math.min(limite, LIMITE_ENTRADAS));
+        // Um item a mais por fonte indica se ainda há mensagens depois desta página.
+        var pagina = PageRequest.of(0, quantidade + 1);
+        var populares = autoresPopulares;
+
+        var fontes = new ArrayList<List<CursorPaginacao>>(2);
+        var seguidosPopulares = roteadorFragmentos.consultar(roteadorFragmentos.fragmentoDe(usuario), () -> {
+            fontes.add((posicao == null
+                    ? linhaTempoRepository.buscarEntradas(usuario, pagina)
+                    : linhaTempoRepository.buscarEntradas(usuario, posicao.data(), posicao.id(), pagina))
+                    .stream().map(entrada -> new CursorPaginacao(entrada.getDataCriacao(), entrada.getMensagemId()))
+                    .toList());
+            return populares.isEmpty() ? List.<String>of() : seguidorRepository.buscarSeguidos(usuario, populares);
+        });
+
+        // Mensagens de autores populares não são distribuídas: são lidas aqui, em todos os fragmentos.
+        var carregadas = new HashMap<UUID, Mensagem>();
+        if (!seguidosPopulares.isEmpty()) {
+            var mensagens = Intercalacao.intercalar(roteadorFragmentos.consultarTodos(fragmento -> posicao == null
+                            ? mensagemRepository.buscarPorAutores(seguidosPopulares, pagina)
+                            : mensagemRepository.buscarPorAutores(seguidosPopulares, posicao.data(), posicao.id(), pagina)),
+                    Comparator.comparing(LinhaTempoServiceImpl::posicao, ORDEM), 0, quantidade + 1);
+            mensagens.forEach(mensagem -> carregadas.put(mensagem.getId(), mensagem));
+            fontes.add(mensagens.stream().map(LinhaTempoServiceImpl::posicao).toList());
+        }
+
+        // Um autor que passou do limite ainda tem entradas distribuídas antes disso: a mesma mensagem pode vir das duas fontes.
+        var posicoes = new ArrayList<CursorPaginacao>(quantidade + 1);
+        var vistos = new HashSet<UUID>();
+        for (var item : Intercalacao.intercalar(fontes, ORDEM, 0, Integer.MAX_VALUE)) {
+            if (posicoes.size() > quantidade) {
+                break;
+            }
+            if (vistos.add(item.id())) {
+                posicoes.add(item);
+            }
+        }
+        var temMais = posicoes.size() > quantidade;
+        if (temMais) {
+            posicoes = new ArrayList<>(posicoes.subList(0, quantidade));
+        }
+
+        var faltantes = posicoes.stream().map(CursorPaginacao::id).filter(id -> !carregadas.containsKey(id)).toList();
+        if (!faltantes.isEmpty()) {
+            mensagemService.buscarMensagens(faltantes).getEncontradas()
+                    .forEach(mensagem -> carregadas.put(mensagem.getId(), mensagem));
+        }
+        // Entradas de mensagens já removidas são descartadas na leitura e somem no expurgo.
+        var mensagens = posicoes.stream().map(item -> carregadas.get(item.id())).filter(Objects::nonNull).toList();
+        var proximoCursor = temMais ? posicoes.get(posicoes.size() - 1).codificar() : null;
+        return new LinhaTempo(mensagens, proximoCursor, temMais);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${mensagem.linha-tempo.intervalo-autores-populares:PT1M}",
+            initialDelayString = "${mensagem.linha-tempo.intervalo-autores-populares:PT1M}")
+    public void atualizarAutoresPopulares() {
+        var populares = new HashSet<String>();
+        roteadorFragmentos.consultarTodos(fragmento -> totalSeguidoresRepository
+                        .buscarUsuariosComPeloMenos(linhaTempoProperties.getLimiteDistribuicao()))
+                .forEach(populares::addAll);
+        autoresPopulares = Set.copyOf(populares);
+    }
+
+    @Scheduled(cron = "${mensagem.linha-tempo.cron:0 15 4 * * *}")
+    public void executarExpurgoAgendado() {
+        expurgarEntradas();
+    }
+
+    @Override
+    public int expurgarEntradas() {
+        var corte = LocalDateTime.now().minus(linhaTempoProperties.getRetencao());
+        return roteadorFragmentos.paraCadaFragmento(fragmento -> roteadorFragmentos.executar(fragmento,
+                        () -> linhaTempoRepository.removerAnteriores(corte)))
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static CursorPaginacao posicao(Mensagem mensagem) {
+        return new CursorPaginacao(mensagem.getDataCriacao(), mensagem.getId());
+    }
+
+    record Distribuicao(UUID id, String autor, LocalDateTime dataCriacao) {
+    }
+}
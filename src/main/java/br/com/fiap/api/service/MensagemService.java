@@ -1,10 +1,14 @@
 package br.com.fiap.api.service;
 
+import br.com.fiap.api.model.CampoMensagem;
 import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.ResultadoBuscaMensagens;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface MensagemService {
@@ -13,9 +17,19 @@ public interface MensagemService {
 
     Mensagem buscarMensagem(UUID id);
 
+    Mensagem buscarMensagem(UUID id, Set<CampoMensagem> campos);
+
+    ResultadoBuscaMensagens buscarMensagens(List<UUID> ids);
+
     Mensagem alterarMensagem(UUID id, Mensagem mensagemAtualizada);
 
+    Mensagem gostarMensagem(UUID id);
+
     boolean removerMensagem(UUID id);
 
     Page<Mensagem> listarMensagem(Pageable pageable);
+
+    Page<Mensagem> listarMensagem(Pageable pageable, Set<CampoMensagem> campos);
+
+    List<Mensagem> listarPopulares(int limite);
 }
\ No newline at end of file
@@ -1,51 +1,268 @@
 package br.com.fiap.api.service;
 
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.exception.MensagemInvalidaException;
 import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.model.CampoMensagem;
 import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.ResultadoBuscaMensagens;
 import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class MensagemServiceImpl implements MensagemService {
 
+    static final int TAMANHO_LOTE_BUSCA = 100;
+    static final int PAGINAS_EM_CACHE = 3;
+
+    // Mesma ordem de cada fragmento (data_criacao DESC, id): o UUID é comparado como no banco, byte a byte sem sinal.
+    static final Comparator<Mensagem> ORDEM_CRONOLOGICA = Comparator
+            .comparing(Mensagem::getDataCriacao, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(Mensagem::getId, Comparator.nullsLast(SincronizacaoServiceImpl::compararUuid));
+
     private final MensagemRepository mensagemRepository;
+    private final ArquivamentoService arquivamentoService;
+    private final RankingService rankingService;
+    private final DeduplicacaoService deduplicacaoService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    private final ChamadaUnica<UUID, Mensagem> leiturasEmAndamento = new ChamadaUnica<>();
 
     @Override
     public Mensagem registrarMensagem(Mensagem mensagem) {
-        mensagem.setId(UUID.randomUUID());
-        return mensagemRepository.save(mensagem);
+        var duplicada = deduplicacaoService.buscarDuplicada(mensagem);
+        if (duplicada.isPresent()) {
+            return duplicada.get();
+        }
+        var id = gerarId(mensagem.getRespostaDe());
+        mensagem.setId(id);
+        return roteadorFragmentos.executar(roteadorFragmentos.fragmentoDe(id), () -> {
+            var mensagemRegistrada = mensagemRepository.save(mensagem);
+            deduplicacaoService.registrar(mensagemRegistrada);
+            eventPublisher.publishEvent(MensagemEvento.of(TipoEventoMensagem.REGISTRADA, mensagemRegistrada));
+            return mensagemRegistrada;
+        });
+    }
+
+    // Respostas ficam no fragmento da mensagem respondida; por transitividade, a conversa inteira fica no da raiz.
+    private UUID gerarId(UUID respostaDe) {
+        var id = UUID.randomUUID();
+        if (respostaDe == null) {
+            return id;
+        }
+        var fragmento = roteadorFragmentos.fragmentoDe(respostaDe);
+        while (roteadorFragmentos.fragmentoDe(id) != fragmento) {
+            id = UUID.randomUUID();
+        }
+        return id;
     }
 
     @Override
     public Mensagem buscarMensagem(UUID id) {
-        return mensagemRepository.findById(id)
-                .orElseThrow(() -> new MensagemNotFoundException("Mensagem não encontrada"));
+        // Dentro de uma transação o chamador espera a entidade do próprio contexto de persistência.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return consultarMensagem(id);
+        }
+        return leiturasEmAndamento.executar(id, () -> consultarMensagem(id));
+    }
+
+    private Mensagem consultarMensagem(UUID id) {
+        return roteadorFragmentos.consultar(roteadorFragmentos.fragmentoDe(id),
+                        () -> mensagemRepository.findById(id).or(() -> arquivamentoService.buscarMensagem(id)))
+                .orElseThrow(MensagemNotFoundException::naoEncontrada);
+    }
+
+    @Override
+    public Mensagem buscarMensagem(UUID id, Set<CampoMensagem> campos) {
+        return roteadorFragmentos.consultar(roteadorFragmentos.fragmentoDe(id),
+                        () -> mensagemRepository.buscarMensagem(id, campos).or(() -> arquivamentoService.buscarMensagem(id)))
+                .orElseThrow(MensagemNotFoundException::naoEncontrada);
+    }
+
+    @Override
+    public ResultadoBuscaMensagens buscarMensagens(List<UUID> ids) {
+        var idsUnicos = new ArrayList<>(new LinkedHashSet<>(ids));
+        var idsPorFragmento = new ArrayList<List<UUID>>(roteadorFragmentos.quantidade());
+        for (int i = 0; i < roteadorFragmentos.quantidade(); i++) {
+            idsPorFragmento.add(new ArrayList<>());
+        }
+        for (var id : idsUnicos) {
+            idsPorFragmento.get(roteadorFragmentos.fragmentoDe(id)).add(id);
+        }
+        var encontradasPorId = new HashMap<UUID, Mensagem>(idsUnicos.size());
+        roteadorFragmentos.consultarTodos(fragmento -> buscarNoFragmento(idsPorFragmento.get(fragmento)))
+                .forEach(encontradasPorId::putAll);
+
+        var encontradas = new ArrayList<Mensagem>(encontradasPorId.size());
+        var naoEncontradas = new ArrayList<UUID>();
+        for (var id : idsUnicos) {
+            var mensagem = encontradasPorId.get(id);
+            if (mensagem != null) {
+                encontradas.add(mensagem);
+            } else {
+                naoEncontradas.add(id);
+            }
+        }
+        return new ResultadoBuscaMensagens(encontradas, naoEncontradas);
+    }
+
+    private Map<UUID, Mensagem> buscarNoFragmento(List<UUID> idsUnicos) {
+        var encontradasPorId = new HashMap<UUID, Mensagem>(idsUnicos.size());
+        for (int inicio = 0; inicio < idsUnicos.size(); inicio += TAMANHO_LOTE_BUSCA) {
+            var lote = idsUnicos.subList(inicio, Math.min(inicio + TAMANHO_LOTE_BUSCA, idsUnicos.size()));
+            for (var mensagem : mensagemRepository.buscarPorIds(lote)) {
+                encontradasPorId.put(mensagem.getId(), mensagem);
+            }
+        }
+        if (encontradasPorId.size() < idsUnicos.size()) {
+            var faltantes = idsUnicos.stream().filter(id -> !encontradasPorId.containsKey(id)).toList();
+            for (int inicio = 0; inicio < faltantes.size(); inicio += TAMANHO_LOTE_BUSCA) {
+                var lote = faltantes.subList(inicio, Math.min(inicio + TAMANHO_LOTE_BUSCA, faltantes.size()));
+                for (var mensagem : arquivamentoService.buscarMensagens(lote)) {
+                    encontradasPorId.put(mensagem.getId(), mensagem);
+                }
+            }
+        }
+        return encontradasPorId;
     }
 
     @Override
     public Mensagem alterarMensagem(UUID id, Mensagem mensagemAtualizada) {
-        var mensagem = buscarMensagem(id);
+        return roteadorFragmentos.executar(roteadorFragmentos.fragmentoDe(id),
+                () -> alterarNoFragmento(id, mensagemAtualizada));
+    }
+
+    private Mensagem alterarNoFragmento(UUID id, Mensagem mensagemAtualizada) {
+        var mensagemQuente = mensagemRepository.findById(id);
+        var mensagem = mensagemQuente
+                .or(() -> arquivamentoService.buscarMensagem(id))
+                .orElseThrow(MensagemNotFoundException::naoEncontrada);
         if (!mensagem.getId().equals(mensagemAtualizada.getId())) {
-            throw new MensagemNotFoundException("mensagem atualizada não apresenta o ID correto");
+            throw new MensagemInvalidaException("mensagem atualizada não apresenta o ID correto");
+        }
+        Mensagem mensagemAlterada;
+        if (mensagemQuente.isEmpty()) {
+            mensagemAlterada = arquivamentoService.alterarConteudo(id, mensagemAtualizada.getConteudo())
+                    .orElseThrow(MensagemNotFoundException::naoEncontrada);
+        } else {
+            mensagem.setConteudo(mensagemAtualizada.getConteudo());
+            mensagemAlterada = mensagemRepository.save(mensagem);
         }
-        mensagem.setConteudo(mensagemAtualizada.getConteudo());
-        return mensagemRepository.save(mensagem);
+        eventPublisher.publishEvent(MensagemEvento.of(TipoEventoMensagem.ALTERADA, mensagemAlterada));
+        return mensagemAlterada;
+    }
+
+    @Override
+    public Mensagem gostarMensagem(UUID id) {
+        return roteadorFragmentos.executar(roteadorFragmentos.fragmentoDe(id), () -> {
+            // Entidade gerenciada (não UPDATE em massa): o cache de segundo nível troca só esta entrada.
+            Optional<Mensagem> mensagemCurtida = mensagemRepository.buscarParaAtualizar(id)
+                    .map(this::incrementarGostei)
+                    .or(() -> arquivamentoService.incrementarGostei(id));
+            var mensagem = mensagemCurtida
+                    .orElseThrow(MensagemNotFoundException::naoEncontrada);
+            eventPublisher.publishEvent(MensagemEvento.of(TipoEventoMensagem.CURTIDA, mensagem));
+            return mensagem;
+        });
+    }
+
+    private Mensagem incrementarGostei(Mensagem mensagem) {
+        mensagem.setGostei(mensagem.getGostei() + 1);
+        return mensagemRepository.saveAndFlush(mensagem);
     }
 
     @Override
     public boolean removerMensagem(UUID id) {
-        buscarMensagem(id);
-        mensagemRepository.deleteById(id);
-        return true;
+        return roteadorFragmentos.executar(roteadorFragmentos.fragmentoDe(id), () -> removerNoFragmento(id));
+    }
+
+    private boolean removerNoFragmento(UUID id) {
+        var mensagem = mensagemRepository.findById(id);
+        if (mensagem.isPresent()) {
+            mensagemRepository.delete(mensagem.get());
+            eventPublisher.publishEvent(MensagemEvento.of(TipoEventoMensagem.REMOVIDA, mensagem.get()));
+            return true;
+        }
+        var mensagemArquivada = arquivamentoService.removerMensagem(id);
+        if (mensagemArquivada.isPresent()) {
+            eventPublisher.publishEvent(MensagemEvento.of(TipoEventoMensagem.REMOVIDA, mensagemArquivada.get()));
+            return true;
+        }
+        throw MensagemNotFoundException.naoEncontrada();
     }
 
     @Override
     public Page<Mensagem> listarMensagem(Pageable pageable) {
-        return mensagemRepository.listarMensagens(pageable);
+        if (roteadorFragmentos.quantidade() == 1) {
+            var paginaQuente = pageable.isPaged() && pageable.getPageNumber() < PAGINAS_EM_CACHE
+                    ? mensagemRepository.listarPrimeirasMensagens(pageable)
+                    : mensagemRepository.listarMensagens(pageable);
+            return arquivamentoService.completarPagina(paginaQuente, pageable);
+        }
+        var topo = topoDosFragmentos(pageable);
+        var paginas = roteadorFragmentos.consultarTodos(fragmento -> List.of(
+                mensagemRepository.listarMensagens(topo),
+                arquivamentoService.listarMensagens(topo)));
+        return intercalar(paginas.stream().flatMap(List::stream).toList(), pageable);
+    }
+
+    @Override
+    public Page<Mensagem> listarMensagem(Pageable pageable, Set<CampoMensagem> campos) {
+        if (roteadorFragmentos.quantidade() == 1) {
+            return arquivamentoService.completarPagina(mensagemRepository.listarMensagens(campos, pageable), pageable, campos);
+        }
+        var camposConsulta = EnumSet.copyOf(campos);
+        camposConsulta.add(CampoMensagem.ID);
+        camposConsulta.add(CampoMensagem.DATA_CRIACAO);
+        var topo = topoDosFragmentos(pageable);
+        var paginas = roteadorFragmentos.consultarTodos(fragmento -> List.of(
+                mensagemRepository.listarMensagens(camposConsulta, topo),
+                arquivamentoService.listarMensagens(topo, camposConsulta)));
+        return intercalar(paginas.stream().flatMap(List::stream).toList(), pageable);
+    }
+
+    @Override
+    public List<Mensagem> listarPopulares(int limite) {
+        return rankingService.listarPopulares(limite);
+    }
+
+    // Cada fragmento devolve as offset + size primeiras; a página global sai da intercalação. O custo cresce com
+    // fragmentos × offset, então páginas profundas ficam caras: para percorrer tudo, use a sincronização por token.
+    private static Pageable topoDosFragmentos(Pageable pageable) {
+        return pageable.isPaged()
+                ? PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()))
+                : Pageable.unpaged();
+    }
+
+    private static Page<Mensagem> intercalar(List<Page<Mensagem>> paginas, Pageable pageable) {
+        var listas = paginas.stream().map(Page::getContent).toList();
+        var total = paginas.stream().mapToLong(Page::getTotalElements).sum();
+        var conteudo = pageable.isPaged()
+                ? Intercalacao.intercalar(listas, ORDEM_CRONOLOGICA, pageable.getOffset(), pageable.getPageSize())
+                : Intercalacao.intercalar(listas, ORDEM_CRONOLOGICA, 0, Integer.MAX_VALUE);
+        return new PageImpl<>(conteudo, pageable, total);
     }
 }
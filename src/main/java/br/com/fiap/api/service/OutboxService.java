@@ -0,0 +1,10 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.event.LogEventos;
+
+public interface OutboxService {
+
+    int transmitir();
+
+    LogEventos.Trecho lerEventos(long offset, int limite);
+}
@@ -0,0 +1,183 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.OutboxProperties;
+import br.com.fiap.api.event.LogEventos;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.RegistroEvento;
+import br.com.fiap.api.exception.OutboxDesabilitadoException;
+import br.com.fiap.api.model.EventoOutbox;
+import br.com.fiap.api.repository.EventoOutboxRepository;
+import br.com.fiap.api.repository.LiderancaOutboxRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    static final int LIMITE_LEITURA = 1000;
+    static final String RECURSO_LIDERANCA = "transmissor";
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final LiderancaOutboxRepository liderancaOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties outboxProperties;
+    private final ObjectMapper objectMapper;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    private final AtomicBoolean emExecucao = new AtomicBoolean();
+    private final String instancia = UUID.randomUUID().toString();
+
+    private volatile LogEventos logEventos;
+
+    @PostConstruct
+    public void abrir() {
+        if (outboxProperties.isHabilitado()) {
+            logEventos = new LogEventos(Path.of(outboxProperties.getDiretorio()),
+                    Math.toIntExact(outboxProperties.getTamanhoSegmento().toBytes()),
+                    outboxProperties.getIdadeSegmento(),
+                    outboxProperties.getRetencaoBytes().toBytes(),
+                    outboxProperties.getRetencaoIdade());
+        }
+    }
+
+    @PreDestroy
+    public void fechar() throws IOException {
+        if (logEventos != null) {
+            logEventos.close();
+        }
+    }
+
+    // Síncrono: a linha do outbox é gravada na mesma transação (e no mesmo fragmento) que alterou a mensagem.
+    @EventListener
+    public void aoAlterarMensagem(MensagemEvento evento) {
+        if (!outboxProperties.isHabilitado() || evento.getMensagem() == null) {
+            return;
+        }
+        eventoOutboxRepository.save(EventoOutbox.builder()
+                .tipo(evento.getTipo())
+                .mensagemId(evento.getId())
+                .dataEvento(LocalDateTime.now())
+                .payload(serializar(evento.getMensagem()))
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${mensagem.outbox.intervalo:PT1S}")
+    public void executarTransmissaoAgendada() {
+        if (outboxProperties.isHabilitado()) {
+            transmitir();
+        }
+    }
+
+    // Entrega pelo menos uma vez: se a remoção do lote falhar depois do append, o lote é reanexado na próxima execução.
+    // Com várias instâncias, só a que detém a concessão transmite: cada linha do outbox vai para um único log, o do
+    // líder, e é dele que os consumidores leem. As demais só gravam no outbox e assumem se o líder parar de renovar.
+    @Override
+    public int transmitir() {
+        if (logEventos == null || !emExecucao.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            if (!renovarLideranca()) {
+                return 0;
+            }
+            var transmitidos = roteadorFragmentos.paraCadaFragmento(fragmento -> transmitirFragmento())
+                    .stream()
+                    .mapToInt(Integer::intValue)
+                    .sum();
+            logEventos.aplicarRetencao();
+            return transmitidos;
+        } finally {
+            emExecucao.set(false);
+        }
+    }
+
+    @Override
+    public LogEventos.Trecho lerEventos(long offset, int limite) {
+        if (logEventos == null) {
+            throw new OutboxDesabilitadoException("log de eventos desabilitado");
+        }
+        return logEventos.ler(offset, Math.min(limite, LIMITE_LEITURA));
+    }
+
+    private boolean renovarLideranca() {
+        return roteadorFragmentos.executar(0, () -> {
+            var agora = LocalDateTime.now();
+            var expiraEm = agora.plus(outboxProperties.getLideranca());
+            if (liderancaOutboxRepository.assumir(RECURSO_LIDERANCA, instancia, agora, expiraEm) > 0) {
+                return true;
+            }
+            liderancaOutboxRepository.criarSeAusente(RECURSO_LIDERANCA);
+            return liderancaOutboxRepository.assumir(RECURSO_LIDERANCA, instancia, agora, expiraEm) > 0;
+        });
+    }
+
+    private int transmitirFragmento() {
+        var transmitidos = 0;
+        while (true) {
+            if (transmitidos > 0 && !renovarLideranca()) {
+                break;
+            }
+            var quantidade = transactionTemplate.execute(status -> transmitirLote());
+            if (quantidade == null || quantidade == 0) {
+                break;
+            }
+            transmitidos += quantidade;
+            if (quantidade < outboxProperties.getTamanhoLote()) {
+                break;
+            }
+        }
+        return transmitidos;
+    }
+
+    // Os eventos são removidos em vez de marcados: uma transação que confirmar fora da ordem do id ainda é encontrada.
+    private int transmitirLote() {
+        var pendentes = eventoOutboxRepository.buscarPendentes(PageRequest.of(0, outboxProperties.getTamanhoLote()));
+        if (pendentes.isEmpty()) {
+            return 0;
+        }
+        for (var evento : pendentes) {
+            logEventos.anexar(offset -> linha(offset, evento));
+        }
+        logEventos.sincronizar();
+        eventoOutboxRepository.removerPorIds(pendentes.stream().map(EventoOutbox::getId).toList());
+        return pendentes.size();
+    }
+
+    private byte[] linha(long offset, EventoOutbox evento) {
+        try {
+            var json = objectMapper.writeValueAsBytes(new RegistroEvento(offset, evento.getId(), evento.getTipo(),
+                    evento.getMensagemId(), evento.getDataEvento(), evento.getPayload()));
+            var linha = Arrays.copyOf(json, json.length + 1);
+            linha[json.length] = '\n';
+            return linha;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String serializar(Object valor) {
+        try {
+            return objectMapper.writeValueAsString(valor);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
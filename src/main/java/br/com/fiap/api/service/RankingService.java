@@ -0,0 +1,12 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.Mensagem;
+
+import java.util.List;
+
+public interface RankingService {
+
+    List<Mensagem> listarPopulares(int limite);
+
+    void reconstruir();
+}
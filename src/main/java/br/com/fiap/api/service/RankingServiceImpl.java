@@ -0,0 +1,154 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@RequiredArgsConstructor
+public class RankingServiceImpl implements RankingService {
+
+    static final int TAMANHO_RANKING = 100;
+    static final int CAPACIDADE = TAMANHO_RANKING * 2;
+
+    static final Comparator<Mensagem> ORDEM = Comparator
+            .comparingInt(Mensagem::getGostei).reversed()
+            .thenComparing(Mensagem::getDataCriacao, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(Mensagem::getId);
+
+    private final MensagemRepository mensagemRepository;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    private final Object trava = new Object();
+    private final Map<UUID, Mensagem> candidatas = new HashMap<>();
+    private final TreeSet<Mensagem> ordenadas = new TreeSet<>(ORDEM);
+    private final AtomicBoolean reconstrucaoAgendada = new AtomicBoolean();
+
+    // Melhor mensagem fora do ranking (limite superior para todas as não acompanhadas); null se o banco inteiro cabe no ranking.
+    private Mensagem fronteira;
+
+    private volatile List<Mensagem> populares = List.of();
+
+    @Override
+    public List<Mensagem> listarPopulares(int limite) {
+        var snapshot = populares;
+        return snapshot.subList(0, Math.min(Math.max(limite, 0), snapshot.size()));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        synchronized (trava) {
+            var maisCurtidas = Intercalacao.intercalar(roteadorFragmentos.consultarTodos(
+                    fragmento -> mensagemRepository.buscarMaisCurtidas(PageRequest.of(0, CAPACIDADE + 1))),
+                    ORDEM, 0, CAPACIDADE + 1);
+            candidatas.clear();
+            ordenadas.clear();
+            fronteira = null;
+            for (int i = 0; i < maisCurtidas.size(); i++) {
+                var copia = copiar(maisCurtidas.get(i));
+                if (i == CAPACIDADE) {
+                    fronteira = copia;
+                } else {
+                    candidatas.put(copia.getId(), copia);
+                    ordenadas.add(copia);
+                }
+            }
+            publicar();
+        }
+        reconstrucaoAgendada.set(false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMensagem(MensagemEvento evento) {
+        if (evento.getTipo() == TipoEventoMensagem.REMOVIDA) {
+            remover(evento.getId());
+        } else {
+            atualizar(evento.getMensagem());
+        }
+    }
+
+    void atualizar(Mensagem mensagem) {
+        var copia = copiar(mensagem);
+        synchronized (trava) {
+            var anterior = candidatas.remove(copia.getId());
+            if (anterior != null) {
+                ordenadas.remove(anterior);
+                // Curtidas só crescem: um evento atrasado não pode fazer o contador regredir.
+                copia.setGostei(Math.max(anterior.getGostei(), copia.getGostei()));
+            }
+            if (fronteira != null && ORDEM.compare(copia, fronteira) >= 0) {
+                if (anterior != null) {
+                    publicar();
+                }
+                return;
+            }
+            candidatas.put(copia.getId(), copia);
+            ordenadas.add(copia);
+            if (ordenadas.size() > CAPACIDADE) {
+                var removida = ordenadas.pollLast();
+                candidatas.remove(removida.getId());
+                if (fronteira == null || ORDEM.compare(removida, fronteira) < 0) {
+                    fronteira = removida;
+                }
+            }
+            publicar();
+        }
+    }
+
+    void remover(UUID id) {
+        boolean incompleto;
+        synchronized (trava) {
+            var anterior = candidatas.remove(id);
+            if (anterior == null) {
+                return;
+            }
+            ordenadas.remove(anterior);
+            publicar();
+            incompleto = fronteira != null && ordenadas.size() < TAMANHO_RANKING;
+        }
+        if (incompleto && reconstrucaoAgendada.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::reconstruir);
+        }
+    }
+
+    private void publicar() {
+        var topo = new ArrayList<Mensagem>(Math.min(TAMANHO_RANKING, ordenadas.size()));
+        for (var mensagem : ordenadas) {
+            if (topo.size() == TAMANHO_RANKING) {
+                break;
+            }
+            topo.add(mensagem);
+        }
+        populares = List.copyOf(topo);
+    }
+
+    private static Mensagem copiar(Mensagem mensagem) {
+        return Mensagem.builder()
+                .id(mensagem.getId())
+                .usuario(mensagem.getUsuario())
+                .conteudo(mensagem.getConteudo())
+                .dataCriacao(mensagem.getDataCriacao())
+                .gostei(mensagem.getGostei())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.ResultadoExpurgo;
+
+public interface RetencaoService {
+
+    ResultadoExpurgo expurgarMensagensAntigas();
+}
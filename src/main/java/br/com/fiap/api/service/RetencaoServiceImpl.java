@@ -0,0 +1,128 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.RetencaoProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.exception.ExpurgoEmExecucaoException;
+import br.com.fiap.api.model.ChaveMensagem;
+import br.com.fiap.api.model.ResultadoExpurgo;
+import br.com.fiap.api.repository.ExpurgavelRepository;
+import br.com.fiap.api.repository.MensagemArquivadaRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@RequiredArgsConstructor
+public class RetencaoServiceImpl implements RetencaoService {
+
+    static final String METRICA_REMOVIDAS = "mensagem.retencao.removidas";
+    static final String METRICA_LOTE = "mensagem.retencao.lote";
+
+    private final MensagemRepository mensagemRepository;
+    private final MensagemArquivadaRepository mensagemArquivadaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final RetencaoProperties retencaoProperties;
+    private final MeterRegistry meterRegistry;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    private final AtomicBoolean emExecucao = new AtomicBoolean();
+
+    @Scheduled(cron = "${mensagem.retencao.cron:0 0 3 * * *}")
+    public void executarExpurgoAgendado() {
+        if (retencaoProperties.isHabilitada()) {
+            expurgarMensagensAntigas();
+        }
+    }
+
+    @Override
+    public ResultadoExpurgo expurgarMensagensAntigas() {
+        if (!emExecucao.compareAndSet(false, true)) {
+            throw new ExpurgoEmExecucaoException("expurgo já está em execução");
+        }
+        try {
+            var inicio = System.nanoTime();
+            var corte = LocalDateTime.now().minus(retencaoProperties.getIdade());
+            var progressos = roteadorFragmentos.paraCadaFragmento(fragmento -> {
+                var quente = expurgar(mensagemRepository, corte);
+                var arquivo = expurgar(mensagemArquivadaRepository, corte);
+                return new Progresso(quente.removidas() + arquivo.removidas(), quente.lotes() + arquivo.lotes());
+            });
+            return new ResultadoExpurgo(
+                    progressos.stream().mapToLong(Progresso::removidas).sum(),
+                    progressos.stream().mapToInt(Progresso::lotes).sum(),
+                    Duration.ofNanos(System.nanoTime() - inicio).toMillis());
+        } finally {
+            emExecucao.set(false);
+        }
+    }
+
+    private Progresso expurgar(ExpurgavelRepository repository, LocalDateTime corte) {
+        var removidas = 0L;
+        var lotes = 0;
+        ChaveMensagem cursor = null;
+
+        while (true) {
+            var inicioLote = System.nanoTime();
+            var ultimoCursor = cursor;
+            var lote = transactionTemplate.execute(status -> expurgarLote(repository, corte, ultimoCursor));
+            meterRegistry.timer(METRICA_LOTE).record(Duration.ofNanos(System.nanoTime() - inicioLote));
+
+            if (lote == null || lote.isEmpty()) {
+                break;
+            }
+            removidas += lote.size();
+            lotes++;
+            meterRegistry.counter(METRICA_REMOVIDAS).increment(lote.size());
+            cursor = lote.get(lote.size() - 1);
+
+            if (lote.size() < retencaoProperties.getTamanhoLote() || !pausar()) {
+                break;
+            }
+        }
+        return new Progresso(removidas, lotes);
+    }
+
+    private List<ChaveMensagem> expurgarLote(ExpurgavelRepository repository, LocalDateTime corte, ChaveMensagem cursor) {
+        var pagina = PageRequest.of(0, retencaoProperties.getTamanhoLote());
+        var lote = cursor == null
+                ? repository.buscarChavesAnteriores(corte, pagina)
+                : repository.buscarChavesAnteriores(corte, cursor.getDataCriacao(), cursor.getId(), pagina);
+        if (!lote.isEmpty()) {
+            var ids = lote.stream().map(ChaveMensagem::getId).toList();
+            var mensagens = repository.buscarParaExpurgo(ids);
+            repository.removerPorIds(ids);
+            mensagens.forEach(mensagem -> eventPublisher.publishEvent(MensagemEvento.of(TipoEventoMensagem.REMOVIDA, mensagem)));
+        }
+        return lote;
+    }
+
+    private boolean pausar() {
+        var pausa = retencaoProperties.getPausaEntreLotes();
+        if (pausa.isZero() || pausa.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pausa.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Progresso(long removidas, int lotes) {
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.AlteracoesMensagens;
+
+public interface SincronizacaoService {
+
+    AlteracoesMensagens listarAlteracoes(String token, int limite);
+
+    int expurgarMarcadores();
+}
@@ -0,0 +1,145 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.ArquivamentoProperties;
+import br.com.fiap.api.config.SincronizacaoProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.exception.TokenExpiradoException;
+import br.com.fiap.api.model.AlteracoesMensagens;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemArquivada;
+import br.com.fiap.api.model.MensagemRemovida;
+import br.com.fiap.api.model.TokenSincronizacao;
+import br.com.fiap.api.repository.MensagemArquivadaRepository;
+import br.com.fiap.api.repository.MensagemRemovidaRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SincronizacaoServiceImpl implements SincronizacaoService {
+
+    static final int LIMITE_ALTERACOES = 1000;
+
+    private static final UUID INICIO = new UUID(0, 0);
+
+    // Mesma ordem do banco: data e depois o UUID comparado byte a byte (sem sinal).
+    static final Comparator<Alteracao> ORDEM_ALTERACAO = Comparator.comparing(Alteracao::data)
+            .thenComparing(Alteracao::id, SincronizacaoServiceImpl::compararUuid);
+
+    private final MensagemRepository mensagemRepository;
+    private final MensagemArquivadaRepository mensagemArquivadaRepository;
+    private final MensagemRemovidaRepository mensagemRemovidaRepository;
+    private final ArquivamentoProperties arquivamentoProperties;
+    private final SincronizacaoProperties sincronizacaoProperties;
+    private final RoteadorFragmentos roteadorFragmentos;
+
+    // Síncrono: o marcador é gravado na mesma transação (e no mesmo fragmento) que removeu a mensagem.
+    @EventListener
+    public void aoAlterarMensagem(MensagemEvento evento) {
+        if (evento.getTipo() == TipoEventoMensagem.REMOVIDA) {
+            mensagemRemovidaRepository.save(new MensagemRemovida(evento.getId(), LocalDateTime.now()));
+        }
+    }
+
+    @Scheduled(cron = "${mensagem.sincronizacao.cron:0 45 3 * * *}")
+    public void executarExpurgoAgendado() {
+        expurgarMarcadores();
+    }
+
+    @Override
+    public int expurgarMarcadores() {
+        var corte = LocalDateTime.now().minus(sincronizacaoProperties.getRetencaoMarcadores());
+        return roteadorFragmentos.paraCadaFragmento(fragmento -> roteadorFragmentos.executar(fragmento,
+                        () -> mensagemRemovidaRepository.removerAnteriores(corte)))
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public AlteracoesMensagens listarAlteracoes(String token, int limite) {
+        var agora = LocalDateTime.now();
+        var cursor = token == null ? null : TokenSincronizacao.decodificar(token);
+        if (cursor != null && cursor.data().isBefore(agora.minus(sincronizacaoProperties.getRetencaoMarcadores()))) {
+            throw new TokenExpiradoException("token de sincronização expirado; refaça a sincronização completa");
+        }
+        var ate = agora.minus(sincronizacaoProperties.getMargem());
+        var quantidade = Math.max(1, Math.min(limite, LIMITE_ALTERACOES));
+
+        // Um item a mais por fonte indica se ainda há alterações depois desta página.
+        var pagina = PageRequest.of(0, quantidade + 1);
+        var fontes = roteadorFragmentos.consultarTodos(fragmento -> buscarNoFragmento(cursor, ate, pagina));
+        var alteracoes = Intercalacao.intercalar(fontes.stream().flatMap(List::stream).toList(),
+                ORDEM_ALTERACAO, 0, quantidade + 1);
+
+        var temMais = alteracoes.size() > quantidade;
+        var entregues = temMais ? alteracoes.subList(0, quantidade) : alteracoes;
+        var alteradas = new ArrayList<Mensagem>();
+        var removidas = new ArrayList<UUID>();
+        for (var alteracao : entregues) {
+            if (alteracao.mensagem() != null) {
+                alteradas.add(alteracao.mensagem());
+            } else {
+                removidas.add(alteracao.id());
+            }
+        }
+        return new AlteracoesMensagens(alteradas, removidas, proximoToken(cursor, ate, entregues), temMais);
+    }
+
+    private List<List<Alteracao>> buscarNoFragmento(TokenSincronizacao cursor, LocalDateTime ate, PageRequest pagina) {
+        var fontes = new ArrayList<List<Alteracao>>(3);
+        fontes.add((cursor == null
+                ? mensagemRepository.buscarAlteradas(ate, pagina)
+                : mensagemRepository.buscarAlteradas(ate, cursor.data(), cursor.id(), pagina))
+                .stream().map(Alteracao::alterada).toList());
+        if (arquivamentoProperties.isHabilitado()) {
+            fontes.add((cursor == null
+                    ? mensagemArquivadaRepository.buscarAlteradas(ate, pagina)
+                    : mensagemArquivadaRepository.buscarAlteradas(ate, cursor.data(), cursor.id(), pagina))
+                    .stream().map(MensagemArquivada::toMensagem).map(Alteracao::alterada).toList());
+        }
+        // Na sincronização completa o cliente não tem nada a remover.
+        if (cursor != null) {
+            fontes.add(mensagemRemovidaRepository.buscarRemovidas(ate, cursor.data(), cursor.id(), pagina)
+                    .stream().map(Alteracao::removida).toList());
+        }
+        return fontes;
+    }
+
+    // Sem alterações até "ate", o token avança mesmo assim, para que clientes ociosos não expirem.
+    private static String proximoToken(TokenSincronizacao cursor, LocalDateTime ate, List<Alteracao> entregues) {
+        if (entregues.isEmpty()) {
+            return cursor != null && cursor.data().isAfter(ate)
+                    ? cursor.codificar()
+                    : new TokenSincronizacao(ate, INICIO).codificar();
+        }
+        var ultima = entregues.get(entregues.size() - 1);
+        return new TokenSincronizacao(ultima.data(), ultima.id()).codificar();
+    }
+
+    static int compararUuid(UUID a, UUID b) {
+        var comparacao = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return comparacao != 0 ? comparacao : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    record Alteracao(LocalDateTime data, UUID id, Mensagem mensagem) {
+
+        static Alteracao alterada(Mensagem mensagem) {
+            return new Alteracao(mensagem.getAtualizadoEm(), mensagem.getId(), mensagem);
+        }
+
+        static Alteracao removida(MensagemRemovida removida) {
+            return new Alteracao(removida.getRemovidaEm(), removida.getId(), null);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.fiap.api.config;
+
+import br.com.fiap.api.json.MensagemSerializer;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.MensagemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MensagemRuntimeHintsTest {
+
+    @Test
+    void deveRegistrarHintsDeMensagemERepositorios() {
+        var hints = new RuntimeHints();
+
+        new MensagemRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(Mensagem.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MensagemSerializer.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(MensagemRepository.class, Repository.class,
+                TransactionalProxy.class, SpringProxy.class, Advised.class, DecoratingProxy.class)).accepts(hints);
+    }
+}
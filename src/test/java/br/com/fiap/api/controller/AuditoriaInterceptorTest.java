@@ -0,0 +1,96 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.config.CacheRespostaProperties;
+import br.com.fiap.api.config.IdempotenciaProperties;
+import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.model.AcaoAuditoria;
+import br.com.fiap.api.service.AuditoriaService;
+import br.com.fiap.api.service.CacheRespostaServiceImpl;
+import br.com.fiap.api.service.IdempotenciaServiceImpl;
+import br.com.fiap.api.service.MensagemService;
+import br.com.fiap.api.service.SincronizacaoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AuditoriaInterceptorTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private MensagemService mensagemService;
+
+    @Mock
+    private SincronizacaoService sincronizacaoService;
+
+    @Mock
+    private AuditoriaService auditoriaService;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        var mensagemController = new MensagemController(
+                mensagemService, new IdempotenciaServiceImpl(new IdempotenciaProperties()), sincronizacaoService,
+                new CacheRespostaServiceImpl(new CacheRespostaProperties(), new ObjectMapper()));
+        mockMvc = MockMvcBuilders.standaloneSetup(mensagemController)
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .addInterceptors(new AuditoriaInterceptor(auditoriaService))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void deveAuditarMutacao_ComIdStatusECliente() throws Exception {
+        var id = UUID.randomUUID();
+
+        mockMvc.perform(delete("/mensagens/{id}", id))
+                .andExpect(status().isOk());
+
+        verify(auditoriaService, times(1))
+                .registrar(eq(AcaoAuditoria.REMOVER), eq(id), eq(200), longThat(duracao -> duracao >= 0), eq("127.0.0.1"));
+    }
+
+    @Test
+    void deveAuditarMutacao_QuandoFalha() throws Exception {
+        var id = UUID.randomUUID();
+        when(mensagemService.gostarMensagem(id)).thenThrow(MensagemNotFoundException.naoEncontrada());
+
+        mockMvc.perform(post("/mensagens/{id}/gostei", id))
+                .andExpect(status().isNotFound());
+
+        verify(auditoriaService, times(1))
+                .registrar(eq(AcaoAuditoria.CURTIR), eq(id), eq(404), anyLong(), anyString());
+    }
+
+    @Test
+    void naoDeveAuditarLeitura() throws Exception {
+        var id = UUID.randomUUID();
+        var mensagem = gerarMensagem();
+        mensagem.setId(id);
+        when(mensagemService.buscarMensagem(id)).thenReturn(mensagem);
+
+        mockMvc.perform(get("/mensagens/{id}", id))
+                .andExpect(status().isOk());
+
+        verify(auditoriaService, never()).registrar(any(), any(), anyInt(), anyLong(), any());
+    }
+}
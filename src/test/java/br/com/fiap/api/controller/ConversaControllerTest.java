@@ -0,0 +1,102 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.exception.TokenInvalidoException;
+import br.com.fiap.api.model.ConversaMensagem;
+import br.com.fiap.api.model.NoConversa;
+import br.com.fiap.api.service.ConversaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ConversaControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ConversaService conversaService;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ConversaController(conversaService))
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirBuscarConversa() throws Exception {
+        var raiz = gerarMensagem();
+        raiz.setId(UUID.randomUUID());
+        raiz.setRespostas(1);
+        var resposta = gerarMensagem();
+        resposta.setId(UUID.randomUUID());
+        resposta.setRespostaDe(raiz.getId());
+        var aninhada = gerarMensagem();
+        aninhada.setId(UUID.randomUUID());
+        aninhada.setRespostaDe(resposta.getId());
+        var no = NoConversa.of(resposta);
+        no.respostas().add(NoConversa.of(aninhada));
+        when(conversaService.buscarConversa(raiz.getId(), "abc", 5))
+                .thenReturn(new ConversaMensagem(raiz, List.of(no), "def", true, false));
+
+        mockMvc.perform(get("/mensagens/{id}/thread", raiz.getId())
+                        .param("cursor", "abc")
+                        .param("limite", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mensagem.id").value(raiz.getId().toString()))
+                .andExpect(jsonPath("$.mensagem.respostas").value(1))
+                .andExpect(jsonPath("$.respostas[0].mensagem.respostaDe").value(raiz.getId().toString()))
+                .andExpect(jsonPath("$.respostas[0].respostas[0].mensagem.id").value(aninhada.getId().toString()))
+                .andExpect(jsonPath("$.cursor").value("def"))
+                .andExpect(jsonPath("$.temMais").value(true))
+                .andExpect(jsonPath("$.truncada").value(false));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarConversa_IdInvalido() throws Exception {
+        mockMvc.perform(get("/mensagens/{id}/thread", "2"))
+                .andExpect(status().isBadRequest());
+
+        verify(conversaService, never()).buscarConversa(any(UUID.class), any(), anyInt());
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarConversa_CursorInvalido() throws Exception {
+        var id = UUID.randomUUID();
+        when(conversaService.buscarConversa(id, "x", 20)).thenThrow(TokenInvalidoException.cursorInvalido());
+
+        mockMvc.perform(get("/mensagens/{id}/thread", id).param("cursor", "x"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("cursor inválido"));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarConversa_MensagemNaoEncontrada() throws Exception {
+        var id = UUID.randomUUID();
+        when(conversaService.buscarConversa(id, null, 20)).thenThrow(MensagemNotFoundException.naoEncontrada());
+
+        mockMvc.perform(get("/mensagens/{id}/thread", id))
+                .andExpect(status().isNotFound());
+    }
+}
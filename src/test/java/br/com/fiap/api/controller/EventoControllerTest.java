@@ -0,0 +1,78 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.event.LogEventos;
+import br.com.fiap.api.exception.OffsetExpiradoException;
+import br.com.fiap.api.service.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class EventoControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @TempDir
+    Path diretorio;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new EventoController(outboxService))
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirLerEventosAPartirDoOffset() throws Exception {
+        var arquivo = diretorio.resolve("00000000000000000000.log");
+        Files.writeString(arquivo, "{\"offset\":0}\n{\"offset\":1}\n{\"offset\":2}\n", StandardCharsets.UTF_8);
+        when(outboxService.lerEventos(1, 100)).thenReturn(new LogEventos.Trecho(arquivo, 13, 26, 1, 3));
+
+        mockMvc.perform(get("/eventos").param("offset", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EventoController.TIPO_NDJSON))
+                .andExpect(header().string(EventoController.CABECALHO_PROXIMO_OFFSET, "3"))
+                .andExpect(content().string("{\"offset\":1}\n{\"offset\":2}\n"));
+    }
+
+    @Test
+    void deveRetornarSemConteudo_QuandoNaoHouverEventosNovos() throws Exception {
+        when(outboxService.lerEventos(3, 100)).thenReturn(new LogEventos.Trecho(diretorio, 0, 0, 3, 3));
+
+        mockMvc.perform(get("/eventos").param("offset", "3"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(EventoController.CABECALHO_PROXIMO_OFFSET, "3"));
+    }
+
+    @Test
+    void deveRetornarGone_QuandoOffsetJaFoiRemovidoPelaRetencao() throws Exception {
+        when(outboxService.lerEventos(0, 100)).thenThrow(new OffsetExpiradoException("offset 0 já foi removido"));
+
+        mockMvc.perform(get("/eventos").param("offset", "0"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.exception.SeguidorInvalidoException;
+import br.com.fiap.api.exception.TokenInvalidoException;
+import br.com.fiap.api.model.LinhaTempo;
+import br.com.fiap.api.service.LinhaTempoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class LinhaTempoControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private LinhaTempoService linhaTempoService;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LinhaTempoController(linhaTempoService))
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirSeguirUsuario() throws Exception {
+        mockMvc.perform(put("/usuarios/{usuario}/seguindo/{seguido}", "ana", "bruno"))
+                .andExpect(status().isNoContent());
+        verify(linhaTempoService, times(1)).seguir("ana", "bruno");
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoSeguirASiMesmo() throws Exception {
+        doThrow(new SeguidorInvalidoException("usuário não pode seguir a si mesmo"))
+                .when(linhaTempoService).seguir("ana", "ana");
+
+        mockMvc.perform(put("/usuarios/{usuario}/seguindo/{seguido}", "ana", "ana"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("usuário não pode seguir a si mesmo"));
+    }
+
+    @Test
+    void devePermitirDeixarDeSeguirUsuario() throws Exception {
+        mockMvc.perform(delete("/usuarios/{usuario}/seguindo/{seguido}", "ana", "bruno"))
+                .andExpect(status().isNoContent());
+        verify(linhaTempoService, times(1)).deixarDeSeguir("ana", "bruno");
+    }
+
+    @Test
+    void devePermitirBuscarLinhaTempo() throws Exception {
+        var mensagem = gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        when(linhaTempoService.buscarLinhaTempo("ana", "abc", 5))
+                .thenReturn(new LinhaTempo(List.of(mensagem), "def", true));
+
+        mockMvc.perform(get("/usuarios/{usuario}/timeline", "ana")
+                        .param("cursor", "abc")
+                        .param("limite", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mensagens[0].id").value(mensagem.getId().toString()))
+                .andExpect(jsonPath("$.cursor").value("def"))
+                .andExpect(jsonPath("$.temMais").value(true));
+    }
+
+    @Test
+    void deveUsarLimitePadrao_QuandoBuscarLinhaTempo() throws Exception {
+        when(linhaTempoService.buscarLinhaTempo(anyString(), isNull(), anyInt()))
+                .thenReturn(new LinhaTempo(List.of(), null, false));
+
+        mockMvc.perform(get("/usuarios/{usuario}/timeline", "ana"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mensagens").isEmpty());
+        verify(linhaTempoService, times(1)).buscarLinhaTempo("ana", null, 20);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarLinhaTempo_CursorInvalido() throws Exception {
+        when(linhaTempoService.buscarLinhaTempo(anyString(), anyString(), anyInt()))
+                .thenThrow(TokenInvalidoException.cursorInvalido());
+
+        mockMvc.perform(get("/usuarios/{usuario}/timeline", "ana")
+                        .param("cursor", "xyz"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("cursor inválido"));
+    }
+}
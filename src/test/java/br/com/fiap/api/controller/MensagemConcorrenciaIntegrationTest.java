@@ -0,0 +1,290 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.model.Mensagem;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+// Sem @AutoConfigureTestDatabase: o teste precisa do pool Hikari, e menor que o número de threads, para expor
+// esperas por uma segunda conexão. Carga ajustável: ./gradlew testeEstresse -Pestresse.threads=32
+// @Isolated: a vazão mínima só é significativa sem outras classes disputando CPU.
+@Tag("estresse")
+@Isolated
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:estresse-${random.uuid};DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=10000"
+})
+@ActiveProfiles("test")
+public class MensagemConcorrenciaIntegrationTest {
+
+    private static final int THREADS = Integer.getInteger("estresse.threads", 12);
+    private static final int OPERACOES_POR_THREAD = Integer.getInteger("estresse.operacoes", 60);
+    private static final double VAZAO_MINIMA = Double.parseDouble(System.getProperty("estresse.vazao-minima", "20"));
+    private static final long TEMPO_MAXIMO_SEGUNDOS = 120;
+    private static final Path RELATORIO = Path.of("build", "reports", "estresse", "mensagens.properties");
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ConcurrentLinkedQueue<String> falhas = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void deveManterConsistencia_QuandoOperacoesConcorrentes() throws Exception {
+        // Arrange
+        var compartilhada = registrar("estresse-compartilhada", "Conteúdo inicial compartilhado");
+        var conteudosCompartilhada = ConcurrentHashMap.<String>newKeySet();
+        conteudosCompartilhada.add("Conteúdo inicial compartilhado");
+        var curtidas = new AtomicInteger();
+        var trabalhadores = new ArrayList<Trabalhador>();
+        for (int t = 0; t < THREADS; t++) {
+            trabalhadores.add(new Trabalhador(t, compartilhada, conteudosCompartilhada, curtidas));
+        }
+
+        // Act
+        var executor = Executors.newFixedThreadPool(THREADS);
+        var largada = new CountDownLatch(1);
+        trabalhadores.forEach(trabalhador -> executor.submit(() -> {
+            largada.await();
+            trabalhador.executar();
+            return null;
+        }));
+        var inicio = System.nanoTime();
+        largada.countDown();
+        executor.shutdown();
+        if (!executor.awaitTermination(TEMPO_MAXIMO_SEGUNDOS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+            fail("operações não terminaram em " + TEMPO_MAXIMO_SEGUNDOS + "s (possível deadlock):\n" + despejarThreads());
+        }
+        var duracaoNanos = System.nanoTime() - inicio;
+        registrarVazao(trabalhadores, duracaoNanos);
+
+        // Assert
+        assertThat(falhas).isEmpty();
+
+        var mensagemCompartilhada = buscar(compartilhada);
+        assertThat(mensagemCompartilhada.get("gostei").asInt()).isEqualTo(curtidas.get());
+        assertThat(conteudosCompartilhada).contains(mensagemCompartilhada.get("conteudo").asText());
+
+        var esperadas = new HashSet<UUID>(idsDoFeed());
+        for (var trabalhador : trabalhadores) {
+            for (var entrada : trabalhador.conteudos.entrySet()) {
+                assertThat(buscar(entrada.getKey()).get("conteudo").asText()).isEqualTo(entrada.getValue());
+            }
+            for (var removida : trabalhador.removidas) {
+                assertThat(restTemplate.getForEntity("/mensagens/{id}", String.class, removida).getStatusCode())
+                        .isEqualTo(HttpStatus.NOT_FOUND);
+            }
+            assertThat(esperadas).containsAll(trabalhador.conteudos.keySet());
+            assertThat(esperadas).doesNotContainAnyElementsOf(trabalhador.removidas);
+        }
+
+        assertPoolOcioso();
+    }
+
+    private List<UUID> idsDoFeed() {
+        var ids = new ArrayList<UUID>();
+        var total = -1L;
+        for (int pagina = 0; ; pagina++) {
+            var resposta = restTemplate.getForEntity("/mensagens?page={page}&size=7", JsonNode.class, pagina);
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+            total = resposta.getBody().get("totalElements").asLong();
+            var conteudo = resposta.getBody().get("content");
+            if (conteudo.isEmpty()) {
+                break;
+            }
+            conteudo.forEach(mensagem -> ids.add(UUID.fromString(mensagem.get("id").asText())));
+        }
+        assertThat(ids).doesNotHaveDuplicates().hasSize(Math.toIntExact(total));
+        return ids;
+    }
+
+    private void assertPoolOcioso() throws InterruptedException {
+        var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        var limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.getActiveConnections() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(20);
+        }
+        assertThat(pool.getActiveConnections()).as("conexões ativas após a carga").isZero();
+        assertThat(pool.getThreadsAwaitingConnection()).as("threads aguardando conexão").isZero();
+    }
+
+    private void registrarVazao(List<Trabalhador> trabalhadores, long duracaoNanos) throws IOException {
+        var latencias = trabalhadores.stream()
+                .flatMapToLong(trabalhador -> Arrays.stream(trabalhador.latencias, 0, trabalhador.operacoes))
+                .sorted()
+                .toArray();
+        var vazao = latencias.length / (duracaoNanos / 1e9);
+        var resultado = new HashMap<String, Object>();
+        resultado.put("threads", THREADS);
+        resultado.put("operacoes", latencias.length);
+        resultado.put("duracao.ms", TimeUnit.NANOSECONDS.toMillis(duracaoNanos));
+        resultado.put("vazao.ops-por-segundo", Math.round(vazao));
+        resultado.put("latencia.p50.ms", percentil(latencias, 0.50));
+        resultado.put("latencia.p99.ms", percentil(latencias, 0.99));
+        var relatorio = resultado.entrySet().stream()
+                .map(entrada -> entrada.getKey() + "=" + entrada.getValue())
+                .sorted()
+                .collect(Collectors.joining("\n", "", "\n"));
+        Files.createDirectories(RELATORIO.getParent());
+        Files.writeString(RELATORIO, relatorio);
+
+        assertThat(vazao).as("vazão (ops/s) abaixo do mínimo; ver %s", RELATORIO).isGreaterThanOrEqualTo(VAZAO_MINIMA);
+    }
+
+    private static double percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        var indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, indice)] / 1e6;
+    }
+
+    private UUID registrar(String usuario, String conteudo) {
+        var mensagem = Mensagem.builder().usuario(usuario).conteudo(conteudo).build();
+        var resposta = restTemplate.postForEntity("/mensagens", mensagem, JsonNode.class);
+        if (resposta.getStatusCode() != HttpStatus.CREATED) {
+            throw new IllegalStateException("registrar: " + resposta.getStatusCode() + " " + resposta.getBody());
+        }
+        return UUID.fromString(resposta.getBody().get("id").asText());
+    }
+
+    private JsonNode buscar(UUID id) {
+        var resposta = restTemplate.getForEntity("/mensagens/{id}", JsonNode.class, id);
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return resposta.getBody();
+    }
+
+    private ResponseEntity<String> alterar(UUID id, String conteudo) {
+        var mensagem = Mensagem.builder().id(id).usuario("estresse").conteudo(conteudo).build();
+        return restTemplate.exchange("/mensagens/{id}", HttpMethod.PUT, new HttpEntity<>(mensagem), String.class, id);
+    }
+
+    private void esperar(String operacao, ResponseEntity<?> resposta, HttpStatus esperado) {
+        if (resposta.getStatusCode() != esperado) {
+            falhas.add(operacao + ": " + resposta.getStatusCode() + " " + resposta.getBody());
+        }
+    }
+
+    private static String despejarThreads() {
+        return Arrays.stream(ManagementFactory.getThreadMXBean().dumpAllThreads(true, true))
+                .map(Object::toString)
+                .collect(Collectors.joining());
+    }
+
+    private class Trabalhador {
+
+        private final int numero;
+        private final UUID compartilhada;
+        private final Set<String> conteudosCompartilhada;
+        private final AtomicInteger curtidas;
+
+        // Estado que só esta thread altera: o que foi escrito por último é o que deve estar no banco.
+        private final Map<UUID, String> conteudos = new HashMap<>();
+        private final List<UUID> removidas = new ArrayList<>();
+        private final long[] latencias = new long[OPERACOES_POR_THREAD];
+        private int operacoes;
+
+        private Trabalhador(int numero, UUID compartilhada, Set<String> conteudosCompartilhada, AtomicInteger curtidas) {
+            this.numero = numero;
+            this.compartilhada = compartilhada;
+            this.conteudosCompartilhada = conteudosCompartilhada;
+            this.curtidas = curtidas;
+        }
+
+        private void executar() {
+            var aleatorio = ThreadLocalRandom.current();
+            for (int i = 0; i < OPERACOES_POR_THREAD; i++) {
+                var inicio = System.nanoTime();
+                try {
+                    operar(i, aleatorio);
+                } catch (RuntimeException e) {
+                    falhas.add("thread " + numero + ", operação " + i + ": " + e);
+                }
+                latencias[operacoes++] = System.nanoTime() - inicio;
+            }
+        }
+
+        private void operar(int i, ThreadLocalRandom aleatorio) {
+            var proprias = new ArrayList<>(conteudos.keySet());
+            switch (proprias.isEmpty() ? 0 : i % 10) {
+                case 0, 1 -> {
+                    // Um usuário novo por mensagem: cada registro também cria a linha de estatísticas do usuário.
+                    var conteudo = "Conteúdo " + numero + "-" + i + " " + UUID.randomUUID();
+                    conteudos.put(registrar("estresse-" + numero + "-" + i, conteudo), conteudo);
+                }
+                case 2, 3 -> {
+                    var id = proprias.get(aleatorio.nextInt(proprias.size()));
+                    var conteudo = "Alterada " + numero + "-" + i;
+                    esperar("alterar", alterar(id, conteudo), HttpStatus.ACCEPTED);
+                    conteudos.put(id, conteudo);
+                }
+                case 4, 5, 6 -> {
+                    esperar("gostei", restTemplate.postForEntity("/mensagens/{id}/gostei", null, String.class,
+                            compartilhada), HttpStatus.OK);
+                    curtidas.incrementAndGet();
+                }
+                case 7 -> {
+                    var conteudo = "Compartilhada " + numero + "-" + i;
+                    conteudosCompartilhada.add(conteudo);
+                    esperar("alterar compartilhada", alterar(compartilhada, conteudo), HttpStatus.ACCEPTED);
+                }
+                case 8 -> {
+                    var id = proprias.get(aleatorio.nextInt(proprias.size()));
+                    esperar("remover", restTemplate.exchange("/mensagens/{id}", HttpMethod.DELETE, null,
+                            String.class, id), HttpStatus.OK);
+                    conteudos.remove(id);
+                    removidas.add(id);
+                }
+                default -> {
+                    var resposta = restTemplate.getForEntity("/mensagens?page={page}&size=10", JsonNode.class,
+                            aleatorio.nextInt(5));
+                    esperar("listar", resposta, HttpStatus.OK);
+                    var ids = new ArrayList<String>();
+                    resposta.getBody().get("content").forEach(mensagem -> ids.add(mensagem.get("id").asText()));
+                    if (new HashSet<>(ids).size() != ids.size()) {
+                        falhas.add("listar: página com mensagens repetidas " + ids);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.fiap.api.controller;
 
 import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.PaginaMensagem;
 import io.restassured.RestAssured;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,14 +14,21 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.UUID;
 
 import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
 import static io.restassured.RestAssured.given;
 import static io.restassured.RestAssured.when;
 import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureTestDatabase
@@ -91,13 +99,77 @@ public class MensagemControllerIntegrationTest {
                 .statusCode(HttpStatus.OK.value());
         }
 
+        @Test
+        void devePermitirBuscarMensagem_ComCamposSelecionados() {
+            var id = "7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8";
+
+            given()
+                .queryParam("fields", "id,usuario,gostei")
+            .when()
+                .get("/mensagens/{id}", id)
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("id", equalTo(id))
+                .body("usuario", equalTo("Adam"))
+                .body("gostei", equalTo(0))
+                .body("$", not(hasKey("conteudo")))
+                .body("$", not(hasKey("dataCriacao")));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarMensagem_CampoDesconhecido() {
+            var id = "7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8";
+
+            given()
+                .queryParam("fields", "id,senha")
+            .when()
+                .get("/mensagens/{id}", id)
+            .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", equalTo("campo inválido: senha"));
+        }
+
         @Test
         void deveGerarExcecao_QuandoBuscarMensagem_IdNaoExiste() {
             var id = "c0feb288-5c99-42fd-9be7-c59867714f3e";
             when()
                     .get("/mensagens/{id}", id)
             .then()
-                    .statusCode(HttpStatus.BAD_REQUEST.value());
+                    .statusCode(HttpStatus.NOT_FOUND.value())
+                    .body(matchesJsonSchemaInClasspath("schemas/error.schema.json"))
+                    .body("message", equalTo("Mensagem não encontrada"));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarMensagem_IdMalformado() {
+            when()
+                    .get("/mensagens/{id}", "nao-e-um-uuid")
+            .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .body(matchesJsonSchemaInClasspath("schemas/error.schema.json"))
+                    .body("path", equalTo("/mensagens/nao-e-um-uuid"));
+        }
+    }
+
+    @Nested
+    class BuscarMensagens {
+
+        @Test
+        void devePermitirBuscarMensagensEmLote() {
+            var ids = List.of(
+                    "52ea107b-7b58-446f-bbde-22a20cb8c2bc",
+                    "c0feb288-5c99-42fd-9be7-c59867714f3e",
+                    "7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8");
+
+            given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(ids)
+            .when()
+                .post("/mensagens/buscar")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("encontradas.id", contains(ids.get(0), ids.get(2)))
+                .body("naoEncontradas", contains(ids.get(1)));
         }
     }
 
@@ -138,8 +210,9 @@ public class MensagemControllerIntegrationTest {
             .when()
                 .put("/mensagens/{id}", id)
             .then()
-                .statusCode(HttpStatus.BAD_REQUEST.value())
-                .body(equalTo("Mensagem não encontrada"));
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body(matchesJsonSchemaInClasspath("schemas/error.schema.json"))
+                .body("message", equalTo("Mensagem não encontrada"));
         }
 
         @Test
@@ -156,7 +229,8 @@ public class MensagemControllerIntegrationTest {
             .then()
                 .statusCode(HttpStatus.BAD_REQUEST.value())
                 .log().all()
-                .body(equalTo("mensagem atualizada não apresenta o ID correto"));
+                .body(matchesJsonSchemaInClasspath("schemas/error.schema.json"))
+                .body("message", equalTo("mensagem atualizada não apresenta o ID correto"));
         }
 
         @Test
@@ -180,6 +254,41 @@ public class MensagemControllerIntegrationTest {
 
     }
 
+    @Nested
+    class GostarMensagem {
+
+        @Test
+        void devePermitirGostarMensagem_EListarPopulares() {
+            var id = "7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8";
+
+            when()
+                .post("/mensagens/{id}/gostei", id)
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body(matchesJsonSchemaInClasspath("schemas/mensagem.schema.json"))
+                .body("id", equalTo(id));
+
+            given()
+                .queryParam("limite", "1")
+            .when()
+                .get("/mensagens/populares")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("id", contains(id));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoGostarMensagem_IdNaoExiste() {
+            var id = "c0feb288-5c99-42fd-9be7-c59867714f3e";
+
+            when()
+                .post("/mensagens/{id}/gostei", id)
+            .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body("message", equalTo("Mensagem não encontrada"));
+        }
+    }
+
     @Nested
     class RemoverMensagem {
 
@@ -202,8 +311,9 @@ public class MensagemControllerIntegrationTest {
                     .delete("/mensagens/{id}", id)
                     .then()
                     .log().all()
-                    .statusCode(HttpStatus.BAD_REQUEST.value())
-                    .body(equalTo("Mensagem não encontrada"));
+                    .statusCode(HttpStatus.NOT_FOUND.value())
+                    .body(matchesJsonSchemaInClasspath("schemas/error.schema.json"))
+                    .body("message", equalTo("Mensagem não encontrada"));
         }
 
     }
@@ -224,6 +334,20 @@ public class MensagemControllerIntegrationTest {
                 .body(matchesJsonSchemaInClasspath("schemas/mensagem.page.schema.json"));
         }
 
+        @Test
+        void devePermitirListarMensagens_ComCamposSelecionados() {
+            given()
+                .queryParam("fields", "id,usuario,gostei")
+            .when()
+                .get("/mensagens")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("content", not(empty()))
+                .body("content.conteudo", everyItem(nullValue()))
+                .body("content[0]", hasKey("usuario"))
+                .body("content[0]", not(hasKey("dataCriacao")));
+        }
+
         @Test
         void devePermitirListarMensagens_QuandoNaoInformadoPaginacao() {
             given()
@@ -234,6 +358,23 @@ public class MensagemControllerIntegrationTest {
                 .statusCode(HttpStatus.OK.value())
                 .body(matchesJsonSchemaInClasspath("schemas/mensagem.page.schema.json"));
         }
+
+        @Test
+        void devePermitirListarMensagens_QuandoSolicitadaPaginaCompacta() {
+            given()
+                .accept(PaginaMensagem.MEDIA_TYPE_VALUE)
+                .queryParam("page", "0")
+                .queryParam("size", "2")
+            .when()
+                .get("/mensagens")
+            .then()
+                .log().all()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(containsString(PaginaMensagem.MEDIA_TYPE_VALUE))
+                .body(matchesJsonSchemaInClasspath("schemas/mensagem.pagina.schema.json"))
+                .body("size", equalTo(2))
+                .body("hasNext", equalTo(true));
+        }
     }
 
 }
@@ -0,0 +1,190 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.service.MensagemService;
+import br.com.fiap.api.utils.ContagemSql;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.ContadorSql.medir;
+import static br.com.fiap.api.utils.MensagemHelper.asJsonString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Orçamento exato de comandos SQL por endpoint, com o cache de segundo nível vazio. Um comando a mais
+// (N+1, SELECT antes de INSERT, releitura desnecessária) quebra o build; se o aumento for intencional,
+// ajuste o orçamento no mesmo commit. Sem @Transactional: INSERT/UPDATE/DELETE só saem no commit.
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class MensagemControllerSqlIntegrationTest {
+
+    private static final String USUARIO = "Orçamento SQL";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Mensagem mensagem;
+
+    @BeforeEach
+    void setup() {
+        mensagem = mensagemService.registrarMensagem(novaMensagem());
+    }
+
+    @Test
+    void registrarMensagem() throws Exception {
+        assertOrcamento(post("/mensagens")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(novaMensagem())),
+                status().isCreated(),
+                new ContagemSql(0, 1, 1, 0));
+    }
+
+    @Test
+    void buscarMensagem() throws Exception {
+        assertOrcamento(get("/mensagens/{id}", mensagem.getId()), status().isOk(), ContagemSql.selects(1));
+    }
+
+    @Test
+    void buscarMensagem_ComProjecao() throws Exception {
+        assertOrcamento(get("/mensagens/{id}", mensagem.getId()).param("fields", "id,conteudo"),
+                status().isOk(), ContagemSql.selects(1));
+    }
+
+    @Test
+    void buscarMensagens() throws Exception {
+        assertOrcamento(post("/mensagens/buscar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(List.of(mensagem.getId(), UUID.randomUUID()))),
+                status().isOk(), ContagemSql.selects(1));
+    }
+
+    @Test
+    void listarMensagens() throws Exception {
+        assertOrcamento(get("/mensagens").param("page", "0").param("size", "1"),
+                status().isOk(), ContagemSql.selects(2));
+    }
+
+    @Test
+    void listarMensagens_ComProjecao() throws Exception {
+        assertOrcamento(get("/mensagens").param("page", "0").param("size", "1").param("fields", "id,conteudo"),
+                status().isOk(), ContagemSql.selects(2));
+    }
+
+    @Test
+    void listarPopulares() throws Exception {
+        assertOrcamento(get("/mensagens/populares"), status().isOk(), ContagemSql.selects(0));
+    }
+
+    @Test
+    void listarAlteracoes() throws Exception {
+        var resposta = mockMvc.perform(get("/mensagens/changes")).andReturn().getResponse().getContentAsString();
+        var token = objectMapper.readTree(resposta).get("token").asText();
+
+        assertOrcamento(get("/mensagens/changes"), status().isOk(), ContagemSql.selects(1));
+        assertOrcamento(get("/mensagens/changes").param("since", token), status().isOk(), ContagemSql.selects(2));
+    }
+
+    @Test
+    void alterarMensagem() throws Exception {
+        var alterada = Mensagem.builder()
+                .id(mensagem.getId())
+                .usuario(USUARIO)
+                .conteudo("Conteúdo alterado " + UUID.randomUUID())
+                .build();
+
+        assertOrcamento(put("/mensagens/{id}", mensagem.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(alterada)),
+                status().isAccepted(),
+                new ContagemSql(1, 0, 1, 0));
+    }
+
+    @Test
+    void gostarMensagem() throws Exception {
+        assertOrcamento(post("/mensagens/{id}/gostei", mensagem.getId()), status().isOk(),
+                new ContagemSql(1, 0, 2, 0));
+    }
+
+    @Test
+    void removerMensagem() throws Exception {
+        // SELECT da mensagem, DELETE, INSERT do marcador de remoção e UPDATE das estatísticas do usuário
+        assertOrcamento(delete("/mensagens/{id}", mensagem.getId()), status().isOk(),
+                new ContagemSql(1, 1, 1, 1));
+    }
+
+    @Test
+    void responderMensagem() throws Exception {
+        var resposta = novaMensagem();
+        resposta.setRespostaDe(mensagem.getId());
+
+        // INSERT da resposta, UPDATE das estatísticas e UPDATE do contador de respostas da mensagem respondida
+        assertOrcamento(post("/mensagens")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJsonString(resposta)),
+                status().isCreated(),
+                new ContagemSql(0, 1, 2, 0));
+    }
+
+    @Test
+    void buscarConversa() throws Exception {
+        var respondida = mensagem;
+        for (int i = 0; i < 5; i++) {
+            var resposta = novaMensagem();
+            resposta.setRespostaDe(respondida.getId());
+            respondida = mensagemService.registrarMensagem(resposta);
+        }
+
+        // Raiz, página de respostas diretas, consulta recursiva dos descendentes e carga dos descendentes,
+        // qualquer que seja a profundidade da conversa
+        assertOrcamento(get("/mensagens/{id}/thread", mensagem.getId()), status().isOk(), ContagemSql.selects(4));
+    }
+
+    @Test
+    void buscarMensagem_IdInexistente() throws Exception {
+        assertOrcamento(get("/mensagens/{id}", UUID.randomUUID()), status().isNotFound(), ContagemSql.selects(1));
+    }
+
+    private void assertOrcamento(RequestBuilder requisicao, ResultMatcher statusEsperado, ContagemSql orcamento)
+            throws Exception {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        var medicao = medir(() -> mockMvc.perform(requisicao));
+
+        medicao.resultado().andExpect(statusEsperado);
+        assertThat(medicao.contagem()).as("comandos SQL").isEqualTo(orcamento);
+    }
+
+    private static Mensagem novaMensagem() {
+        return Mensagem.builder()
+                .usuario(USUARIO)
+                .conteudo("Conteúdo do orçamento " + UUID.randomUUID())
+                .build();
+    }
+}
@@ -1,8 +1,21 @@
 package br.com.fiap.api.controller;
 
+import br.com.fiap.api.config.CacheRespostaProperties;
+import br.com.fiap.api.config.IdempotenciaProperties;
+import br.com.fiap.api.exception.MensagemInvalidaException;
 import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.exception.TokenInvalidoException;
+import br.com.fiap.api.model.AlteracoesMensagens;
+import br.com.fiap.api.model.CampoMensagem;
 import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.ResultadoBuscaMensagens;
+import br.com.fiap.api.model.PaginaMensagem;
+import br.com.fiap.api.service.CacheRespostaServiceImpl;
+import br.com.fiap.api.service.IdempotenciaService;
+import br.com.fiap.api.service.IdempotenciaServiceImpl;
 import br.com.fiap.api.service.MensagemService;
+import br.com.fiap.api.service.SincronizacaoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -11,18 +24,31 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static br.com.fiap.api.utils.MensagemHelper.asJsonString;
 import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,14 +60,22 @@ class MensagemControllerTest {
     @Mock
     private MensagemService mensagemService;
 
+    @Mock
+    private SincronizacaoService sincronizacaoService;
+
     AutoCloseable mock;
 
     @BeforeEach
     void setup() {
         mock = MockitoAnnotations.openMocks(this);
-        MensagemController mensagemController = new MensagemController(mensagemService);
+        var cacheRespostaProperties = new CacheRespostaProperties();
+        cacheRespostaProperties.setComprimirAPartirDe(DataSize.ofBytes(100));
+        MensagemController mensagemController = new MensagemController(
+                mensagemService, new IdempotenciaServiceImpl(new IdempotenciaProperties()), sincronizacaoService,
+                new CacheRespostaServiceImpl(cacheRespostaProperties, new ObjectMapper()));
         //mockMvc = MockMvcBuilders.standaloneSetup(mensagemController).build();
         mockMvc = MockMvcBuilders.standaloneSetup(mensagemController)
+                .setControllerAdvice(new ControllerExceptionHandler())
                 .addFilter((request, response, chain) -> {
                     response.setCharacterEncoding("UTF-8");
                     chain.doFilter(request, response);
@@ -87,6 +121,81 @@ class MensagemControllerTest {
 
             verify(mensagemService, never()).registrarMensagem(any(Mensagem.class));
         }
+
+        @Test
+        void deveRepetirResposta_QuandoRegistrarMensagem_MesmaIdempotencyKey() throws Exception {
+            var mensagem = gerarMensagem();
+            when(mensagemService.registrarMensagem(any(Mensagem.class)))
+                    .thenAnswer(i -> {
+                        Mensagem registrada = i.getArgument(0);
+                        registrada.setId(UUID.randomUUID());
+                        return registrada;
+                    });
+
+            var primeira = mockMvc.perform(post("/mensagens")
+                            .header(IdempotenciaService.CABECALHO_CHAVE, "chave-1")
+                            .content(asJsonString(mensagem))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist(IdempotenciaService.CABECALHO_REPETIDA))
+                    .andReturn().getResponse().getContentAsString();
+
+            mockMvc.perform(post("/mensagens")
+                            .header(IdempotenciaService.CABECALHO_CHAVE, "chave-1")
+                            .content(asJsonString(mensagem))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(IdempotenciaService.CABECALHO_REPETIDA, "true"))
+                    .andExpect(content().json(primeira));
+
+            verify(mensagemService, times(1)).registrarMensagem(any(Mensagem.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoRegistrarMensagem_IdempotencyKeyReutilizadaComOutroConteudo() throws Exception {
+            var mensagem = gerarMensagem();
+            var outraMensagem = gerarMensagem();
+            outraMensagem.setConteudo("Outro conteúdo");
+            when(mensagemService.registrarMensagem(any(Mensagem.class))).thenAnswer(i -> i.getArgument(0));
+
+            mockMvc.perform(post("/mensagens")
+                            .header(IdempotenciaService.CABECALHO_CHAVE, "chave-2")
+                            .content(asJsonString(mensagem))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(post("/mensagens")
+                            .header(IdempotenciaService.CABECALHO_CHAVE, "chave-2")
+                            .content(asJsonString(outraMensagem))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.status").value(422));
+
+            verify(mensagemService, times(1)).registrarMensagem(any(Mensagem.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoRegistrarMensagem_IdempotencyKeyReutilizadaComOutraRespostaDe() throws Exception {
+            var mensagem = gerarMensagem();
+            mensagem.setRespostaDe(UUID.randomUUID());
+            var outraMensagem = gerarMensagem();
+            outraMensagem.setRespostaDe(UUID.randomUUID());
+            when(mensagemService.registrarMensagem(any(Mensagem.class))).thenAnswer(i -> i.getArgument(0));
+
+            mockMvc.perform(post("/mensagens")
+                            .header(IdempotenciaService.CABECALHO_CHAVE, "chave-3")
+                            .content(asJsonString(mensagem))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(post("/mensagens")
+                            .header(IdempotenciaService.CABECALHO_CHAVE, "chave-3")
+                            .content(asJsonString(outraMensagem))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isUnprocessableEntity());
+
+            verify(mensagemService, times(1)).registrarMensagem(any(Mensagem.class));
+        }
     }
 
     @Nested
@@ -102,15 +211,133 @@ class MensagemControllerTest {
             verify(mensagemService, times(1)).buscarMensagem(any(UUID.class));
         }
 
+        @Test
+        void devePermitirBuscarMensagem_Comprimida() throws Exception {
+            var id = UUID.fromString("94dd81dd-9bb1-4e4d-a8e6-becc9aaa752f");
+            var mensagem = gerarMensagem();
+            mensagem.setId(id);
+            mensagem.setConteudo("Conteúdo longo ".repeat(20));
+            mensagem.setAtualizadoEm(LocalDateTime.now());
+            when(mensagemService.buscarMensagem(id)).thenReturn(mensagem);
+
+            var corpo = mockMvc.perform(get("/mensagens/{id}", id).header(HttpHeaders.ACCEPT_ENCODING, "br, gzip"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            try (var entrada = new GZIPInputStream(new ByteArrayInputStream(corpo))) {
+                assertThat(new String(entrada.readAllBytes(), StandardCharsets.UTF_8))
+                        .contains("\"id\":\"" + id + "\"")
+                        .contains(mensagem.getConteudo());
+            }
+        }
+
+        @Test
+        void deveBuscarMensagemSemCompressao_QuandoClienteNaoAceitaGzip() throws Exception {
+            var id = UUID.fromString("94dd81dd-9bb1-4e4d-a8e6-becc9aaa752f");
+            var mensagem = gerarMensagem();
+            mensagem.setId(id);
+            mensagem.setConteudo("Conteúdo longo ".repeat(20));
+            mensagem.setAtualizadoEm(LocalDateTime.now());
+            when(mensagemService.buscarMensagem(id)).thenReturn(mensagem);
+
+            mockMvc.perform(get("/mensagens/{id}", id).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(jsonPath("$.id").value(id.toString()))
+                    .andExpect(jsonPath("$.conteudo").value(mensagem.getConteudo()));
+        }
+
         @Test
         void deveGerarExcecao_QuandoBuscarMensagem_IdNaoExiste() throws Exception {
             var id = UUID.fromString("60a8a2fc-53db-488f-94cd-2bf548e79a5e");
 
-            when(mensagemService.buscarMensagem(id)).thenThrow(MensagemNotFoundException.class);
+            when(mensagemService.buscarMensagem(id)).thenThrow(MensagemNotFoundException.naoEncontrada());
 
-            mockMvc.perform(get("/mensagens/{id}", id)).andExpect(status().isBadRequest());
+            mockMvc.perform(get("/mensagens/{id}", id))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.status").value(404))
+                    .andExpect(jsonPath("$.error").value("Not Found"))
+                    .andExpect(jsonPath("$.message").value("Mensagem não encontrada"))
+                    .andExpect(jsonPath("$.path").value("/mensagens/" + id))
+                    .andExpect(jsonPath("$.timestamp").exists());
             verify(mensagemService, times(1)).buscarMensagem(id);
         }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarMensagem_IdMalformado() throws Exception {
+            mockMvc.perform(get("/mensagens/{id}", "nao-e-um-uuid"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("ID inválido"))
+                    .andExpect(jsonPath("$.path").value("/mensagens/nao-e-um-uuid"));
+            verify(mensagemService, never()).buscarMensagem(any(UUID.class));
+        }
+
+        @Test
+        void devePermitirBuscarMensagem_ComCamposSelecionados() throws Exception {
+            var id = UUID.fromString("94dd81dd-9bb1-4e4d-a8e6-becc9aaa752f");
+            var mensagem = new Mensagem();
+            mensagem.setId(id);
+            mensagem.setUsuario("Adam");
+            var campos = EnumSet.of(CampoMensagem.ID, CampoMensagem.USUARIO);
+            when(mensagemService.buscarMensagem(id, campos)).thenReturn(mensagem);
+
+            mockMvc.perform(get("/mensagens/{id}", id).param("fields", "id,usuario"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(id.toString()))
+                    .andExpect(jsonPath("$.usuario").value("Adam"))
+                    .andExpect(jsonPath("$.conteudo").doesNotExist())
+                    .andExpect(jsonPath("$.gostei").doesNotExist());
+            verify(mensagemService, times(1)).buscarMensagem(id, campos);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarMensagem_CampoDesconhecido() throws Exception {
+            var id = UUID.fromString("94dd81dd-9bb1-4e4d-a8e6-becc9aaa752f");
+
+            mockMvc.perform(get("/mensagens/{id}", id).param("fields", "id,senha"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("campo inválido: senha"));
+            verify(mensagemService, never()).buscarMensagem(any(UUID.class), anySet());
+        }
+    }
+
+    @Nested
+    class BuscarMensagens {
+
+        @Test
+        void devePermitirBuscarMensagensEmLote() throws Exception {
+            var encontrada = gerarMensagem();
+            encontrada.setId(UUID.fromString("94dd81dd-9bb1-4e4d-a8e6-becc9aaa752f"));
+            var naoEncontrada = UUID.fromString("60a8a2fc-53db-488f-94cd-2bf548e79a5e");
+            var ids = List.of(encontrada.getId(), naoEncontrada);
+            when(mensagemService.buscarMensagens(ids))
+                    .thenReturn(new ResultadoBuscaMensagens(List.of(encontrada), List.of(naoEncontrada)));
+
+            mockMvc.perform(post("/mensagens/buscar")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(ids)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.encontradas[0].id").value(encontrada.getId().toString()))
+                    .andExpect(jsonPath("$.naoEncontradas[0]").value(naoEncontrada.toString()));
+            verify(mensagemService, times(1)).buscarMensagens(ids);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarMensagensEmLote_LimiteExcedido() throws Exception {
+            var ids = new ArrayList<UUID>();
+            for (int i = 0; i <= MensagemController.LIMITE_BUSCA_EM_LOTE; i++) {
+                ids.add(UUID.randomUUID());
+            }
+
+            mockMvc.perform(post("/mensagens/buscar")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(ids)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("lista de IDs excede o limite de " + MensagemController.LIMITE_BUSCA_EM_LOTE));
+            verify(mensagemService, never()).buscarMensagens(anyList());
+        }
     }
 
     @Nested
@@ -134,6 +361,24 @@ class MensagemControllerTest {
             verify(mensagemService, times(1)).alterarMensagem(id, mensagem);
         }
 
+        @Test
+        void deveRepetirResposta_QuandoAlterarMensagem_MesmaIdempotencyKey() throws Exception {
+            var id = UUID.fromString("05c88d1b-8946-4862-ac27-eb70c5f0835e");
+            var mensagem = gerarMensagem();
+            mensagem.setId(id);
+            when(mensagemService.alterarMensagem(id, mensagem)).thenReturn(mensagem);
+
+            for (var tentativa = 0; tentativa < 2; tentativa++) {
+                mockMvc.perform(put("/mensagens/{id}", id)
+                                .header(IdempotenciaService.CABECALHO_CHAVE, "chave-3")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(asJsonString(mensagem)))
+                        .andExpect(status().isAccepted());
+            }
+
+            verify(mensagemService, times(1)).alterarMensagem(id, mensagem);
+        }
+
         @Test
         void deveGerarExcecao_QuandoAlterarMensagem_PayloadXML() throws Exception {
             var id = UUID.fromString("05c88d1b-8946-4862-ac27-eb70c5f0835e");
@@ -161,8 +406,8 @@ class MensagemControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(asJsonString(mensagem)))
 //                    .andDo(print())
-                    .andExpect(status().isBadRequest())
-                    .andExpect(content().string(conteudoDaExcecao));
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value(conteudoDaExcecao));
 
             verify(mensagemService, times(1))
                     .alterarMensagem(any(UUID.class), any(Mensagem.class));
@@ -176,19 +421,99 @@ class MensagemControllerTest {
             var conteudoDaExcecao = "mensagem atualizada não apresenta o ID correto";
 
             when(mensagemService.alterarMensagem(id, mensagem))
-                    .thenThrow(new MensagemNotFoundException(conteudoDaExcecao));
+                    .thenThrow(new MensagemInvalidaException(conteudoDaExcecao));
 
             mockMvc.perform(put("/mensagens/{id}", id)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(asJsonString(mensagem)))
                     .andExpect(status().isBadRequest())
-                    .andExpect(content().string(conteudoDaExcecao));
+                    .andExpect(jsonPath("$.message").value(conteudoDaExcecao));
 
             verify(mensagemService, times(1)).alterarMensagem(any(UUID.class), any(Mensagem.class));
         }
 
     }
 
+    @Nested
+    class GostarMensagem {
+
+        @Test
+        void devePermitirGostarMensagem() throws Exception {
+            var id = UUID.fromString("67413221-826d-4ff3-a105-37464b573af1");
+            var mensagem = gerarMensagem();
+            mensagem.setId(id);
+            mensagem.setGostei(1);
+            when(mensagemService.gostarMensagem(id)).thenReturn(mensagem);
+
+            mockMvc.perform(post("/mensagens/{id}/gostei", id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.gostei").value(1));
+
+            verify(mensagemService, times(1)).gostarMensagem(id);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoGostarMensagem_IdNaoExiste() throws Exception {
+            var id = UUID.fromString("e32147ab-ed79-49b1-b612-4dc6570dafaf");
+            when(mensagemService.gostarMensagem(id))
+                    .thenThrow(new MensagemNotFoundException("Mensagem não encontrada"));
+
+            mockMvc.perform(post("/mensagens/{id}/gostei", id))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Mensagem não encontrada"));
+        }
+    }
+
+    @Nested
+    class ListarPopulares {
+
+        @Test
+        void devePermitirListarPopulares() throws Exception {
+            var mensagem = gerarMensagem();
+            mensagem.setGostei(5);
+            when(mensagemService.listarPopulares(5)).thenReturn(List.of(mensagem));
+
+            mockMvc.perform(get("/mensagens/populares").param("limite", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].gostei").value(5));
+
+            verify(mensagemService, times(1)).listarPopulares(5);
+            verify(mensagemService, never()).buscarMensagem(any(UUID.class));
+        }
+    }
+
+    @Nested
+    class ListarAlteracoes {
+
+        @Test
+        void devePermitirListarAlteracoesDesdeOToken() throws Exception {
+            var alterada = gerarMensagem();
+            alterada.setId(UUID.randomUUID());
+            var removida = UUID.fromString("67413221-826d-4ff3-a105-37464b573af1");
+            when(sincronizacaoService.listarAlteracoes("abc", 50))
+                    .thenReturn(new AlteracoesMensagens(List.of(alterada), List.of(removida), "def", false));
+
+            mockMvc.perform(get("/mensagens/changes").param("since", "abc").param("limite", "50"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alteradas[0].id").value(alterada.getId().toString()))
+                    .andExpect(jsonPath("$.removidas[0]").value(removida.toString()))
+                    .andExpect(jsonPath("$.token").value("def"))
+                    .andExpect(jsonPath("$.temMais").value(false));
+
+            verify(sincronizacaoService, times(1)).listarAlteracoes("abc", 50);
+            verify(mensagemService, never()).buscarMensagem(any(UUID.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoTokenInvalido() throws Exception {
+            when(sincronizacaoService.listarAlteracoes("xyz", 100)).thenThrow(TokenInvalidoException.tokenInvalido());
+
+            mockMvc.perform(get("/mensagens/changes").param("since", "xyz"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("token de sincronização inválido"));
+        }
+    }
+
     @Nested
     class RemoverMensagem {
 
@@ -214,8 +539,8 @@ class MensagemControllerTest {
                     .thenThrow(new MensagemNotFoundException(mensagemDaExcecao));
 
             mockMvc.perform(delete("/mensagens/{id}", id))
-                    .andExpect(status().isBadRequest())
-                    .andExpect(content().string(mensagemDaExcecao));
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value(mensagemDaExcecao));
 
             verify(mensagemService, times(1)).removerMensagem(id);
         }
@@ -243,6 +568,54 @@ class MensagemControllerTest {
 
         }
 
+        @Test
+        void devePermitirListarMensagens_QuandoSolicitadaPaginaCompacta() throws Exception {
+            var mensagem = gerarMensagem();
+            var page = new PageImpl<>(Collections.singletonList(mensagem));
+
+            when(mensagemService.listarMensagem(any(Pageable.class)))
+                    .thenReturn(page);
+
+            mockMvc.perform(get("/mensagens")
+                    .param("page", "0")
+                    .param("size", "10")
+                    .accept(PaginaMensagem.MEDIA_TYPE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(PaginaMensagem.MEDIA_TYPE))
+                    .andExpect(jsonPath("$.content", not(empty())))
+                    .andExpect(jsonPath("$.total").value(1))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.pageable").doesNotExist());
+        }
+
+        @Test
+        void devePermitirListarMensagens_ComCamposSelecionados() throws Exception {
+            var mensagem = new Mensagem();
+            mensagem.setUsuario("Adam");
+            mensagem.setGostei(3);
+            var page = new PageImpl<>(Collections.singletonList(mensagem));
+            var campos = EnumSet.of(CampoMensagem.USUARIO, CampoMensagem.GOSTEI);
+
+            when(mensagemService.listarMensagem(any(Pageable.class), eq(campos)))
+                    .thenReturn(page);
+
+            mockMvc.perform(get("/mensagens")
+                    .param("fields", "usuario,gostei"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].usuario").value("Adam"))
+                    .andExpect(jsonPath("$.content[0].gostei").value(3))
+                    .andExpect(jsonPath("$.content[0].conteudo").doesNotExist());
+            verify(mensagemService, never()).listarMensagem(any(Pageable.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoListarMensagens_CampoDesconhecido() throws Exception {
+            mockMvc.perform(get("/mensagens")
+                    .param("fields", "usuario,senha"))
+                    .andExpect(status().isBadRequest());
+            verify(mensagemService, never()).listarMensagem(any(Pageable.class), anySet());
+        }
+
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.exception.ExpurgoEmExecucaoException;
+import br.com.fiap.api.model.ResultadoExpurgo;
+import br.com.fiap.api.service.RetencaoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class RetencaoControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private RetencaoService retencaoService;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new RetencaoController(retencaoService))
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirExecutarExpurgo() throws Exception {
+        when(retencaoService.expurgarMensagensAntigas()).thenReturn(new ResultadoExpurgo(3, 2, 15));
+
+        mockMvc.perform(post("/retencao/execucoes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removidas").value(3))
+                .andExpect(jsonPath("$.lotes").value(2));
+
+        verify(retencaoService, times(1)).expurgarMensagensAntigas();
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoExpurgoJaEmExecucao() throws Exception {
+        when(retencaoService.expurgarMensagensAntigas())
+                .thenThrow(new ExpurgoEmExecucaoException("expurgo já está em execução"));
+
+        mockMvc.perform(post("/retencao/execucoes"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.fiap.api.controller;
+
+import br.com.fiap.api.exception.UsuarioNotFoundException;
+import br.com.fiap.api.model.EstatisticaUsuario;
+import br.com.fiap.api.service.EstatisticaUsuarioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class UsuarioControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private EstatisticaUsuarioService estatisticaUsuarioService;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new UsuarioController(estatisticaUsuarioService))
+                .setControllerAdvice(new ControllerExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirBuscarEstatisticasDoUsuario() throws Exception {
+        var estatisticas = new EstatisticaUsuario("Adam", 3, 7, LocalDateTime.of(2023, 1, 15, 10, 0));
+        when(estatisticaUsuarioService.buscarEstatisticas("Adam")).thenReturn(estatisticas);
+
+        mockMvc.perform(get("/usuarios/{usuario}/estatisticas", "Adam"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usuario").value("Adam"))
+                .andExpect(jsonPath("$.totalMensagens").value(3))
+                .andExpect(jsonPath("$.totalGostei").value(7));
+
+        verify(estatisticaUsuarioService, times(1)).buscarEstatisticas("Adam");
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoUsuarioNaoEncontrado() throws Exception {
+        when(estatisticaUsuarioService.buscarEstatisticas("Ninguem"))
+                .thenThrow(UsuarioNotFoundException.naoEncontrado());
+
+        mockMvc.perform(get("/usuarios/{usuario}/estatisticas", "Ninguem"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Usuário não encontrado"));
+    }
+}
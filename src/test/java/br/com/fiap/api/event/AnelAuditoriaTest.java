@@ -0,0 +1,99 @@
+package br.com.fiap.api.event;
+
+import br.com.fiap.api.model.AcaoAuditoria;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnelAuditoriaTest {
+
+    @Test
+    void deveEntregarRegistrosNaOrdemPublicada() {
+        // Arrange
+        var anel = new AnelAuditoria(8);
+        var id = UUID.randomUUID();
+        anel.publicar(AcaoAuditoria.REGISTRAR, null, 201, 1_000, "10.0.0.1");
+        anel.publicar(AcaoAuditoria.REMOVER, id, 404, 2_000, "10.0.0.2");
+
+        // Act
+        var lidos = new ArrayList<String>();
+        var quantidade = anel.consumir(10, registro -> lidos.add(registro.acao() + " " + registro.id() + " "
+                + registro.status() + " " + registro.duracaoNanos() + " " + registro.cliente()));
+
+        // Assert
+        assertThat(quantidade).isEqualTo(2);
+        assertThat(lidos).containsExactly("REGISTRAR null 201 1000 10.0.0.1", "REMOVER " + id + " 404 2000 10.0.0.2");
+        assertThat(anel.consumir(10, registro -> { })).isZero();
+    }
+
+    @Test
+    void deveDescartarEContar_QuandoAnelCheio() {
+        // Arrange
+        var anel = new AnelAuditoria(4);
+
+        // Act
+        var aceitos = 0;
+        for (int i = 0; i < 10; i++) {
+            if (anel.publicar(AcaoAuditoria.CURTIR, UUID.randomUUID(), 200, i, "cliente")) {
+                aceitos++;
+            }
+        }
+
+        // Assert
+        assertThat(aceitos).isEqualTo(4);
+        assertThat(anel.descartados()).isEqualTo(6);
+        assertThat(anel.consumir(2, registro -> { })).isEqualTo(2);
+        assertThat(anel.publicar(AcaoAuditoria.CURTIR, null, 200, 0, "cliente")).isTrue();
+        assertThat(anel.consumir(10, registro -> { })).isEqualTo(3);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoCapacidadeNaoEhPotenciaDeDois() {
+        assertThatThrownBy(() -> new AnelAuditoria(1000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("capacidade do anel deve ser potência de 2");
+    }
+
+    @Test
+    void deveEntregarTodosOsRegistros_ComVariosProdutores() throws InterruptedException {
+        // Arrange
+        var produtores = 4;
+        var porProdutor = 10_000;
+        var anel = new AnelAuditoria(1024);
+        var largada = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(produtores);
+        for (int p = 0; p < produtores; p++) {
+            var produtor = p;
+            executor.submit(() -> {
+                largada.await();
+                for (int i = 0; i < porProdutor; i++) {
+                    while (!anel.publicar(AcaoAuditoria.ALTERAR, null, 200, (long) produtor * porProdutor + i, null)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // Act
+        var vistos = new HashSet<Long>();
+        largada.countDown();
+        var limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (vistos.size() < produtores * porProdutor && System.nanoTime() < limite) {
+            anel.consumir(256, registro -> vistos.add(registro.duracaoNanos()));
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(vistos).hasSize(produtores * porProdutor);
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.fiap.api.event;
+
+import br.com.fiap.api.exception.OffsetExpiradoException;
+import br.com.fiap.api.exception.OffsetInvalidoException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LogEventosTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void deveAtribuirOffsetsSequenciais_ELerAPartirDeUmOffset() throws IOException {
+        // Arrange
+        try (var log = novoLog(1024, Long.MAX_VALUE)) {
+            for (int i = 0; i < 5; i++) {
+                log.anexar(offset -> registro("evento-" + offset));
+            }
+
+            // Act
+            var trecho = log.ler(2, 2);
+
+            // Assert
+            assertThat(trecho.offset()).isEqualTo(2);
+            assertThat(trecho.proximoOffset()).isEqualTo(4);
+            assertThat(ler(trecho)).isEqualTo("evento-2\nevento-3\n");
+        }
+    }
+
+    @Test
+    void deveRolarSegmento_QuandoRegistroNaoCabeNoAtivo() throws IOException {
+        // Arrange
+        try (var log = novoLog(32, Long.MAX_VALUE)) {
+
+            // Act
+            for (int i = 0; i < 10; i++) {
+                log.anexar(offset -> registro("evento-" + offset));
+            }
+
+            // Assert
+            try (var arquivos = Files.list(diretorio)) {
+                assertThat(arquivos.count()).isGreaterThan(1);
+            }
+            var trecho = log.ler(0, 100);
+            assertThat(trecho.proximoOffset()).isLessThan(10);
+            assertThat(ler(log.ler(trecho.proximoOffset(), 1))).isEqualTo("evento-" + trecho.proximoOffset() + "\n");
+        }
+    }
+
+    @Test
+    void deveRecuperarOffsets_QuandoReabrirDiretorio() throws IOException {
+        // Arrange
+        try (var log = novoLog(32, Long.MAX_VALUE)) {
+            for (int i = 0; i < 7; i++) {
+                log.anexar(offset -> registro("evento-" + offset));
+            }
+        }
+
+        // Act
+        try (var reaberto = novoLog(32, Long.MAX_VALUE)) {
+            var offset = reaberto.anexar(o -> registro("evento-" + o));
+
+            // Assert
+            assertThat(offset).isEqualTo(7);
+            assertThat(reaberto.primeiroOffset()).isZero();
+            assertThat(ler(reaberto.ler(7, 1))).isEqualTo("evento-7\n");
+        }
+    }
+
+    @Test
+    void deveDescartarRegistroIncompleto_QuandoRecuperarSegmentoAtivo() throws IOException {
+        // Arrange
+        try (var log = novoLog(1024, Long.MAX_VALUE)) {
+            log.anexar(offset -> registro("evento-" + offset));
+        }
+        Path arquivo;
+        try (var arquivos = Files.list(diretorio)) {
+            arquivo = arquivos.findFirst().orElseThrow();
+        }
+        Files.write(arquivo, "evento-incompl".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        // Act
+        try (var reaberto = novoLog(1024, Long.MAX_VALUE)) {
+            reaberto.anexar(offset -> registro("evento-" + offset));
+
+            // Assert
+            assertThat(ler(reaberto.ler(0, 10))).isEqualTo("evento-0\nevento-1\n");
+        }
+    }
+
+    @Test
+    void deveRemoverSegmentosAntigos_QuandoExcederRetencao() throws IOException {
+        // Arrange
+        try (var log = novoLog(32, 64)) {
+            for (int i = 0; i < 20; i++) {
+                log.anexar(offset -> registro("evento-" + offset));
+            }
+
+            // Act
+            var removidos = log.aplicarRetencao();
+
+            // Assert
+            assertThat(removidos).isPositive();
+            assertThat(log.primeiroOffset()).isPositive();
+            assertThatThrownBy(() -> log.ler(0, 1)).isInstanceOf(OffsetExpiradoException.class);
+            assertThat(ler(log.ler(19, 1))).isEqualTo("evento-19\n");
+        }
+    }
+
+    @Test
+    void deveAdiarExclusaoDoSegmento_EnquantoTrechoNaoForLiberado() throws IOException {
+        // Arrange
+        try (var log = novoLog(32, 64)) {
+            for (int i = 0; i < 20; i++) {
+                log.anexar(offset -> registro("evento-" + offset));
+            }
+            var trecho = log.ler(0, 1);
+
+            // Act
+            log.aplicarRetencao();
+            log.aplicarRetencao();
+
+            // Assert
+            assertThat(trecho.arquivo()).exists();
+            assertThat(ler(trecho)).isEqualTo("evento-0\n");
+            trecho.close();
+            log.aplicarRetencao();
+            assertThat(trecho.arquivo()).doesNotExist();
+        }
+    }
+
+    @Test
+    void deveRetornarTrechoVazio_QuandoOffsetForOProximo_EGerarExcecao_QuandoForFuturo() throws IOException {
+        // Arrange
+        try (var log = novoLog(1024, Long.MAX_VALUE)) {
+            log.anexar(offset -> registro("evento-" + offset));
+
+            // Act
+            var trecho = log.ler(1, 10);
+
+            // Assert
+            assertThat(trecho.tamanho()).isZero();
+            assertThat(trecho.proximoOffset()).isEqualTo(1);
+            assertThatThrownBy(() -> log.ler(2, 10)).isInstanceOf(OffsetInvalidoException.class);
+        }
+    }
+
+    private LogEventos novoLog(int tamanhoSegmento, long retencaoBytes) {
+        return new LogEventos(diretorio, tamanhoSegmento, Duration.ofHours(1), retencaoBytes, Duration.ofDays(7));
+    }
+
+    private static byte[] registro(String texto) {
+        return (texto + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String ler(LogEventos.Trecho trecho) throws IOException {
+        var bytes = Files.readAllBytes(trecho.arquivo());
+        var inicio = Math.toIntExact(trecho.posicao());
+        return new String(Arrays.copyOfRange(bytes, inicio, inicio + Math.toIntExact(trecho.tamanho())), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,174 @@
+package br.com.fiap.api.json;
+
+import br.com.fiap.api.model.Mensagem;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MensagemSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    private final ObjectMapper objectMapperReflexivo = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .addMixIn(Mensagem.class, MensagemReflexiva.class);
+
+    @Test
+    void deveSerializarMensagem() throws Exception {
+        var mensagem = Mensagem.builder()
+                .id(UUID.fromString("7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8"))
+                .usuario("Adam")
+                .conteudo("Conteudo da Mensagem 01")
+                .dataCriacao(LocalDateTime.of(2023, 1, 15, 0, 0, 0, 100_000_000))
+                .gostei(3)
+                .build();
+
+        var json = objectMapper.writeValueAsString(mensagem);
+
+        assertThat(json).isEqualTo("{\"id\":\"7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8\","
+                + "\"usuario\":\"Adam\","
+                + "\"conteudo\":\"Conteudo da Mensagem 01\","
+                + "\"dataCriacao\":\"2023-01-15 00:00:00.10000\","
+                + "\"gostei\":3}");
+    }
+
+    @Test
+    void deveSerializarIgualAoJacksonReflexivo() throws Exception {
+        var completa = gerarMensagem();
+        completa.setId(UUID.randomUUID());
+        completa.setDataCriacao(LocalDateTime.of(2024, 12, 31, 23, 59, 58, 123_456_789));
+        completa.setConteudo("Conteúdo com \"aspas\", barra \\ e\nquebra de linha");
+        completa.setGostei(42);
+
+        var semCampos = new Mensagem();
+
+        var idExtremo = gerarMensagem();
+        idExtremo.setId(new UUID(-1L, 0L));
+        idExtremo.setDataCriacao(LocalDateTime.of(1, 1, 1, 0, 0));
+
+        var resposta = gerarMensagem();
+        resposta.setId(UUID.randomUUID());
+        resposta.setRespostaDe(UUID.randomUUID());
+        resposta.setRespostas(2);
+
+        for (var mensagem : List.of(completa, semCampos, idExtremo, resposta)) {
+            assertThat(objectMapper.writeValueAsBytes(mensagem))
+                    .isEqualTo(objectMapperReflexivo.writeValueAsBytes(mensagem));
+        }
+    }
+
+    @Test
+    void devePermitirDesserializarMensagem() throws Exception {
+        var mensagem = gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        mensagem.setDataCriacao(LocalDateTime.of(2023, 1, 15, 10, 20, 30, 400_000_000));
+        mensagem.setGostei(7);
+        mensagem.setRespostaDe(UUID.randomUUID());
+
+        var resultadoObtido = objectMapper.readValue(objectMapper.writeValueAsString(mensagem), Mensagem.class);
+
+        assertThat(resultadoObtido).isEqualTo(mensagem);
+    }
+
+    @Test
+    void devePermitirDesserializarMensagemSemCamposOpcionais() throws Exception {
+        var json = "{\"usuario\":\"Ana\",\"conteudo\":\"Mensagem do Conteudo\"}";
+
+        var resultadoObtido = objectMapper.readValue(json, Mensagem.class);
+
+        assertThat(resultadoObtido.getId()).isNull();
+        assertThat(resultadoObtido.getDataCriacao()).isNull();
+        assertThat(resultadoObtido.getUsuario()).isEqualTo("Ana");
+        assertThat(resultadoObtido.getConteudo()).isEqualTo("Mensagem do Conteudo");
+        assertThat(resultadoObtido.getGostei()).isZero();
+        assertThat(resultadoObtido.getRespostaDe()).isNull();
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoDesserializarMensagem_IdInvalido() {
+        var json = "{\"id\":\"9ca7c72c-0957-4c7d-bdc2-325266842f2Z\",\"usuario\":\"Ana\"}";
+
+        assertThatThrownBy(() -> objectMapper.readValue(json, Mensagem.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoDesserializarMensagem_DataInvalida() {
+        var json = "{\"dataCriacao\":\"2023-13-15 00:00:00.10000\"}";
+
+        assertThatThrownBy(() -> objectMapper.readValue(json, Mensagem.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoDesserializarMensagem_CampoTextoComObjeto() {
+        var json = "{\"usuario\":{\"id\":\"9ca7c72c-0957-4c7d-bdc2-325266842f2e\"},\"conteudo\":\"Mensagem\"}";
+
+        assertThatThrownBy(() -> objectMapper.readValue(json, Mensagem.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoDesserializarMensagem_CampoTextoComArray() {
+        var json = "{\"conteudo\":[\"a\",\"b\"],\"usuario\":\"Ana\"}";
+
+        assertThatThrownBy(() -> objectMapper.readValue(json, Mensagem.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoDesserializarMensagem_GosteiInvalido() {
+        assertThatThrownBy(() -> objectMapper.readValue("{\"gostei\":\"muitos\"}", Mensagem.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> objectMapper.readValue("{\"gostei\":{\"total\":1}}", Mensagem.class))
+                .isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> objectMapper.readValue("{\"gostei\":1.5}", Mensagem.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    void devePermitirDesserializarEscalares_ComoJacksonPadrao() throws Exception {
+        var json = "{\"usuario\":123,\"conteudo\":true,\"gostei\":\"4\"}";
+
+        var resultadoObtido = objectMapper.readValue(json, Mensagem.class);
+
+        assertThat(resultadoObtido.getUsuario()).isEqualTo("123");
+        assertThat(resultadoObtido.getConteudo()).isEqualTo("true");
+        assertThat(resultadoObtido.getGostei()).isEqualTo(4);
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    abstract static class MensagemReflexiva {
+
+        @JsonFormat(pattern = MensagemJson.PADRAO_DATA)
+        private LocalDateTime dataCriacao;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private UUID respostaDe;
+
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        private int respostas;
+
+        @JsonIgnore
+        abstract boolean isNew();
+    }
+}
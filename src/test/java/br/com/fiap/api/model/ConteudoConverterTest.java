@@ -0,0 +1,69 @@
+package br.com.fiap.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConteudoConverterTest {
+
+    private final ConteudoConverter converter = new ConteudoConverter();
+
+    @Test
+    void deveManterConteudoPequenoSemCompactacao() {
+        var conteudo = "Conteúdo da Mensagem";
+
+        var gravado = converter.convertToDatabaseColumn(conteudo);
+
+        assertThat(gravado).isEqualTo(conteudo);
+        assertThat(converter.convertToEntityAttribute(gravado)).isEqualTo(conteudo);
+    }
+
+    @Test
+    void deveCompactarConteudoGrande() {
+        var conteudo = "Olá, mundo! Conteúdo repetido com acentuação. ".repeat(100);
+
+        var gravado = converter.convertToDatabaseColumn(conteudo);
+
+        assertThat(gravado.length()).isLessThan(conteudo.length());
+        assertThat(converter.convertToEntityAttribute(gravado)).isEqualTo(conteudo);
+    }
+
+    @Test
+    void deveManterConteudoGrandeIncompressivelSemCompactacao() {
+        var aleatorio = new Random(42);
+        var conteudo = new StringBuilder();
+        while (conteudo.length() < ConteudoConverter.LIMIAR_COMPACTACAO * 2) {
+            conteudo.append((char) ('!' + aleatorio.nextInt(90)));
+        }
+
+        var gravado = converter.convertToDatabaseColumn(conteudo.toString());
+
+        assertThat(gravado).isEqualTo(conteudo.toString());
+    }
+
+    @Test
+    void deveLerLinhasGravadasAntesDaCompactacao() {
+        var legado = "Conteudo da Mensagem 01 gravado como texto puro";
+
+        assertThat(converter.convertToEntityAttribute(legado)).isEqualTo(legado);
+    }
+
+    @Test
+    void deveEscaparConteudoQueComecaComMarcador() {
+        var conteudo = "\u0001Dnão é base64";
+
+        var gravado = converter.convertToDatabaseColumn(conteudo);
+
+        assertThat(gravado).isNotEqualTo(conteudo);
+        assertThat(converter.convertToEntityAttribute(gravado)).isEqualTo(conteudo);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoConteudoCompactadoCorrompido() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute("\u0001DAAAA"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
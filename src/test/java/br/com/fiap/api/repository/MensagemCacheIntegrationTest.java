@@ -0,0 +1,129 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.model.Mensagem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RecursosTeste.CONTEXTO_PADRAO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Sem @Transactional: o cache de segundo nível só é consultado entre sessões diferentes.
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@ResourceLock(CONTEXTO_PADRAO)
+public class MensagemCacheIntegrationTest {
+
+    private static final UUID ID = UUID.fromString("7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8");
+
+    @Autowired
+    private MensagemRepository mensagemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void setup() {
+        entityManagerFactory.getCache().evictAll();
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    void deveUsarCache_QuandoBuscarMensagemRepetidamente() {
+        var primeira = transactionTemplate.execute(status -> mensagemRepository.findById(ID).orElseThrow());
+        var segunda = transactionTemplate.execute(status -> mensagemRepository.findById(ID).orElseThrow());
+
+        assertThat(segunda.getConteudo()).isEqualTo(primeira.getConteudo());
+        assertThat(estatisticas.getSecondLevelCachePutCount()).isEqualTo(1);
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deveUsarCache_QuandoBuscarMensagensEmLote() {
+        transactionTemplate.executeWithoutResult(status -> mensagemRepository.findById(ID));
+
+        var encontradas = transactionTemplate.execute(status -> mensagemRepository.buscarPorIds(List.of(ID)));
+
+        assertThat(encontradas).extracting(Mensagem::getId).containsExactly(ID);
+        assertThat(estatisticas.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deveUsarCache_QuandoListarPrimeiraPaginaRepetidamente() {
+        var pagina = PageRequest.of(0, 2);
+
+        transactionTemplate.executeWithoutResult(status -> mensagemRepository.listarPrimeirasMensagens(pagina));
+        transactionTemplate.executeWithoutResult(status -> mensagemRepository.listarPrimeirasMensagens(pagina));
+
+        assertThat(estatisticas.getQueryCacheHitCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void deveManterOutrasMensagensNoCache_QuandoMensagemCurtida() {
+        var nova = gerarMensagem();
+        nova.setId(UUID.randomUUID());
+        transactionTemplate.executeWithoutResult(status -> mensagemRepository.save(nova));
+        try {
+            transactionTemplate.executeWithoutResult(status -> mensagemRepository.findById(ID));
+            transactionTemplate.executeWithoutResult(status -> curtir(nova.getId()));
+            estatisticas.clear();
+
+            transactionTemplate.executeWithoutResult(status -> mensagemRepository.findById(ID));
+
+            assertThat(estatisticas.getSecondLevelCacheHitCount()).isEqualTo(1);
+            assertThat(estatisticas.getPrepareStatementCount()).isZero();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> mensagemRepository.deleteById(nova.getId()));
+        }
+    }
+
+    @Test
+    void deveInvalidarCache_QuandoMensagemRegistradaAlteradaOuRemovida() {
+        var pagina = PageRequest.of(0, 2);
+        transactionTemplate.executeWithoutResult(status -> mensagemRepository.listarPrimeirasMensagens(pagina));
+
+        var nova = gerarMensagem();
+        nova.setId(UUID.randomUUID());
+        transactionTemplate.executeWithoutResult(status -> mensagemRepository.save(nova));
+        try {
+            var aposInsercao = transactionTemplate.execute(status -> mensagemRepository.listarPrimeirasMensagens(pagina));
+            assertThat(aposInsercao.getContent().get(0).getId()).isEqualTo(nova.getId());
+
+            transactionTemplate.executeWithoutResult(status -> curtir(nova.getId()));
+            var aposAlteracao = transactionTemplate.execute(status -> mensagemRepository.findById(nova.getId()).orElseThrow());
+            assertThat(aposAlteracao.getGostei()).isEqualTo(1);
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> mensagemRepository.deleteById(nova.getId()));
+        }
+
+        var aposRemocao = transactionTemplate.execute(status -> mensagemRepository.listarPrimeirasMensagens(pagina));
+        assertThat(aposRemocao.getContent()).extracting(Mensagem::getId).doesNotContain(nova.getId());
+        assertThat(transactionTemplate.execute(status -> mensagemRepository.findById(nova.getId()))).isEmpty();
+    }
+
+    private void curtir(UUID id) {
+        mensagemRepository.buscarParaAtualizar(id).ifPresent(mensagem -> mensagem.setGostei(mensagem.getGostei() + 1));
+    }
+}
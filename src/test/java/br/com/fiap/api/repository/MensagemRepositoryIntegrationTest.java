@@ -1,27 +1,38 @@
 package br.com.fiap.api.repository;
 
 import br.com.fiap.api.model.Mensagem;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.UUID;
 
 import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RecursosTeste.CONTEXTO_PADRAO;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @AutoConfigureTestDatabase
 @ActiveProfiles("test")
+@ResourceLock(CONTEXTO_PADRAO)
 @Transactional
 public class MensagemRepositoryIntegrationTest {
 
     @Autowired
     private MensagemRepository mensagemRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void devePermitirCriarTabela() {
         var totalDeRegistros = mensagemRepository.count();
@@ -47,6 +58,28 @@ public class MensagemRepositoryIntegrationTest {
         assertThat(mensagemRecebida.getUsuario()).isEqualTo(mensagem.getUsuario());
     }
 
+    @Test
+    void deveCompactarConteudoGrande_SemAlterarLeitura() {
+        // Arrange
+        var id = UUID.randomUUID();
+        var mensagem = gerarMensagem();
+        mensagem.setId(id);
+        mensagem.setConteudo("Conteúdo longo da mensagem. ".repeat(200));
+
+        // Act
+        mensagemRepository.saveAndFlush(mensagem);
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evict(Mensagem.class);
+        var conteudoGravado = jdbcTemplate.queryForObject(
+                "SELECT conteudo FROM mensagem WHERE id = ?", String.class, id);
+        var mensagemRecebida = mensagemRepository.findById(id).orElseThrow();
+
+        // Assert
+        assertThat(conteudoGravado).startsWith("\u0001D");
+        assertThat(conteudoGravado.length()).isLessThan(mensagem.getConteudo().length() / 4);
+        assertThat(mensagemRecebida.getConteudo()).isEqualTo(mensagem.getConteudo());
+    }
+
     @Test
     void devePemitirBuscarMensagem() {
         // Arrange
@@ -0,0 +1,54 @@
+package br.com.fiap.api.repository;
+
+import br.com.fiap.api.config.FragmentacaoProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RoteadorFragmentosImplTest {
+
+    @Test
+    void deveRotearTudoParaOFragmentoZero_QuandoFragmentacaoDesabilitada() {
+        // Arrange
+        var roteador = new RoteadorFragmentosImpl(new FragmentacaoProperties(), mock(PlatformTransactionManager.class));
+
+        // Act & Assert
+        assertThat(roteador.quantidade()).isEqualTo(1);
+        assertThat(roteador.fragmentoDe(UUID.randomUUID())).isZero();
+        assertThat(roteador.consultarTodos(fragmento -> fragmento)).containsExactly(0);
+    }
+
+    @Test
+    void deveRotearMesmoIdSempreParaOMesmoFragmento() {
+        // Arrange
+        var id = UUID.randomUUID();
+
+        // Act
+        var fragmento = RoteadorFragmentosImpl.fragmentoDe(id, 4);
+
+        // Assert
+        assertThat(fragmento).isBetween(0, 3);
+        assertThat(RoteadorFragmentosImpl.fragmentoDe(UUID.fromString(id.toString()), 4)).isEqualTo(fragmento);
+    }
+
+    @Test
+    void deveDistribuirIdsDeFormaEquilibradaEntreFragmentos() {
+        // Arrange
+        var quantidade = 4;
+        var contagem = new int[quantidade];
+
+        // Act
+        for (long i = 0; i < 40_000; i++) {
+            contagem[RoteadorFragmentosImpl.fragmentoDe(new UUID(0, i), quantidade)]++;
+        }
+
+        // Assert
+        for (var total : contagem) {
+            assertThat(total).isBetween(9_000, 11_000);
+        }
+    }
+}
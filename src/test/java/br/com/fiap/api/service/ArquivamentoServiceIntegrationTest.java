@@ -0,0 +1,109 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.repository.MensagemArquivadaRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "mensagem.arquivamento.habilitado=true",
+        "mensagem.arquivamento.idade=365d",
+        "mensagem.arquivamento.tamanho-lote=2",
+        "mensagem.arquivamento.pausa-entre-lotes=0ms"
+})
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Transactional
+public class ArquivamentoServiceIntegrationTest {
+
+    private static final UUID ID_ARQUIVADA = UUID.fromString("7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8");
+
+    @Autowired
+    private MensagemRepository mensagemRepository;
+
+    @Autowired
+    private MensagemArquivadaRepository mensagemArquivadaRepository;
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Autowired
+    private ArquivamentoService arquivamentoService;
+
+    @BeforeEach
+    void setup() {
+        mensagemService.registrarMensagem(gerarMensagem());
+        arquivamentoService.arquivarMensagensAntigas();
+    }
+
+    @Test
+    void deveMoverMensagensAntigasParaArquivo() {
+        assertThat(mensagemRepository.count()).isEqualTo(1);
+        assertThat(mensagemArquivadaRepository.count()).isEqualTo(3);
+        assertThat(mensagemRepository.findById(ID_ARQUIVADA)).isEmpty();
+    }
+
+    @Test
+    void devePermitirBuscarMensagemArquivada() {
+        var resultadoObtido = mensagemService.buscarMensagem(ID_ARQUIVADA);
+
+        assertThat(resultadoObtido.getUsuario()).isEqualTo("Adam");
+        assertThat(resultadoObtido.getConteudo()).isEqualTo("Conteudo da Mensagem 01");
+    }
+
+    @Test
+    void devePermitirListarMensagensAtravessandoArquivo() {
+        var primeiraPagina = mensagemService.listarMensagem(PageRequest.of(0, 1));
+        var segundaPagina = mensagemService.listarMensagem(PageRequest.of(0, 3));
+
+        assertThat(primeiraPagina.getContent()).hasSize(1);
+        assertThat(primeiraPagina.getTotalElements()).isEqualTo(4);
+        assertThat(segundaPagina.getContent()).hasSize(3);
+        assertThat(segundaPagina.getContent().get(1).getUsuario()).isEqualTo("Seth");
+    }
+
+    @Test
+    void devePermitirListarMensagensAtravessandoArquivo_ComCamposSelecionados() {
+        var pagina = mensagemService.listarMensagem(PageRequest.of(0, 3), EnumSet.of(CampoMensagem.USUARIO));
+
+        assertThat(pagina.getContent()).hasSize(3);
+        assertThat(pagina.getTotalElements()).isEqualTo(4);
+        assertThat(pagina.getContent().get(1).getUsuario()).isEqualTo("Seth");
+        assertThat(pagina.getContent().get(1).getConteudo()).isNull();
+    }
+
+    @Test
+    void devePermitirAlterarMensagemArquivada() {
+        var mensagemAtualizada = gerarMensagem();
+        mensagemAtualizada.setId(ID_ARQUIVADA);
+
+        var resultadoObtido = mensagemService.alterarMensagem(ID_ARQUIVADA, mensagemAtualizada);
+
+        assertThat(resultadoObtido.getConteudo()).isEqualTo(mensagemAtualizada.getConteudo());
+        assertThat(mensagemRepository.findById(ID_ARQUIVADA)).isEmpty();
+        assertThat(mensagemArquivadaRepository.findById(ID_ARQUIVADA))
+                .get()
+                .satisfies(arquivada -> assertThat(arquivada.getConteudo()).isEqualTo(mensagemAtualizada.getConteudo()));
+    }
+
+    @Test
+    void devePermitirRemoverMensagemArquivada() {
+        var resultadoObtido = mensagemService.removerMensagem(ID_ARQUIVADA);
+
+        assertThat(resultadoObtido).isTrue();
+        assertThat(mensagemArquivadaRepository.findById(ID_ARQUIVADA)).isEmpty();
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.ArquivamentoProperties;
+import br.com.fiap.api.model.ChaveMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.MensagemArquivada;
+import br.com.fiap.api.repository.MensagemArquivadaRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RoteadorFragmentosHelper.fragmentoUnico;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ArquivamentoServiceTest {
+
+    private ArquivamentoServiceImpl arquivamentoService;
+
+    @Mock
+    private MensagemRepository mensagemRepository;
+
+    @Mock
+    private MensagemArquivadaRepository mensagemArquivadaRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ArquivamentoProperties arquivamentoProperties;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        arquivamentoProperties = new ArquivamentoProperties();
+        arquivamentoProperties.setHabilitado(true);
+        arquivamentoProperties.setTamanhoLote(2);
+        arquivamentoProperties.setPausaEntreLotes(Duration.ZERO);
+        when(transactionTemplate.execute(any())).thenAnswer(i -> {
+            TransactionCallback<?> callback = i.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        arquivamentoService = new ArquivamentoServiceImpl(mensagemRepository, mensagemArquivadaRepository,
+                transactionTemplate, arquivamentoProperties, new SimpleMeterRegistry(), fragmentoUnico());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirArquivarMensagensEmLotes() {
+        // Arrange
+        var primeira = chave();
+        var segunda = chave();
+        var terceira = chave();
+        when(mensagemRepository.buscarChavesAnteriores(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(primeira, segunda))
+                .thenReturn(List.of(terceira));
+
+        // Act
+        var resultado = arquivamentoService.arquivarMensagensAntigas();
+
+        // Assert
+        assertThat(resultado.getMovidas()).isEqualTo(3);
+        assertThat(resultado.getLotes()).isEqualTo(2);
+        var inOrder = inOrder(mensagemArquivadaRepository, mensagemRepository);
+        inOrder.verify(mensagemArquivadaRepository).arquivarPorIds(List.of(primeira.getId(), segunda.getId()));
+        inOrder.verify(mensagemRepository).removerPorIds(List.of(primeira.getId(), segunda.getId()));
+        inOrder.verify(mensagemArquivadaRepository).arquivarPorIds(List.of(terceira.getId()));
+        inOrder.verify(mensagemRepository).removerPorIds(List.of(terceira.getId()));
+    }
+
+    @Test
+    void naoDeveConsultarArquivo_QuandoPaginaNaoCruzaFronteira() {
+        // Arrange
+        var pageable = PageRequest.of(0, 2);
+        var paginaQuente = new PageImpl<>(List.of(gerarMensagem(), gerarMensagem()), pageable, 10);
+        when(mensagemArquivadaRepository.count()).thenReturn(5L);
+
+        // Act
+        var resultado = arquivamentoService.completarPagina(paginaQuente, pageable);
+
+        // Assert
+        assertThat(resultado.getContent()).hasSize(2);
+        assertThat(resultado.getTotalElements()).isEqualTo(15);
+        verify(mensagemArquivadaRepository, never()).listarMensagens(anyLong(), anyInt());
+    }
+
+    @Test
+    void deveCompletarPaginaComArquivo_QuandoPaginaCruzaFronteira() {
+        // Arrange
+        var pageable = PageRequest.of(1, 4);
+        var paginaQuente = new PageImpl<>(List.of(gerarMensagem()), pageable, 5);
+        var arquivada = new MensagemArquivada(UUID.randomUUID(), "Adam", "Conteudo", LocalDateTime.now(), 0, LocalDateTime.now(), null, 0);
+        when(mensagemArquivadaRepository.listarMensagens(0, 3)).thenReturn(List.of(arquivada));
+        when(mensagemArquivadaRepository.count()).thenReturn(1L);
+
+        // Act
+        var resultado = arquivamentoService.completarPagina(paginaQuente, pageable);
+
+        // Assert
+        assertThat(resultado.getContent()).hasSize(2);
+        assertThat(resultado.getContent().get(1).getId()).isEqualTo(arquivada.getId());
+        assertThat(resultado.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    void naoDeveConsultarArquivo_QuandoArquivamentoDesabilitado() {
+        arquivamentoProperties.setHabilitado(false);
+
+        var resultado = arquivamentoService.buscarMensagem(UUID.randomUUID());
+
+        assertThat(resultado).isEmpty();
+        verify(mensagemArquivadaRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void devePermitirBuscarMensagemArquivada() {
+        var id = UUID.randomUUID();
+        var arquivada = new MensagemArquivada(id, "Adam", "Conteudo", LocalDateTime.now(), 2, LocalDateTime.now(), null, 0);
+        when(mensagemArquivadaRepository.findById(id)).thenReturn(Optional.of(arquivada));
+
+        var resultado = arquivamentoService.buscarMensagem(id);
+
+        assertThat(resultado).get()
+                .extracting(Mensagem::getId, Mensagem::getGostei)
+                .containsExactly(id, 2);
+    }
+
+    private static ChaveMensagem chave() {
+        var id = UUID.randomUUID();
+        var dataCriacao = LocalDateTime.of(2020, 1, 1, 0, 0);
+        return new ChaveMensagem() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDataCriacao() {
+                return dataCriacao;
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.AuditoriaProperties;
+import br.com.fiap.api.model.AcaoAuditoria;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditoriaServiceTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void deveGravarRegistrosPendentes_AoEncerrar() throws Exception {
+        // Arrange
+        var auditoriaService = novoServico(Duration.ofHours(1));
+        var id = UUID.randomUUID();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            auditoriaService.registrar(AcaoAuditoria.ALTERAR, id, 200, 5_000, "127.0.0.1");
+        }
+        auditoriaService.registrar(AcaoAuditoria.REGISTRAR, null, 201, 1_000, "127.0.0.1");
+        auditoriaService.fechar();
+
+        // Assert
+        var linhas = lerLinhas();
+        assertThat(linhas).hasSize(101);
+        assertThat(linhas.get(0)).contains("\"acao\":\"ALTERAR\"", "\"id\":\"" + id + "\"", "\"status\":200",
+                "\"duracaoMicros\":5", "\"cliente\":\"127.0.0.1\"");
+        assertThat(linhas.get(100)).contains("\"acao\":\"REGISTRAR\"", "\"status\":201").doesNotContain("\"id\"");
+        assertThat(auditoriaService.descartados()).isZero();
+    }
+
+    @Test
+    void deveRolarArquivo_QuandoAtingeTamanhoMaximo() throws Exception {
+        // Arrange
+        var properties = propriedades(Duration.ofMillis(1));
+        properties.setTamanhoArquivo(DataSize.ofBytes(200));
+        properties.setTamanhoLote(1);
+        properties.setArquivosRetidos(3);
+        var auditoriaService = new AuditoriaServiceImpl(properties);
+        auditoriaService.iniciar();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            auditoriaService.registrar(AcaoAuditoria.CURTIR, UUID.randomUUID(), 200, 1_000, "127.0.0.1");
+        }
+        auditoriaService.fechar();
+
+        // Assert
+        try (var arquivos = Files.list(diretorio)) {
+            assertThat(arquivos.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void deveRetomarGravacao_QuandoArquivoVoltaADisponivel() throws Exception {
+        // Arrange: o diretório vira um arquivo comum, então a rolagem não consegue abrir um novo arquivo
+        var properties = propriedades(Duration.ofMillis(1));
+        properties.setTamanhoArquivo(DataSize.ofBytes(200));
+        properties.setTamanhoLote(1);
+        properties.setEsperaAposFalha(Duration.ofMillis(1));
+        var auditoriaService = new AuditoriaServiceImpl(properties);
+        auditoriaService.iniciar();
+        try (var arquivos = Files.list(diretorio)) {
+            for (var arquivo : arquivos.toList()) {
+                Files.delete(arquivo);
+            }
+        }
+        Files.delete(diretorio);
+        Files.createFile(diretorio);
+        for (int i = 0; i < 5; i++) {
+            auditoriaService.registrar(AcaoAuditoria.CURTIR, UUID.randomUUID(), 200, 1_000, "127.0.0.1");
+        }
+        Thread.sleep(100);
+
+        // Act
+        Files.delete(diretorio);
+        Files.createDirectories(diretorio);
+        auditoriaService.registrar(AcaoAuditoria.REMOVER, UUID.randomUUID(), 200, 1_000, "127.0.0.1");
+        auditoriaService.fechar();
+
+        // Assert
+        assertThat(lerLinhas()).anyMatch(linha -> linha.contains("\"acao\":\"REMOVER\""));
+    }
+
+    @Test
+    void naoDeveGravar_QuandoDesabilitada() throws Exception {
+        var properties = propriedades(Duration.ofMillis(1));
+        properties.setHabilitada(false);
+        var auditoriaService = new AuditoriaServiceImpl(properties);
+        auditoriaService.iniciar();
+
+        auditoriaService.registrar(AcaoAuditoria.REMOVER, UUID.randomUUID(), 200, 1_000, "127.0.0.1");
+        auditoriaService.fechar();
+
+        try (var arquivos = Files.list(diretorio)) {
+            assertThat(arquivos.count()).isZero();
+        }
+    }
+
+    private AuditoriaServiceImpl novoServico(Duration espera) throws IOException {
+        var auditoriaService = new AuditoriaServiceImpl(propriedades(espera));
+        auditoriaService.iniciar();
+        return auditoriaService;
+    }
+
+    private AuditoriaProperties propriedades(Duration espera) {
+        var properties = new AuditoriaProperties();
+        properties.setDiretorio(diretorio.toString());
+        properties.setCapacidade(1024);
+        properties.setEspera(espera);
+        return properties;
+    }
+
+    private ArrayList<String> lerLinhas() throws IOException {
+        var linhas = new ArrayList<String>();
+        try (var arquivos = Files.list(diretorio)) {
+            for (var arquivo : arquivos.sorted().toList()) {
+                linhas.addAll(Files.readAllLines(arquivo));
+            }
+        }
+        return linhas;
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.CacheRespostaProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheRespostaServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CacheRespostaProperties cacheRespostaProperties;
+
+    private CacheRespostaServiceImpl cacheRespostaService;
+
+    @BeforeEach
+    void setup() {
+        cacheRespostaProperties = new CacheRespostaProperties();
+        cacheRespostaService = new CacheRespostaServiceImpl(cacheRespostaProperties, objectMapper);
+    }
+
+    @Test
+    void deveReutilizarBytes_QuandoVersaoNaoMudou() throws IOException {
+        // Arrange
+        var mensagem = mensagem();
+
+        // Act
+        var primeira = cacheRespostaService.codificar(mensagem);
+        var segunda = cacheRespostaService.codificar(copiar(mensagem));
+
+        // Assert
+        assertThat(segunda).isSameAs(primeira);
+        assertThat(primeira.json()).isEqualTo(objectMapper.writeValueAsBytes(mensagem));
+        assertThat(cacheRespostaService.tamanho()).isEqualTo(primeira.tamanho());
+    }
+
+    @Test
+    void deveSerializarNovamente_QuandoVersaoMudou() {
+        // Arrange
+        var mensagem = mensagem();
+        var anterior = cacheRespostaService.codificar(mensagem);
+        var alterada = copiar(mensagem);
+        alterada.setConteudo("Conteúdo alterado");
+        alterada.setAtualizadoEm(mensagem.getAtualizadoEm().plusNanos(1000));
+
+        // Act
+        var atual = cacheRespostaService.codificar(alterada);
+
+        // Assert
+        assertThat(atual).isNotSameAs(anterior);
+        assertThat(new String(atual.json())).contains("Conteúdo alterado");
+        assertThat(cacheRespostaService.tamanho()).isEqualTo(atual.tamanho());
+    }
+
+    @Test
+    void deveInvalidarEntrada_QuandoMensagemAlteradaOuRemovida() {
+        // Arrange
+        var alterada = mensagem();
+        var removida = mensagem();
+        var registrada = mensagem();
+        var entrada = cacheRespostaService.codificar(registrada);
+        var entradaAlterada = cacheRespostaService.codificar(alterada);
+        cacheRespostaService.codificar(removida);
+
+        // Act
+        cacheRespostaService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.ALTERADA, alterada));
+        cacheRespostaService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.REMOVIDA, removida));
+        cacheRespostaService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.REGISTRADA, registrada));
+
+        // Assert
+        assertThat(cacheRespostaService.tamanho()).isEqualTo(entrada.tamanho());
+        assertThat(cacheRespostaService.codificar(registrada)).isSameAs(entrada);
+        assertThat(cacheRespostaService.codificar(alterada)).isNotSameAs(entradaAlterada);
+    }
+
+    @Test
+    void deveLimitarPeloTotalDeBytes_DescartandoMenosUsadas() {
+        // Arrange
+        var primeira = mensagem();
+        var tamanho = cacheRespostaService.codificar(primeira).tamanho();
+        cacheRespostaService.remover(primeira.getId());
+        cacheRespostaProperties.setCapacidade(DataSize.ofBytes(tamanho * 2));
+        var segunda = mensagem();
+        var terceira = mensagem();
+        var entradaPrimeira = cacheRespostaService.codificar(primeira);
+        var entradaSegunda = cacheRespostaService.codificar(segunda);
+        cacheRespostaService.codificar(primeira);
+
+        // Act
+        cacheRespostaService.codificar(terceira);
+
+        // Assert
+        assertThat(cacheRespostaService.tamanho()).isLessThanOrEqualTo(tamanho * 2);
+        assertThat(cacheRespostaService.codificar(primeira)).isSameAs(entradaPrimeira);
+        assertThat(cacheRespostaService.codificar(segunda)).isNotSameAs(entradaSegunda);
+    }
+
+    @Test
+    void deveComprimir_QuandoCorpoUltrapassaLimite() throws IOException {
+        // Arrange
+        cacheRespostaProperties.setComprimirAPartirDe(DataSize.ofBytes(100));
+        var longa = mensagem();
+        longa.setConteudo("Conteúdo repetido ".repeat(50));
+        var curta = mensagem();
+
+        // Act
+        var comprimida = cacheRespostaService.codificar(longa);
+        var semCompressao = cacheRespostaService.codificar(curta);
+
+        // Assert
+        assertThat(comprimida.gzip()).isNotNull().hasSizeLessThan(comprimida.json().length);
+        try (var entrada = new GZIPInputStream(new ByteArrayInputStream(comprimida.gzip()))) {
+            assertThat(entrada.readAllBytes()).isEqualTo(comprimida.json());
+        }
+        assertThat(semCompressao.gzip()).isNull();
+    }
+
+    private static Mensagem mensagem() {
+        var mensagem = gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        mensagem.setDataCriacao(LocalDateTime.of(2024, 1, 1, 12, 0));
+        mensagem.setAtualizadoEm(mensagem.getDataCriacao());
+        return mensagem;
+    }
+
+    private static Mensagem copiar(Mensagem mensagem) {
+        var copia = gerarMensagem();
+        copia.setId(mensagem.getId());
+        copia.setConteudo(mensagem.getConteudo());
+        copia.setDataCriacao(mensagem.getDataCriacao());
+        copia.setAtualizadoEm(mensagem.getAtualizadoEm());
+        return copia;
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.exception.MensagemInvalidaException;
+import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.exception.TokenInvalidoException;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.NoConversa;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.ContadorSql.medir;
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RecursosTeste.CONTEXTO_PADRAO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@ResourceLock(CONTEXTO_PADRAO)
+@Transactional
+public class ConversaServiceIntegrationTest {
+
+    private static final UUID ID_RAIZ = UUID.fromString("7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8");
+
+    @Autowired
+    private ConversaService conversaService;
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void deveMontarArvoreDaConversa() {
+        // Arrange
+        var primeira = responder(ID_RAIZ);
+        var segunda = responder(ID_RAIZ);
+        var aninhada = responder(primeira.getId());
+        var profunda = responder(aninhada.getId());
+
+        // Act
+        var conversa = conversaService.buscarConversa(ID_RAIZ, null, 10);
+
+        // Assert
+        assertThat(conversa.getMensagem().getId()).isEqualTo(ID_RAIZ);
+        assertThat(conversa.getMensagem().getRespostas()).isEqualTo(2);
+        assertThat(conversa.getRespostas())
+                .extracting(no -> no.mensagem().getId())
+                .containsExactlyInAnyOrder(primeira.getId(), segunda.getId());
+        var ramo = conversa.getRespostas().stream()
+                .filter(no -> no.mensagem().getId().equals(primeira.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(ramo.mensagem().getRespostas()).isEqualTo(1);
+        assertThat(ramo.respostas()).extracting(no -> no.mensagem().getId()).containsExactly(aninhada.getId());
+        assertThat(ramo.respostas().get(0).respostas())
+                .extracting(no -> no.mensagem().getId())
+                .containsExactly(profunda.getId());
+        assertThat(conversa.isTemMais()).isFalse();
+        assertThat(conversa.getCursor()).isNull();
+        assertThat(conversa.isTruncada()).isFalse();
+    }
+
+    @Test
+    void devePermitirPaginarRespostasDiretas_SeguindoOCursor() {
+        // Arrange
+        var esperadas = new ArrayList<Mensagem>();
+        for (int i = 0; i < 5; i++) {
+            esperadas.add(responder(ID_RAIZ));
+        }
+        esperadas.sort(ConversaServiceImpl.ORDEM_RESPOSTA);
+
+        // Act
+        var recebidas = new ArrayList<UUID>();
+        String cursor = null;
+        var paginas = 0;
+        while (true) {
+            var conversa = conversaService.buscarConversa(ID_RAIZ, cursor, 2);
+            conversa.getRespostas().forEach(no -> recebidas.add(no.mensagem().getId()));
+            cursor = conversa.getCursor();
+            paginas++;
+            if (!conversa.isTemMais()) {
+                break;
+            }
+        }
+
+        // Assert
+        assertThat(recebidas).containsExactlyElementsOf(esperadas.stream().map(Mensagem::getId).toList());
+        assertThat(paginas).isEqualTo(3);
+    }
+
+    @Test
+    void deveManterQuantidadeDeConsultas_IndependenteDaProfundidade() throws Exception {
+        // Arrange
+        var rasa = responder(null);
+        responder(responder(rasa.getId()).getId());
+        var profunda = responder(null);
+        var respondida = profunda;
+        for (int i = 0; i < 20; i++) {
+            respondida = responder(respondida.getId());
+        }
+
+        // Act
+        limparCaches();
+        var medicaoRasa = medir(() -> conversaService.buscarConversa(rasa.getId(), null, 10));
+        limparCaches();
+        var medicaoProfunda = medir(() -> conversaService.buscarConversa(profunda.getId(), null, 10));
+
+        // Assert
+        assertThat(profundidade(medicaoProfunda.resultado().getRespostas().get(0))).isEqualTo(20);
+        assertThat(medicaoProfunda.contagem()).isEqualTo(medicaoRasa.contagem());
+    }
+
+    @Test
+    void deveAtualizarContador_QuandoRespostaRemovida() {
+        // Arrange
+        var resposta = responder(ID_RAIZ);
+
+        // Act
+        mensagemService.removerMensagem(resposta.getId());
+
+        // Assert
+        assertThat(mensagemService.buscarMensagem(ID_RAIZ).getRespostas()).isZero();
+        assertThat(conversaService.buscarConversa(ID_RAIZ, null, 10).getRespostas()).isEmpty();
+    }
+
+    @Test
+    void deveManterRespostaGerenciada_AposAtualizarContador() {
+        // Act
+        var resposta = responder(ID_RAIZ);
+
+        // Assert
+        assertThat(entityManager.contains(resposta)).isTrue();
+        assertThat(entityManager.find(Mensagem.class, ID_RAIZ).getRespostas()).isEqualTo(1);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoMensagemRespondidaNaoExiste() {
+        var resposta = gerarMensagem();
+        resposta.setRespostaDe(UUID.randomUUID());
+
+        assertThatThrownBy(() -> mensagemService.registrarMensagem(resposta))
+                .isInstanceOf(MensagemInvalidaException.class)
+                .hasMessage("mensagem respondida não existe");
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoConversaNaoEncontrada() {
+        assertThatThrownBy(() -> conversaService.buscarConversa(UUID.randomUUID(), null, 10))
+                .isInstanceOf(MensagemNotFoundException.class);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoCursorInvalido() {
+        assertThatThrownBy(() -> conversaService.buscarConversa(ID_RAIZ, "nao-e-um-cursor", 10))
+                .isInstanceOf(TokenInvalidoException.class)
+                .hasMessage("cursor inválido");
+    }
+
+    private Mensagem responder(UUID id) {
+        var resposta = gerarMensagem();
+        resposta.setConteudo("Resposta " + UUID.randomUUID());
+        resposta.setRespostaDe(id);
+        return mensagemService.registrarMensagem(resposta);
+    }
+
+    private void limparCaches() {
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private static int profundidade(NoConversa no) {
+        var profundidade = 1;
+        while (!no.respostas().isEmpty()) {
+            no = no.respostas().get(0);
+            profundidade++;
+        }
+        return profundidade;
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.DeduplicacaoProperties;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.MensagemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RoteadorFragmentosHelper.fragmentoUnico;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DeduplicacaoServiceTest {
+
+    private DeduplicacaoServiceImpl deduplicacaoService;
+
+    @Mock
+    private MensagemRepository mensagemRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    AutoCloseable openMocks;
+
+    @BeforeEach
+    void setup() {
+        openMocks = MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicacaoService = new DeduplicacaoServiceImpl(
+                mensagemRepository, new DeduplicacaoProperties(), meterRegistry, fragmentoUnico());
+        when(mensagemRepository.buscarHashesConteudoDesde(any(LocalDateTime.class))).thenReturn(List.of());
+        deduplicacaoService.aquecer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        openMocks.close();
+    }
+
+    @Test
+    void naoDeveConsultarBanco_QuandoFiltroDescartaMensagem() {
+        // Act
+        var duplicada = deduplicacaoService.buscarDuplicada(gerarMensagem());
+        // Assert
+        assertThat(duplicada).isEmpty();
+        verify(mensagemRepository, never())
+                .buscarDuplicadas(anyLong(), anyString(), anyString(), any(), any(LocalDateTime.class), any());
+        assertThat(contagem("filtrada")).isEqualTo(1);
+    }
+
+    @Test
+    void deveRetornarMensagemExistente_QuandoDuplicada() {
+        // Arrange
+        var existente = gerarMensagem();
+        existente.setId(UUID.randomUUID());
+        deduplicacaoService.registrar(existente);
+        when(mensagemRepository.buscarDuplicadas(
+                anyLong(), anyString(), anyString(), any(), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(existente));
+        // Act
+        var duplicada = deduplicacaoService.buscarDuplicada(gerarMensagem());
+        // Assert
+        assertThat(duplicada).contains(existente);
+        verify(mensagemRepository, times(1)).buscarDuplicadas(
+                eq(Mensagem.calcularHashConteudo(existente.getUsuario(), existente.getConteudo())),
+                eq(existente.getUsuario()), eq(existente.getConteudo()), isNull(), any(LocalDateTime.class), any());
+        assertThat(contagem("duplicada")).isEqualTo(1);
+    }
+
+    @Test
+    void deveContarFalsoPositivo_QuandoBancoNaoEncontraMensagem() {
+        // Arrange
+        deduplicacaoService.registrar(gerarMensagem());
+        when(mensagemRepository.buscarDuplicadas(
+                anyLong(), anyString(), anyString(), any(), any(LocalDateTime.class), any()))
+                .thenReturn(List.of());
+        // Act
+        var duplicada = deduplicacaoService.buscarDuplicada(gerarMensagem());
+        // Assert
+        assertThat(duplicada).isEmpty();
+        assertThat(contagem("falso_positivo")).isEqualTo(1);
+        assertThat(meterRegistry.get(DeduplicacaoServiceImpl.METRICA_TAXA_FALSO_POSITIVO).gauge().value())
+                .isGreaterThan(0);
+    }
+
+    private double contagem(String resultado) {
+        return meterRegistry.get(DeduplicacaoServiceImpl.METRICA_VERIFICACOES)
+                .tag("resultado", resultado)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.EstatisticaUsuarioRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RecursosTeste.CONTEXTO_PADRAO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@ResourceLock(CONTEXTO_PADRAO)
+@Transactional
+public class EstatisticaUsuarioServiceIntegrationTest {
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Autowired
+    private MensagemRepository mensagemRepository;
+
+    @Autowired
+    private EstatisticaUsuarioRepository estatisticaUsuarioRepository;
+
+    @Autowired
+    private EstatisticaUsuarioService estatisticaUsuarioService;
+
+    @Test
+    void deveAtualizarEstatisticas_NaMesmaTransacaoDasMensagens() {
+        var mensagem = gerarMensagem();
+        mensagem.setUsuario("Estatistica " + UUID.randomUUID());
+
+        var primeira = mensagemService.registrarMensagem(mensagem);
+        var segunda = mensagemService.registrarMensagem(gerarMensagemDe(mensagem.getUsuario(), "Outro conteúdo"));
+        mensagemService.gostarMensagem(primeira.getId());
+        mensagemService.gostarMensagem(primeira.getId());
+        mensagemService.removerMensagem(segunda.getId());
+
+        var estatisticas = estatisticaUsuarioService.buscarEstatisticas(mensagem.getUsuario());
+        assertThat(estatisticas.getTotalMensagens()).isEqualTo(1);
+        assertThat(estatisticas.getTotalGostei()).isEqualTo(2);
+        assertThat(estatisticas.getUltimaPublicacao()).isNotNull();
+    }
+
+    @Test
+    void devePermitirReconciliarEstatisticas() {
+        var mensagem = mensagemRepository.findById(UUID.fromString("7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8")).orElseThrow();
+        mensagem.setGostei(5);
+        mensagemRepository.saveAndFlush(mensagem);
+
+        var usuarios = estatisticaUsuarioService.reconciliar();
+
+        assertThat(usuarios).isGreaterThanOrEqualTo(3);
+        assertThat(estatisticaUsuarioRepository.findById("Adam"))
+                .get()
+                .satisfies(estatisticas -> {
+                    assertThat(estatisticas.getTotalMensagens()).isEqualTo(1);
+                    assertThat(estatisticas.getTotalGostei()).isEqualTo(5);
+                    assertThat(estatisticas.getUltimaPublicacao()).isEqualTo(mensagem.getDataCriacao());
+                });
+        assertThat(estatisticaUsuarioRepository.findById("Eve")).isPresent();
+    }
+
+    private static Mensagem gerarMensagemDe(String usuario, String conteudo) {
+        var mensagem = gerarMensagem();
+        mensagem.setUsuario(usuario);
+        mensagem.setConteudo(conteudo);
+        return mensagem;
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.EstatisticaProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.exception.UsuarioNotFoundException;
+import br.com.fiap.api.model.EstatisticaUsuario;
+import br.com.fiap.api.repository.EstatisticaUsuarioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RoteadorFragmentosHelper.fragmentoUnico;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EstatisticaUsuarioServiceTest {
+
+    private EstatisticaUsuarioServiceImpl estatisticaUsuarioService;
+
+    @Mock
+    private EstatisticaUsuarioRepository estatisticaUsuarioRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    AutoCloseable openMocks;
+
+    @BeforeEach
+    void setup() {
+        openMocks = MockitoAnnotations.openMocks(this);
+        var estatisticaProperties = new EstatisticaProperties();
+        estatisticaProperties.setTamanhoLote(2);
+        estatisticaUsuarioService = new EstatisticaUsuarioServiceImpl(
+                estatisticaUsuarioRepository, transactionManager, estatisticaProperties, fragmentoUnico());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        openMocks.close();
+    }
+
+    @Test
+    void devePermitirBuscarEstatisticas() {
+        // Arrange
+        var estatisticas = new EstatisticaUsuario("Adam", 2, 5, LocalDateTime.now());
+        when(estatisticaUsuarioRepository.findById("Adam")).thenReturn(Optional.of(estatisticas));
+        // Act
+        var resultado = estatisticaUsuarioService.buscarEstatisticas("Adam");
+        // Assert
+        assertThat(resultado).isEqualTo(estatisticas);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarEstatisticas_UsuarioNaoExiste() {
+        // Arrange
+        when(estatisticaUsuarioRepository.findById("Ninguem")).thenReturn(Optional.empty());
+        // Act & Assert
+        assertThatThrownBy(() -> estatisticaUsuarioService.buscarEstatisticas("Ninguem"))
+                .isInstanceOf(UsuarioNotFoundException.class)
+                .hasMessage("Usuário não encontrado");
+    }
+
+    @Test
+    void deveAtualizarEstatisticas_QuandoMensagemRegistrada() {
+        // Arrange
+        var mensagem = gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        mensagem.setDataCriacao(LocalDateTime.now());
+        when(estatisticaUsuarioRepository.registrarPublicacao(anyString(), anyLong(), any(LocalDateTime.class)))
+                .thenReturn(1);
+        // Act
+        estatisticaUsuarioService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.REGISTRADA, mensagem));
+        // Assert
+        verify(estatisticaUsuarioRepository, times(1))
+                .registrarPublicacao(mensagem.getUsuario(), 0, mensagem.getDataCriacao());
+        verify(estatisticaUsuarioRepository, never()).criarSeAusente(anyString());
+    }
+
+    @Test
+    void deveCriarRegistro_QuandoPrimeiraMensagemDoUsuario() {
+        // Arrange
+        var mensagem = gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        mensagem.setDataCriacao(LocalDateTime.now());
+        when(estatisticaUsuarioRepository.registrarPublicacao(anyString(), anyLong(), any(LocalDateTime.class)))
+                .thenReturn(0, 1);
+        // Act
+        estatisticaUsuarioService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.REGISTRADA, mensagem));
+        // Assert
+        verify(estatisticaUsuarioRepository, times(1)).criarSeAusente(mensagem.getUsuario());
+        verify(estatisticaUsuarioRepository, times(2))
+                .registrarPublicacao(mensagem.getUsuario(), 0, mensagem.getDataCriacao());
+    }
+
+    @Test
+    void deveAtualizarEstatisticas_QuandoMensagemCurtidaOuRemovida() {
+        // Arrange
+        var mensagem = gerarMensagem();
+        mensagem.setId(UUID.randomUUID());
+        mensagem.setGostei(4);
+        when(estatisticaUsuarioRepository.registrarGostei(anyString(), anyLong())).thenReturn(1);
+        // Act
+        estatisticaUsuarioService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.CURTIDA, mensagem));
+        estatisticaUsuarioService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.ALTERADA, mensagem));
+        estatisticaUsuarioService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.REMOVIDA, mensagem));
+        // Assert
+        verify(estatisticaUsuarioRepository, times(1)).registrarGostei(mensagem.getUsuario(), 1);
+        verify(estatisticaUsuarioRepository, times(1)).registrarRemocao(mensagem.getUsuario(), 4);
+        verify(estatisticaUsuarioRepository, never())
+                .registrarPublicacao(anyString(), anyLong(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void devePermitirReconciliarEmLotes() {
+        // Arrange
+        when(estatisticaUsuarioRepository.buscarUsuariosQuentes(eq(""), any()))
+                .thenReturn(List.of("Adam", "Seth"));
+        when(estatisticaUsuarioRepository.buscarUsuariosArquivados(eq(""), any()))
+                .thenReturn(List.of("Eve"));
+        when(estatisticaUsuarioRepository.buscarUsuariosQuentes(eq("Eve"), any()))
+                .thenReturn(List.of("Seth"));
+        when(estatisticaUsuarioRepository.buscarUsuariosArquivados(eq("Eve"), any()))
+                .thenReturn(List.of());
+        when(estatisticaUsuarioRepository.findAllById(any()))
+                .thenReturn(List.of(new EstatisticaUsuario("Adam", 1, 0, null)));
+        // Act
+        var usuarios = estatisticaUsuarioService.reconciliar();
+        // Assert
+        assertThat(usuarios).isEqualTo(3);
+        verify(estatisticaUsuarioRepository, times(1)).recalcular(List.of("Adam", "Eve"));
+        verify(estatisticaUsuarioRepository, times(1)).recalcular(List.of("Seth"));
+        verify(estatisticaUsuarioRepository, times(1)).removerOrfas();
+    }
+}
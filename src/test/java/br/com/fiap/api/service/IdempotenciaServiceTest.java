@@ -0,0 +1,214 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.IdempotenciaProperties;
+import br.com.fiap.api.exception.IdempotenciaConflitoException;
+import br.com.fiap.api.exception.IdempotenciaEmAndamentoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotenciaServiceTest {
+
+    private IdempotenciaProperties idempotenciaProperties;
+
+    private IdempotenciaService idempotenciaService;
+
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    @BeforeEach
+    void setup() {
+        idempotenciaProperties = new IdempotenciaProperties();
+        idempotenciaService = new IdempotenciaServiceImpl(idempotenciaProperties);
+    }
+
+    @Test
+    void deveRepetirResposta_SemExecutarNovamente() {
+        // Act
+        var primeira = idempotenciaService.executar("chave", "POST a", this::criar);
+        var segunda = idempotenciaService.executar("chave", "POST a", this::criar);
+        // Assert
+        assertThat(execucoes).hasValue(1);
+        assertThat(segunda.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(segunda.getBody()).isEqualTo(primeira.getBody());
+        assertThat(segunda.getHeaders().getFirst(IdempotenciaService.CABECALHO_REPETIDA)).isEqualTo("true");
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoChaveReutilizadaEmOutraRequisicao() {
+        // Arrange
+        idempotenciaService.executar("chave", "POST a", this::criar);
+        // Act & Assert
+        assertThatThrownBy(() -> idempotenciaService.executar("chave", "POST b", this::criar))
+                .isInstanceOf(IdempotenciaConflitoException.class);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void deveExecutarNovamente_QuandoPrimeiraExecucaoFalhar() {
+        // Arrange
+        assertThatThrownBy(() -> idempotenciaService.executar("chave", "POST a", () -> {
+            throw new IllegalStateException("falha");
+        })).isInstanceOf(IllegalStateException.class);
+        // Act
+        var resposta = idempotenciaService.executar("chave", "POST a", this::criar);
+        // Assert
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void deveExecutarNovamente_QuandoPrimeiraExecucaoGerarErro() {
+        // Arrange
+        assertThatThrownBy(() -> idempotenciaService.executar("chave", "POST a", () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        // Act
+        var resposta = idempotenciaService.executar("chave", "POST a", this::criar);
+        // Assert
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void deveExecutarNovamente_QuandoEntradaExpirar() {
+        // Arrange
+        idempotenciaProperties.setTtl(Duration.ZERO);
+        // Act
+        idempotenciaService.executar("chave", "POST a", this::criar);
+        idempotenciaService.executar("chave", "POST a", this::criar);
+        // Assert
+        assertThat(execucoes).hasValue(2);
+    }
+
+    @Test
+    void deveDespejarEntradasMaisAntigas_QuandoCapacidadeExcedida() {
+        // Arrange
+        idempotenciaProperties.setCapacidade(2);
+        // Act
+        idempotenciaService.executar("chave-1", "POST a", this::criar);
+        idempotenciaService.executar("chave-2", "POST a", this::criar);
+        idempotenciaService.executar("chave-3", "POST a", this::criar);
+        idempotenciaService.executar("chave-1", "POST a", this::criar);
+        // Assert
+        assertThat(execucoes).hasValue(4);
+    }
+
+    @Test
+    void deveDespejarEntradasMaisAntigas_QuandoCapacidadeEmBytesExcedida() {
+        // Arrange: cada entrada ocupa o custo fixo mais 2 bytes por caractere de "mensagem N", chave e impressão
+        var tamanhoEntrada = IdempotenciaServiceImpl.CUSTO_FIXO_ENTRADA + 2 * ("mensagem 1".length() + "chave-1".length() + "POST a".length());
+        idempotenciaProperties.setCapacidadeBytes(DataSize.ofBytes(tamanhoEntrada + tamanhoEntrada / 2));
+        // Act
+        idempotenciaService.executar("chave-1", "POST a", this::criar);
+        idempotenciaService.executar("chave-2", "POST a", this::criar);
+        idempotenciaService.executar("chave-2", "POST a", this::criar);
+        idempotenciaService.executar("chave-1", "POST a", this::criar);
+        // Assert
+        assertThat(execucoes).hasValue(3);
+    }
+
+    @Test
+    void naoDeveDespejarEntradaEmProcessamento_QuandoCapacidadeExcedida() throws Exception {
+        // Arrange
+        idempotenciaProperties.setCapacidade(1);
+        var iniciou = new CountDownLatch(1);
+        var liberar = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var primeira = executor.submit(() -> idempotenciaService.executar("chave-1", "POST a", () -> {
+                iniciou.countDown();
+                aguardar(liberar);
+                return criar();
+            }));
+            iniciou.await(5, TimeUnit.SECONDS);
+            idempotenciaService.executar("chave-2", "POST a", this::criar);
+            idempotenciaService.executar("chave-3", "POST a", this::criar);
+            // Act
+            var repetida = executor.submit(() -> idempotenciaService.executar("chave-1", "POST a", this::criar));
+            liberar.countDown();
+            // Assert
+            assertThat(repetida.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(primeira.get(5, TimeUnit.SECONDS).getBody());
+            assertThat(execucoes).hasValue(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deveAguardarPrimeiraRequisicao_QuandoChaveEmProcessamento() throws Exception {
+        // Arrange
+        var iniciou = new CountDownLatch(1);
+        var liberar = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var primeira = executor.submit(() -> idempotenciaService.executar("chave", "POST a", () -> {
+                iniciou.countDown();
+                aguardar(liberar);
+                return criar();
+            }));
+            iniciou.await(5, TimeUnit.SECONDS);
+            // Act
+            var concorrentes = new ArrayList<Future<ResponseEntity<?>>>();
+            for (var i = 0; i < 3; i++) {
+                concorrentes.add(executor.submit(() -> idempotenciaService.executar("chave", "POST a", this::criar)));
+            }
+            liberar.countDown();
+            // Assert
+            var corpo = primeira.get(5, TimeUnit.SECONDS).getBody();
+            for (var concorrente : concorrentes) {
+                assertThat(concorrente.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(corpo);
+            }
+            assertThat(execucoes).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoEsperaMaximaExcedida() throws Exception {
+        // Arrange
+        idempotenciaProperties.setEsperaMaxima(Duration.ofMillis(10));
+        var iniciou = new CountDownLatch(1);
+        var liberar = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> idempotenciaService.executar("chave", "POST a", () -> {
+                iniciou.countDown();
+                aguardar(liberar);
+                return criar();
+            }));
+            iniciou.await(5, TimeUnit.SECONDS);
+            // Act & Assert
+            assertThatThrownBy(() -> idempotenciaService.executar("chave", "POST a", this::criar))
+                    .isInstanceOf(IdempotenciaEmAndamentoException.class);
+        } finally {
+            liberar.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private ResponseEntity<?> criar() {
+        return new ResponseEntity<>("mensagem " + execucoes.incrementAndGet(), HttpStatus.CREATED);
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
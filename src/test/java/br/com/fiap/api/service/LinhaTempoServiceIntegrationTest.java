@@ -0,0 +1,231 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.exception.SeguidorInvalidoException;
+import br.com.fiap.api.model.EntradaLinhaTempo;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.LinhaTempoRepository;
+import br.com.fiap.api.repository.SeguidorRepository;
+import br.com.fiap.api.repository.TotalSeguidoresRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "mensagem.linha-tempo.limite-distribuicao=2")
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class LinhaTempoServiceIntegrationTest {
+
+    @Autowired
+    private LinhaTempoService linhaTempoService;
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Autowired
+    private SeguidorRepository seguidorRepository;
+
+    @Autowired
+    private TotalSeguidoresRepository totalSeguidoresRepository;
+
+    @Autowired
+    private LinhaTempoRepository linhaTempoRepository;
+
+    @AfterEach
+    void tearDown() {
+        seguidorRepository.deleteAllInBatch();
+        totalSeguidoresRepository.deleteAllInBatch();
+        linhaTempoRepository.deleteAllInBatch();
+        linhaTempoService.atualizarAutoresPopulares();
+    }
+
+    @Test
+    void deveDistribuirMensagem_ParaSeguidores() throws InterruptedException {
+        // Arrange
+        var leitor = usuario();
+        var autor = usuario();
+        linhaTempoService.seguir(leitor, autor);
+
+        // Act
+        var mensagem = publicar(autor);
+
+        // Assert
+        aguardar(() -> idsDaLinhaTempo(leitor).contains(mensagem.getId()));
+        assertThat(linhaTempoService.buscarLinhaTempo(usuario(), null, 10).getMensagens()).isEmpty();
+    }
+
+    @Test
+    void devePreencherLinhaTempo_AoSeguir() {
+        // Arrange
+        var leitor = usuario();
+        var autor = usuario();
+        var antiga = publicar(autor);
+        var recente = publicar(autor);
+
+        // Act
+        linhaTempoService.seguir(leitor, autor);
+
+        // Assert
+        assertThat(idsDaLinhaTempo(leitor)).containsExactlyInAnyOrder(antiga.getId(), recente.getId());
+        assertThat(totalSeguidoresRepository.findById(autor)).hasValueSatisfying(
+                total -> assertThat(total.getTotal()).isEqualTo(1));
+    }
+
+    @Test
+    void devePaginarLinhaTempo_SeguindoOCursor() {
+        // Arrange
+        var leitor = usuario();
+        var autor = usuario();
+        for (int i = 0; i < 5; i++) {
+            publicar(autor);
+        }
+        linhaTempoService.seguir(leitor, autor);
+        var esperadas = idsDaLinhaTempo(leitor);
+
+        // Act
+        var recebidas = new ArrayList<UUID>();
+        String cursor = null;
+        var paginas = 0;
+        while (true) {
+            var linhaTempo = linhaTempoService.buscarLinhaTempo(leitor, cursor, 2);
+            linhaTempo.getMensagens().forEach(mensagem -> recebidas.add(mensagem.getId()));
+            cursor = linhaTempo.getCursor();
+            paginas++;
+            if (!linhaTempo.isTemMais()) {
+                break;
+            }
+        }
+
+        // Assert
+        assertThat(esperadas).hasSize(5);
+        assertThat(recebidas).containsExactlyElementsOf(esperadas);
+        assertThat(paginas).isEqualTo(3);
+    }
+
+    @Test
+    void deveLerAutorPopularNaLeitura_SemDistribuirNemDuplicar() throws InterruptedException {
+        // Arrange
+        var leitor = usuario();
+        var outroLeitor = usuario();
+        var popular = usuario();
+        var comum = usuario();
+        var anterior = publicar(popular);
+        linhaTempoService.seguir(leitor, popular);
+        linhaTempoService.seguir(outroLeitor, popular);
+        linhaTempoService.seguir(leitor, comum);
+        linhaTempoService.atualizarAutoresPopulares();
+
+        // Act
+        var posterior = publicar(popular);
+        var distribuida = publicar(comum);
+
+        // Assert
+        assertThat(idsDaLinhaTempo(leitor)).contains(posterior.getId(), anterior.getId());
+        // A distribuição é sequencial: quando a mensagem seguinte chega, a do autor popular já teria chegado.
+        aguardar(() -> idsDaLinhaTempo(leitor).contains(distribuida.getId()));
+        assertThat(linhaTempoRepository.buscarEntradas(leitor, PageRequest.of(0, 10)))
+                .extracting(EntradaLinhaTempo::getMensagemId)
+                .contains(anterior.getId(), distribuida.getId())
+                .doesNotContain(posterior.getId());
+        assertThat(idsDaLinhaTempo(leitor))
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrder(anterior.getId(), posterior.getId(), distribuida.getId());
+    }
+
+    @Test
+    void deveRemoverEntradas_AoDeixarDeSeguir() {
+        // Arrange
+        var leitor = usuario();
+        var autor = usuario();
+        publicar(autor);
+        linhaTempoService.seguir(leitor, autor);
+
+        // Act
+        linhaTempoService.deixarDeSeguir(leitor, autor);
+
+        // Assert
+        assertThat(idsDaLinhaTempo(leitor)).isEmpty();
+        assertThat(totalSeguidoresRepository.findById(autor)).hasValueSatisfying(
+                total -> assertThat(total.getTotal()).isZero());
+    }
+
+    @Test
+    void deveContarUmaVez_QuandoSeguirConcorrentementeOMesmoAutor() throws Exception {
+        // Arrange
+        var leitor = usuario();
+        var autor = usuario();
+        var largada = new CyclicBarrier(2);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            // Act
+            var primeiro = executor.submit(() -> {
+                largada.await();
+                linhaTempoService.seguir(leitor, autor);
+                return null;
+            });
+            var segundo = executor.submit(() -> {
+                largada.await();
+                linhaTempoService.seguir(leitor, autor);
+                return null;
+            });
+            primeiro.get(5, TimeUnit.SECONDS);
+            segundo.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(seguidorRepository.count()).isEqualTo(1);
+        assertThat(totalSeguidoresRepository.findById(autor)).hasValueSatisfying(
+                total -> assertThat(total.getTotal()).isEqualTo(1));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoSeguirASiMesmo() {
+        var usuario = usuario();
+
+        assertThatThrownBy(() -> linhaTempoService.seguir(usuario, usuario))
+                .isInstanceOf(SeguidorInvalidoException.class)
+                .hasMessage("usuário não pode seguir a si mesmo");
+    }
+
+    private Mensagem publicar(String autor) {
+        var mensagem = gerarMensagem();
+        mensagem.setUsuario(autor);
+        mensagem.setConteudo("Mensagem " + UUID.randomUUID());
+        return mensagemService.registrarMensagem(mensagem);
+    }
+
+    private List<UUID> idsDaLinhaTempo(String usuario) {
+        return linhaTempoService.buscarLinhaTempo(usuario, null, 100).getMensagens().stream()
+                .map(Mensagem::getId)
+                .toList();
+    }
+
+    private static String usuario() {
+        return "usuario-" + UUID.randomUUID();
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        var limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(20);
+        }
+        assertThat(condicao.getAsBoolean()).as("distribuição concluída").isTrue();
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.LinhaTempoProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.LinhaTempoRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.SeguidorRepository;
+import br.com.fiap.api.repository.TotalSeguidoresRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.fiap.api.utils.RoteadorFragmentosHelper.fragmentoUnico;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LinhaTempoServiceTest {
+
+    private LinhaTempoServiceImpl linhaTempoService;
+
+    @Mock
+    private SeguidorRepository seguidorRepository;
+
+    @Mock
+    private TotalSeguidoresRepository totalSeguidoresRepository;
+
+    @Mock
+    private LinhaTempoRepository linhaTempoRepository;
+
+    @Mock
+    private MensagemRepository mensagemRepository;
+
+    @Mock
+    private MensagemService mensagemService;
+
+    private LinhaTempoProperties linhaTempoProperties;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        linhaTempoProperties = new LinhaTempoProperties();
+        linhaTempoProperties.setEsperaEntreTentativas(Duration.ZERO);
+        linhaTempoService = new LinhaTempoServiceImpl(seguidorRepository, totalSeguidoresRepository, linhaTempoRepository,
+                mensagemRepository, mensagemService, linhaTempoProperties, fragmentoUnico());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void deveRepetirDistribuicao_QuandoFalhaTemporaria() {
+        // Arrange
+        var distribuicao = new LinhaTempoServiceImpl.Distribuicao(UUID.randomUUID(), "autor", LocalDateTime.now());
+        when(linhaTempoRepository.distribuir(any(UUID.class), anyString(), any(LocalDateTime.class)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(2);
+
+        // Act
+        linhaTempoService.distribuir(distribuicao);
+
+        // Assert
+        verify(linhaTempoRepository, times(2)).distribuir(distribuicao.id(), distribuicao.autor(), distribuicao.dataCriacao());
+    }
+
+    @Test
+    void deveDesistirDaDistribuicao_AposEsgotarTentativas() {
+        // Arrange
+        linhaTempoProperties.setTentativas(2);
+        var distribuicao = new LinhaTempoServiceImpl.Distribuicao(UUID.randomUUID(), "autor", LocalDateTime.now());
+        when(linhaTempoRepository.distribuir(any(UUID.class), anyString(), any(LocalDateTime.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act
+        linhaTempoService.distribuir(distribuicao);
+
+        // Assert
+        verify(linhaTempoRepository, times(2)).distribuir(distribuicao.id(), distribuicao.autor(), distribuicao.dataCriacao());
+    }
+
+    @Test
+    void deveDescartarEContar_QuandoFilaCheia_SemExecutarNaThreadDeQuemPublica() throws Exception {
+        // Arrange
+        linhaTempoProperties.setCapacidadeFila(1);
+        linhaTempoService.iniciar();
+        var liberar = new CountDownLatch(1);
+        when(linhaTempoRepository.distribuir(any(UUID.class), anyString(), any(LocalDateTime.class))).thenAnswer(i -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        try {
+            // Act: a primeira ocupa a thread, a segunda a fila e a terceira é descartada
+            for (int i = 0; i < 3; i++) {
+                linhaTempoService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.REGISTRADA, mensagem()));
+            }
+
+            // Assert
+            assertThat(linhaTempoService.distribuicoesDescartadas()).isEqualTo(1);
+        } finally {
+            liberar.countDown();
+        }
+        verify(linhaTempoRepository, timeout(5_000).times(2)).distribuir(any(UUID.class), anyString(), any(LocalDateTime.class));
+        linhaTempoService.fechar();
+    }
+
+    private static Mensagem mensagem() {
+        return Mensagem.builder().id(UUID.randomUUID()).usuario("autor").conteudo("Conteudo").dataCriacao(LocalDateTime.now()).build();
+    }
+}
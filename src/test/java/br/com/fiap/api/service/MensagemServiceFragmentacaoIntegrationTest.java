@@ -0,0 +1,137 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.model.CampoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.EstatisticaUsuarioRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Três bancos H2 independentes; sem @Transactional porque cada operação abre a transação no próprio fragmento.
+@SpringBootTest(properties = {
+        "mensagem.fragmentacao.habilitada=true",
+        "mensagem.fragmentacao.criar-esquema=true",
+        "mensagem.fragmentacao.fragmentos[0].url=jdbc:h2:mem:fragmento0-${random.uuid}",
+        "mensagem.fragmentacao.fragmentos[1].url=jdbc:h2:mem:fragmento1-${random.uuid}",
+        "mensagem.fragmentacao.fragmentos[2].url=jdbc:h2:mem:fragmento2-${random.uuid}",
+        "spring.sql.init.mode=never"
+})
+@ActiveProfiles("test")
+public class MensagemServiceFragmentacaoIntegrationTest {
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Autowired
+    private MensagemRepository mensagemRepository;
+
+    @Autowired
+    private EstatisticaUsuarioRepository estatisticaUsuarioRepository;
+
+    @Autowired
+    private EstatisticaUsuarioService estatisticaUsuarioService;
+
+    @Autowired
+    private RoteadorFragmentos roteadorFragmentos;
+
+    @AfterEach
+    void tearDown() {
+        roteadorFragmentos.paraCadaFragmento(fragmento -> roteadorFragmentos.executar(fragmento, () -> {
+            mensagemRepository.deleteAllInBatch();
+            estatisticaUsuarioRepository.deleteAllInBatch();
+            return fragmento;
+        }));
+    }
+
+    @Test
+    void deveGravarCadaMensagemNoFragmentoDoSeuId() {
+        // Arrange
+        var ids = new ArrayList<UUID>();
+
+        // Act
+        for (int i = 0; i < 30; i++) {
+            ids.add(registrar("Conteúdo " + i).getId());
+        }
+
+        // Assert
+        var totais = roteadorFragmentos.consultarTodos(fragmento -> mensagemRepository.count());
+        assertThat(totais).hasSize(3).allMatch(total -> total > 0);
+        assertThat(totais.stream().mapToLong(Long::longValue).sum()).isEqualTo(30);
+        for (var id : ids) {
+            assertThat(roteadorFragmentos.consultar(roteadorFragmentos.fragmentoDe(id),
+                    () -> mensagemRepository.existsById(id))).isTrue();
+            assertThat(mensagemService.buscarMensagem(id).getId()).isEqualTo(id);
+        }
+        assertThat(mensagemService.buscarMensagens(ids).getEncontradas()).hasSize(30);
+    }
+
+    @Test
+    void deveListarMensagensIntercaladasEntreFragmentos_SemRepetirEntrePaginas() {
+        // Arrange
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 13; i++) {
+            ids.add(registrar("Conteúdo " + i).getId());
+        }
+
+        // Act
+        var listadas = new ArrayList<Mensagem>();
+        for (int pagina = 0; pagina < 3; pagina++) {
+            var resultado = mensagemService.listarMensagem(PageRequest.of(pagina, 5));
+            assertThat(resultado.getTotalElements()).isEqualTo(13);
+            listadas.addAll(resultado.getContent());
+        }
+        var projetadas = mensagemService.listarMensagem(PageRequest.of(1, 5), EnumSet.of(CampoMensagem.CONTEUDO));
+
+        // Assert
+        assertThat(listadas).extracting(Mensagem::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(listadas).isSortedAccordingTo(MensagemServiceImpl.ORDEM_CRONOLOGICA);
+        assertThat(projetadas.getContent()).extracting(Mensagem::getConteudo)
+                .containsExactlyElementsOf(listadas.subList(5, 10).stream().map(Mensagem::getConteudo).toList());
+    }
+
+    @Test
+    void deveAlterarCurtirERemoverNoFragmentoDaMensagem() {
+        // Arrange
+        var mensagem = registrar("Conteúdo original");
+        registrar("Outro conteúdo");
+        var alteracao = gerarMensagem();
+        alteracao.setId(mensagem.getId());
+        alteracao.setConteudo("Conteúdo alterado");
+
+        // Act
+        mensagemService.alterarMensagem(mensagem.getId(), alteracao);
+        var curtida = mensagemService.gostarMensagem(mensagem.getId());
+        var alterada = mensagemService.buscarMensagem(mensagem.getId());
+        var estatisticas = estatisticaUsuarioService.buscarEstatisticas(mensagem.getUsuario());
+
+        // Assert
+        assertThat(curtida.getGostei()).isEqualTo(1);
+        assertThat(alterada.getConteudo()).isEqualTo("Conteúdo alterado");
+        assertThat(estatisticas.getTotalMensagens()).isEqualTo(2);
+        assertThat(estatisticas.getTotalGostei()).isEqualTo(1);
+        assertThat(mensagemService.removerMensagem(mensagem.getId())).isTrue();
+        assertThatThrownBy(() -> mensagemService.buscarMensagem(mensagem.getId()))
+                .isInstanceOf(MensagemNotFoundException.class);
+    }
+
+    private Mensagem registrar(String conteudo) {
+        var mensagem = gerarMensagem();
+        mensagem.setConteudo(conteudo);
+        return mensagemService.registrarMensagem(mensagem);
+    }
+}
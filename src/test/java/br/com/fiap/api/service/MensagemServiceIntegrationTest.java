@@ -1,11 +1,13 @@
 package br.com.fiap.api.service;
 
+import br.com.fiap.api.exception.MensagemInvalidaException;
 import br.com.fiap.api.exception.MensagemNotFoundException;
 import br.com.fiap.api.model.Mensagem;
 import br.com.fiap.api.repository.MensagemRepository;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -16,12 +18,14 @@ import org.springframework.test.context.ActiveProfiles;
 import java.util.UUID;
 
 import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RecursosTeste.CONTEXTO_PADRAO;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @AutoConfigureTestDatabase
 @ActiveProfiles("test")
+@ResourceLock(CONTEXTO_PADRAO)
 @Transactional
 public class MensagemServiceIntegrationTest {
 
@@ -46,6 +50,22 @@ public class MensagemServiceIntegrationTest {
             assertThat(resultadoObtido.getDataCriacao()).isNotNull();
             assertThat(resultadoObtido.getGostei()).isEqualTo(0);
         }
+
+        @Test
+        void deveRetornarMensagemExistente_QuandoRegistrarMensagemDuplicada() {
+            var mensagem = gerarMensagem();
+            mensagem.setConteudo("Conteúdo duplicado " + UUID.randomUUID());
+            var duplicada = gerarMensagem();
+            duplicada.setConteudo(mensagem.getConteudo());
+
+            var primeira = mensagemService.registrarMensagem(mensagem);
+            var segunda = mensagemService.registrarMensagem(duplicada);
+
+            assertThat(segunda.getId()).isEqualTo(primeira.getId());
+            assertThat(mensagemRepository.findAll())
+                    .filteredOn(registrada -> registrada.getConteudo().equals(mensagem.getConteudo()))
+                    .hasSize(1);
+        }
     }
 
     @Nested
@@ -120,7 +140,7 @@ public class MensagemServiceIntegrationTest {
             mensagemAtualizada.setId(UUID.fromString("501d68d7-6c7b-4052-97f4-56fd6dda84e3"));
 
             assertThatThrownBy(() -> mensagemService.alterarMensagem(id, mensagemAtualizada))
-                    .isInstanceOf(MensagemNotFoundException.class)
+                    .isInstanceOf(MensagemInvalidaException.class)
                     .hasMessage("mensagem atualizada não apresenta o ID correto");
         }
 
@@ -1,6 +1,9 @@
 package br.com.fiap.api.service;
 
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.exception.MensagemInvalidaException;
 import br.com.fiap.api.exception.MensagemNotFoundException;
+import br.com.fiap.api.model.CampoMensagem;
 import br.com.fiap.api.model.Mensagem;
 import br.com.fiap.api.repository.MensagemRepository;
 import br.com.fiap.api.utils.MensagemHelper;
@@ -9,18 +12,31 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RoteadorFragmentosHelper.fragmentoUnico;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class MensagemServiceTest {
@@ -30,12 +46,28 @@ class MensagemServiceTest {
     @Mock
     private MensagemRepository mensagemRepository;
 
+    @Mock
+    private ArquivamentoService arquivamentoService;
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private DeduplicacaoService deduplicacaoService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     AutoCloseable mock;
 
     @BeforeEach
     void setup() {
         mock = MockitoAnnotations.openMocks(this);
-        mensagemService = new MensagemServiceImpl(mensagemRepository);
+        mensagemService = new MensagemServiceImpl(
+                mensagemRepository, arquivamentoService, rankingService, deduplicacaoService, eventPublisher,
+                fragmentoUnico());
+        when(arquivamentoService.completarPagina(any(), any())).thenAnswer(i -> i.getArgument(0));
+        when(arquivamentoService.completarPagina(any(), any(), any())).thenAnswer(i -> i.getArgument(0));
     }
 
     @AfterEach
@@ -61,6 +93,23 @@ class MensagemServiceTest {
         verify(mensagemRepository, times(1)).save(any(Mensagem.class));
     }
 
+    @Test
+    void deveRetornarMensagemExistente_QuandoRegistrarMensagemDuplicada() {
+        // Arrange
+        var mensagem = gerarMensagem();
+        var existente = gerarMensagem();
+        existente.setId(UUID.randomUUID());
+        when(deduplicacaoService.buscarDuplicada(mensagem)).thenReturn(Optional.of(existente));
+
+        // Act
+        var mensagemRegistrada = mensagemService.registrarMensagem(mensagem);
+
+        // Assert
+        assertThat(mensagemRegistrada).isEqualTo(existente);
+        verify(mensagemRepository, never()).save(any(Mensagem.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void devePermitirBuscarMensagem() {
         // Arrange
@@ -88,6 +137,140 @@ class MensagemServiceTest {
         verify(mensagemRepository, times(1)).findById(any(UUID.class));
     }
 
+    @Test
+    void deveCompartilharConsulta_QuandoLeiturasConcorrentesDoMesmoId() throws Exception {
+        // Arrange
+        var id = UUID.randomUUID();
+        var mensagem = gerarMensagem();
+        mensagem.setId(id);
+        var liberar = new CountDownLatch(1);
+        when(mensagemRepository.findById(id)).thenAnswer(i -> {
+            liberar.await();
+            return Optional.of(mensagem);
+        });
+        var leitores = 16;
+        var resultados = new ConcurrentLinkedQueue<Mensagem>();
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < leitores; i++) {
+            var thread = new Thread(() -> resultados.add(mensagemService.buscarMensagem(id)));
+            threads.add(thread);
+            thread.start();
+        }
+
+        // Act: libera a consulta só depois que todos os leitores estão bloqueados (na consulta ou aguardando-a)
+        var limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)
+                && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+        liberar.countDown();
+        for (var thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        // Assert
+        assertThat(resultados).hasSize(leitores).containsOnly(mensagem);
+        verify(mensagemRepository, times(1)).findById(id);
+    }
+
+    @Test
+    void deveConsultarNovamente_QuandoConsultaCompartilhadaFalhar() {
+        // Arrange
+        var id = UUID.randomUUID();
+        var mensagem = gerarMensagem();
+        mensagem.setId(id);
+        when(mensagemRepository.findById(id))
+                .thenThrow(new IllegalStateException("banco indisponível"))
+                .thenReturn(Optional.of(mensagem));
+
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemService.buscarMensagem(id))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("banco indisponível");
+        assertThat(mensagemService.buscarMensagem(id)).isEqualTo(mensagem);
+        verify(mensagemRepository, times(2)).findById(id);
+    }
+
+    @Test
+    void devePermitirBuscarMensagem_ComCamposSelecionados() {
+        // Arrange
+        var id = UUID.randomUUID();
+        var campos = EnumSet.of(CampoMensagem.ID, CampoMensagem.GOSTEI);
+        var mensagem = new Mensagem();
+        mensagem.setId(id);
+
+        when(mensagemRepository.buscarMensagem(id, campos)).thenReturn(Optional.of(mensagem));
+
+        // Act
+        var mensagemObtida = mensagemService.buscarMensagem(id, campos);
+
+        // Assert
+        assertThat(mensagemObtida).isEqualTo(mensagem);
+        verify(mensagemRepository, times(1)).buscarMensagem(id, campos);
+        verify(mensagemRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarMensagemComCampos_IdNaoExiste() {
+        var id = UUID.randomUUID();
+        var campos = EnumSet.of(CampoMensagem.ID);
+        when(mensagemRepository.buscarMensagem(id, campos)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> mensagemService.buscarMensagem(id, campos)).isInstanceOf(MensagemNotFoundException.class).hasMessage("Mensagem não encontrada");
+    }
+
+    @Test
+    void devePermitirBuscarMensagensEmLote() {
+        // Arrange
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < MensagemServiceImpl.TAMANHO_LOTE_BUSCA + 50; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        var idNaoEncontrado = ids.get(1);
+        when(mensagemRepository.buscarPorIds(anyCollection())).thenAnswer(i -> {
+            Collection<UUID> lote = i.getArgument(0);
+            var mensagens = new ArrayList<Mensagem>();
+            for (var id : lote) {
+                if (!id.equals(idNaoEncontrado)) {
+                    var mensagem = gerarMensagem();
+                    mensagem.setId(id);
+                    mensagens.add(0, mensagem);
+                }
+            }
+            return mensagens;
+        });
+
+        // Act
+        var resultadoObtido = mensagemService.buscarMensagens(ids);
+
+        // Assert
+        var idsEsperados = new ArrayList<>(ids);
+        idsEsperados.remove(idNaoEncontrado);
+        assertThat(resultadoObtido.getEncontradas())
+                .extracting(Mensagem::getId)
+                .containsExactlyElementsOf(idsEsperados);
+        assertThat(resultadoObtido.getNaoEncontradas()).containsExactly(idNaoEncontrado);
+        verify(mensagemRepository, times(2)).buscarPorIds(anyCollection());
+        verify(mensagemRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void devePermitirBuscarMensagensEmLote_IdsRepetidos() {
+        // Arrange
+        var id = UUID.randomUUID();
+        var mensagem = gerarMensagem();
+        mensagem.setId(id);
+        when(mensagemRepository.buscarPorIds(anyCollection())).thenReturn(List.of(mensagem));
+
+        // Act
+        var resultadoObtido = mensagemService.buscarMensagens(List.of(id, id));
+
+        // Assert
+        assertThat(resultadoObtido.getEncontradas()).containsExactly(mensagem);
+        assertThat(resultadoObtido.getNaoEncontradas()).isEmpty();
+        verify(mensagemRepository, times(1)).buscarPorIds(List.of(id));
+    }
+
     @Test
     void devePermitirAlterarMensagem() {
         // Arrange
@@ -149,13 +332,56 @@ class MensagemServiceTest {
         // Act & Assert
 
 
-        assertThatThrownBy(() -> mensagemService.alterarMensagem(id, mensagemNova)).isInstanceOf(MensagemNotFoundException.class).hasMessage("mensagem atualizada não apresenta o ID correto");
+        assertThatThrownBy(() -> mensagemService.alterarMensagem(id, mensagemNova)).isInstanceOf(MensagemInvalidaException.class).hasMessage("mensagem atualizada não apresenta o ID correto");
 
         verify(mensagemRepository, times(1)).findById(any(UUID.class));
         verify(mensagemRepository, never()).save(any(Mensagem.class));
 
     }
 
+    @Test
+    void devePermitirGostarMensagem() {
+        // Arrange
+        var id = UUID.randomUUID();
+        var mensagem = gerarMensagem();
+        mensagem.setId(id);
+        mensagem.setGostei(1);
+        when(mensagemRepository.buscarParaAtualizar(id)).thenReturn(Optional.of(mensagem));
+        when(mensagemRepository.saveAndFlush(any(Mensagem.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        var mensagemObtida = mensagemService.gostarMensagem(id);
+
+        // Assert
+        assertThat(mensagemObtida.getGostei()).isEqualTo(2);
+        verify(mensagemRepository, times(1)).saveAndFlush(mensagem);
+        verify(arquivamentoService, never()).incrementarGostei(any(UUID.class));
+        verify(eventPublisher, times(1)).publishEvent(any(MensagemEvento.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoGostarMensagem_IdNaoExiste() {
+        // Arrange
+        var id = UUID.randomUUID();
+        when(mensagemRepository.buscarParaAtualizar(id)).thenReturn(Optional.empty());
+        when(arquivamentoService.incrementarGostei(id)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> mensagemService.gostarMensagem(id)).isInstanceOf(MensagemNotFoundException.class).hasMessage("Mensagem não encontrada");
+        verify(eventPublisher, never()).publishEvent(any(MensagemEvento.class));
+    }
+
+    @Test
+    void devePermitirListarPopulares() {
+        var populares = List.of(gerarMensagem(), gerarMensagem());
+        when(rankingService.listarPopulares(2)).thenReturn(populares);
+
+        var resultadoObtido = mensagemService.listarPopulares(2);
+
+        assertThat(resultadoObtido).isEqualTo(populares);
+        verify(mensagemRepository, never()).buscarMaisCurtidas(any(Pageable.class));
+    }
+
     @Test
     void devePermitirRemoverMensagem() {
         // Arrange
@@ -163,7 +389,7 @@ class MensagemServiceTest {
         var mensagem = gerarMensagem();
         mensagem.setId(id);
         when(mensagemRepository.findById(id)).thenReturn(Optional.of(mensagem));
-        doNothing().when(mensagemRepository).deleteById(id);
+        doNothing().when(mensagemRepository).delete(mensagem);
 
         // Act
         var mensagemFoiRemovida = mensagemService.removerMensagem(id);
@@ -171,7 +397,8 @@ class MensagemServiceTest {
         // Assert
         assertThat(mensagemFoiRemovida).isTrue();
         verify(mensagemRepository, times(1)).findById(any(UUID.class));
-        verify(mensagemRepository, times(1)).deleteById(any(UUID.class));
+        verify(mensagemRepository, times(1)).delete(mensagem);
+        verify(mensagemRepository, never()).deleteById(any(UUID.class));
     }
 
     @Test
@@ -183,7 +410,7 @@ class MensagemServiceTest {
         // Act & Assert
         assertThatThrownBy(() -> mensagemService.removerMensagem(id)).isInstanceOf(MensagemNotFoundException.class).hasMessage("Mensagem não encontrada");
         verify(mensagemRepository, times(1)).findById(any(UUID.class));
-        verify(mensagemRepository, never()).deleteById(any(UUID.class));
+        verify(mensagemRepository, never()).delete(any(Mensagem.class));
     }
 
     @Test
@@ -203,4 +430,51 @@ class MensagemServiceTest {
         verify(mensagemRepository, times(1)).listarMensagens(any(Pageable.class));
     }
 
+    @Test
+    void deveListarPrimeirasPaginasPelaConsultaEmCache() {
+        // Arrange
+        Page<Mensagem> listaDeMensagens = new PageImpl<>(List.of(MensagemHelper.gerarMensagem()));
+        when(mensagemRepository.listarPrimeirasMensagens(any(Pageable.class))).thenReturn(listaDeMensagens);
+        when(mensagemRepository.listarMensagens(any(Pageable.class))).thenReturn(listaDeMensagens);
+
+        // Act
+        mensagemService.listarMensagem(PageRequest.of(0, 10));
+        mensagemService.listarMensagem(PageRequest.of(MensagemServiceImpl.PAGINAS_EM_CACHE, 10));
+
+        // Assert
+        verify(mensagemRepository, times(1)).listarPrimeirasMensagens(PageRequest.of(0, 10));
+        verify(mensagemRepository, times(1)).listarMensagens(PageRequest.of(MensagemServiceImpl.PAGINAS_EM_CACHE, 10));
+    }
+
+    @Test
+    void devePermitirListarMensagem_ComCamposSelecionados() {
+        // Arrange
+        var campos = EnumSet.of(CampoMensagem.USUARIO);
+        Page<Mensagem> listaDeMensagens = new PageImpl<>(Arrays.asList(new Mensagem(), new Mensagem()));
+        when(mensagemRepository.listarMensagens(eq(campos), any(Pageable.class))).thenReturn(listaDeMensagens);
+
+        // Act
+        var resultadoObtido = mensagemService.listarMensagem(Pageable.unpaged(), campos);
+
+        // Assert
+        assertThat(resultadoObtido).hasSize(2);
+        verify(mensagemRepository, times(1)).listarMensagens(eq(campos), any(Pageable.class));
+        verify(mensagemRepository, never()).listarMensagens(any(Pageable.class));
+    }
+
+    @Test
+    void deveOrdenarEmpatesPorUuidSemSinal_ComoOsFragmentos() {
+        // Arrange
+        var data = LocalDateTime.now();
+        var baixa = Mensagem.builder().id(UUID.fromString("10000000-0000-0000-0000-000000000000")).dataCriacao(data).build();
+        var alta = Mensagem.builder().id(UUID.fromString("90000000-0000-0000-0000-000000000000")).dataCriacao(data).build();
+
+        // Act
+        var ordenadas = new ArrayList<>(List.of(alta, baixa));
+        ordenadas.sort(MensagemServiceImpl.ORDEM_CRONOLOGICA);
+
+        // Assert
+        assertThat(ordenadas).containsExactly(baixa, alta);
+    }
+
 }
\ No newline at end of file
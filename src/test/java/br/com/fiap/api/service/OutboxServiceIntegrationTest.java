@@ -0,0 +1,102 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.model.LiderancaOutbox;
+import br.com.fiap.api.repository.EventoOutboxRepository;
+import br.com.fiap.api.repository.LiderancaOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "mensagem.outbox.habilitado=true",
+        "mensagem.outbox.intervalo=PT1H"
+})
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class OutboxServiceIntegrationTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private LiderancaOutboxRepository liderancaOutboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void diretorioEventos(DynamicPropertyRegistry registry) throws IOException {
+        var diretorio = Files.createTempDirectory("eventos");
+        registry.add("mensagem.outbox.diretorio", diretorio::toString);
+    }
+
+    @Test
+    void deveGravarEventoNoOutbox_ETransmitirParaOLog() throws IOException {
+        // Arrange
+        var mensagem = gerarMensagem();
+        mensagem.setConteudo("Conteúdo do outbox");
+        var registrada = mensagemService.registrarMensagem(mensagem);
+        mensagemService.gostarMensagem(registrada.getId());
+        mensagemService.removerMensagem(registrada.getId());
+        assertThat(eventoOutboxRepository.count()).isEqualTo(3);
+
+        // Act
+        var transmitidos = outboxService.transmitir();
+        var trecho = outboxService.lerEventos(0, 100);
+
+        // Assert
+        assertThat(transmitidos).isEqualTo(3);
+        assertThat(eventoOutboxRepository.count()).isZero();
+        assertThat(trecho.proximoOffset()).isEqualTo(3);
+        var bytes = Files.readAllBytes(trecho.arquivo());
+        var inicio = Math.toIntExact(trecho.posicao());
+        var linhas = new String(Arrays.copyOfRange(bytes, inicio, inicio + Math.toIntExact(trecho.tamanho())),
+                StandardCharsets.UTF_8).split("\n");
+        assertThat(linhas).hasSize(3);
+        var removido = objectMapper.readTree(linhas[2]);
+        assertThat(removido.get("offset").asLong()).isEqualTo(2);
+        assertThat(removido.get("tipo").asText()).isEqualTo("REMOVIDA");
+        assertThat(removido.get("mensagemId").asText()).isEqualTo(registrada.getId().toString());
+        assertThat(removido.get("mensagem").get("conteudo").asText()).isEqualTo("Conteúdo do outbox");
+    }
+
+    @Test
+    void naoDeveTransmitir_QuandoOutraInstanciaDetemALideranca() {
+        // Arrange
+        liderancaOutboxRepository.save(new LiderancaOutbox(OutboxServiceImpl.RECURSO_LIDERANCA, "outra-instancia",
+                LocalDateTime.now().plusMinutes(1)));
+        var mensagem = mensagemService.registrarMensagem(gerarMensagem());
+        try {
+            // Act
+            var transmitidos = outboxService.transmitir();
+
+            // Assert
+            assertThat(transmitidos).isZero();
+            assertThat(eventoOutboxRepository.count()).isEqualTo(1);
+        } finally {
+            liderancaOutboxRepository.deleteAll();
+            mensagemService.removerMensagem(mensagem.getId());
+            eventoOutboxRepository.deleteAll();
+        }
+    }
+}
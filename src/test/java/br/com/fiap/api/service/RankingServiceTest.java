@@ -0,0 +1,193 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.MensagemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.fiap.api.utils.RoteadorFragmentosHelper.fragmentoUnico;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RankingServiceTest {
+
+    private RankingServiceImpl rankingService;
+
+    @Mock
+    private MensagemRepository mensagemRepository;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        rankingService = new RankingServiceImpl(mensagemRepository, fragmentoUnico());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void deveReconstruirRankingAPartirDoBanco() {
+        // Arrange
+        var maisCurtida = mensagem(10);
+        var menosCurtida = mensagem(3);
+        when(mensagemRepository.buscarMaisCurtidas(any(Pageable.class))).thenReturn(List.of(maisCurtida, menosCurtida));
+
+        // Act
+        rankingService.reconstruir();
+
+        // Assert
+        assertThat(rankingService.listarPopulares(10))
+                .extracting(Mensagem::getId)
+                .containsExactly(maisCurtida.getId(), menosCurtida.getId());
+        assertThat(rankingService.listarPopulares(1)).hasSize(1);
+    }
+
+    @Test
+    void deveReordenarRanking_QuandoMensagemCurtida() {
+        // Arrange
+        var primeira = mensagem(5);
+        var segunda = mensagem(4);
+        when(mensagemRepository.buscarMaisCurtidas(any(Pageable.class))).thenReturn(List.of(primeira, segunda));
+        rankingService.reconstruir();
+
+        // Act
+        segunda.setGostei(6);
+        rankingService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.CURTIDA, segunda));
+
+        // Assert
+        assertThat(rankingService.listarPopulares(2))
+                .extracting(Mensagem::getId)
+                .containsExactly(segunda.getId(), primeira.getId());
+        assertThat(rankingService.listarPopulares(1).get(0).getGostei()).isEqualTo(6);
+    }
+
+    @Test
+    void naoDeveRegredirCurtidas_QuandoEventosChegamForaDeOrdem() {
+        // Arrange
+        var primeira = mensagem(5);
+        var segunda = mensagem(4);
+        when(mensagemRepository.buscarMaisCurtidas(any(Pageable.class))).thenReturn(List.of(primeira, segunda));
+        rankingService.reconstruir();
+        var curtidaRecente = curtida(segunda, 7);
+        var curtidaAtrasada = curtida(segunda, 6);
+
+        // Act
+        rankingService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.CURTIDA, curtidaRecente));
+        rankingService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.CURTIDA, curtidaAtrasada));
+
+        // Assert
+        assertThat(rankingService.listarPopulares(2))
+                .extracting(Mensagem::getId)
+                .containsExactly(segunda.getId(), primeira.getId());
+        assertThat(rankingService.listarPopulares(1).get(0).getGostei()).isEqualTo(7);
+    }
+
+    @Test
+    void naoDeveAdmitirMensagem_QuandoAbaixoDaFronteira() {
+        // Arrange
+        var mensagens = new ArrayList<Mensagem>();
+        for (int i = 0; i <= RankingServiceImpl.CAPACIDADE; i++) {
+            mensagens.add(mensagem(1_000 - i));
+        }
+        when(mensagemRepository.buscarMaisCurtidas(any(Pageable.class))).thenReturn(mensagens);
+        rankingService.reconstruir();
+
+        // Act
+        var nova = mensagem(0);
+        rankingService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.REGISTRADA, nova));
+
+        // Assert
+        assertThat(rankingService.listarPopulares(Integer.MAX_VALUE))
+                .hasSize(RankingServiceImpl.TAMANHO_RANKING)
+                .extracting(Mensagem::getId)
+                .doesNotContain(nova.getId());
+    }
+
+    @Test
+    void deveRemoverMensagemDoRanking() {
+        // Arrange
+        var primeira = mensagem(5);
+        var segunda = mensagem(4);
+        when(mensagemRepository.buscarMaisCurtidas(any(Pageable.class))).thenReturn(List.of(primeira, segunda));
+        rankingService.reconstruir();
+
+        // Act
+        rankingService.aoAlterarMensagem(new MensagemEvento(TipoEventoMensagem.REMOVIDA, primeira.getId(), null));
+
+        // Assert
+        assertThat(rankingService.listarPopulares(10))
+                .extracting(Mensagem::getId)
+                .containsExactly(segunda.getId());
+        verify(mensagemRepository, times(1)).buscarMaisCurtidas(any(Pageable.class));
+    }
+
+    @Test
+    void deveManterRankingConsistente_QuandoAtualizacoesConcorrentes() throws Exception {
+        // Arrange
+        when(mensagemRepository.buscarMaisCurtidas(any(Pageable.class))).thenReturn(List.of());
+        rankingService.reconstruir();
+        var threads = 8;
+        var porThread = 500;
+        var executor = Executors.newFixedThreadPool(threads);
+        var inicio = new CountDownLatch(1);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                inicio.await();
+                for (int i = 0; i < porThread; i++) {
+                    rankingService.aoAlterarMensagem(MensagemEvento.of(TipoEventoMensagem.REGISTRADA, mensagem(i)));
+                }
+                return null;
+            });
+        }
+        inicio.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Assert
+        var populares = rankingService.listarPopulares(Integer.MAX_VALUE);
+        assertThat(populares).hasSize(RankingServiceImpl.TAMANHO_RANKING);
+        assertThat(populares).isSortedAccordingTo(RankingServiceImpl.ORDEM);
+        assertThat(populares).allSatisfy(mensagem -> assertThat(mensagem.getGostei()).isGreaterThanOrEqualTo(porThread - 25));
+    }
+
+    private static Mensagem curtida(Mensagem mensagem, int gostei) {
+        return Mensagem.builder()
+                .id(mensagem.getId())
+                .usuario(mensagem.getUsuario())
+                .conteudo(mensagem.getConteudo())
+                .dataCriacao(mensagem.getDataCriacao())
+                .gostei(gostei)
+                .build();
+    }
+
+    private static Mensagem mensagem(int gostei) {
+        return Mensagem.builder()
+                .id(UUID.randomUUID())
+                .usuario("usuario")
+                .conteudo("conteudo")
+                .dataCriacao(LocalDateTime.now())
+                .gostei(gostei)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.repository.MensagemRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "mensagem.retencao.tamanho-lote=2",
+        "mensagem.retencao.pausa-entre-lotes=0ms"
+})
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Transactional
+public class RetencaoServiceIntegrationTest {
+
+    @Autowired
+    private MensagemRepository mensagemRepository;
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Autowired
+    private RetencaoService retencaoService;
+
+    @Test
+    void devePermitirExpurgarMensagensAntigas() {
+        var mensagemRecente = mensagemService.registrarMensagem(gerarMensagem());
+
+        var resultado = retencaoService.expurgarMensagensAntigas();
+
+        assertThat(resultado.getRemovidas()).isEqualTo(3);
+        assertThat(resultado.getLotes()).isEqualTo(2);
+        assertThat(mensagemRepository.findAll())
+                .hasSize(1)
+                .allSatisfy(mensagem -> assertThat(mensagem.getId()).isEqualTo(mensagemRecente.getId()));
+    }
+}
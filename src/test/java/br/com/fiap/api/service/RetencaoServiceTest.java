@@ -0,0 +1,179 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.config.RetencaoProperties;
+import br.com.fiap.api.event.MensagemEvento;
+import br.com.fiap.api.event.TipoEventoMensagem;
+import br.com.fiap.api.model.ChaveMensagem;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.repository.MensagemArquivadaRepository;
+import br.com.fiap.api.repository.MensagemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.RoteadorFragmentosHelper.fragmentoUnico;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RetencaoServiceTest {
+
+    private RetencaoServiceImpl retencaoService;
+
+    @Mock
+    private MensagemRepository mensagemRepository;
+
+    @Mock
+    private MensagemArquivadaRepository mensagemArquivadaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RetencaoProperties retencaoProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    AutoCloseable mock;
+
+    @BeforeEach
+    void setup() {
+        mock = MockitoAnnotations.openMocks(this);
+        retencaoProperties = new RetencaoProperties();
+        retencaoProperties.setTamanhoLote(2);
+        retencaoProperties.setPausaEntreLotes(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        when(transactionTemplate.execute(any())).thenAnswer(i -> {
+            TransactionCallback<?> callback = i.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        retencaoService = new RetencaoServiceImpl(mensagemRepository, mensagemArquivadaRepository, eventPublisher, transactionTemplate, retencaoProperties, meterRegistry,
+                fragmentoUnico());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirExpurgarMensagensEmLotes() {
+        // Arrange
+        var primeira = chave(LocalDateTime.of(2020, 1, 1, 0, 0));
+        var segunda = chave(LocalDateTime.of(2020, 1, 2, 0, 0));
+        var terceira = chave(LocalDateTime.of(2020, 1, 3, 0, 0));
+        when(mensagemRepository.buscarChavesAnteriores(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(primeira, segunda));
+        when(mensagemRepository.buscarChavesAnteriores(any(LocalDateTime.class), eq(segunda.getDataCriacao()), eq(segunda.getId()), any(Pageable.class)))
+                .thenReturn(List.of(terceira));
+
+        // Act
+        var resultado = retencaoService.expurgarMensagensAntigas();
+
+        // Assert
+        assertThat(resultado.getRemovidas()).isEqualTo(3);
+        assertThat(resultado.getLotes()).isEqualTo(2);
+        verify(mensagemRepository, times(1)).removerPorIds(List.of(primeira.getId(), segunda.getId()));
+        verify(mensagemRepository, times(1)).removerPorIds(List.of(terceira.getId()));
+        assertThat(meterRegistry.counter(RetencaoServiceImpl.METRICA_REMOVIDAS).count()).isEqualTo(3);
+        assertThat(meterRegistry.timer(RetencaoServiceImpl.METRICA_LOTE).count()).isEqualTo(3);
+    }
+
+    @Test
+    void devePermitirExpurgarMensagensArquivadas() {
+        // Arrange
+        var arquivada = chave(LocalDateTime.of(2019, 6, 1, 0, 0));
+        when(mensagemArquivadaRepository.buscarChavesAnteriores(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(arquivada));
+
+        // Act
+        var resultado = retencaoService.expurgarMensagensAntigas();
+
+        // Assert
+        assertThat(resultado.getRemovidas()).isEqualTo(1);
+        verify(mensagemArquivadaRepository, times(1)).removerPorIds(List.of(arquivada.getId()));
+        verify(mensagemRepository, never()).removerPorIds(anyCollection());
+    }
+
+    @Test
+    void devePublicarRemocao_ParaCadaMensagemExpurgada() {
+        // Arrange
+        var antiga = chave(LocalDateTime.of(2020, 1, 1, 0, 0));
+        var mensagem = Mensagem.builder()
+                .id(antiga.getId())
+                .usuario("joao")
+                .conteudo("antiga")
+                .dataCriacao(antiga.getDataCriacao())
+                .gostei(3)
+                .build();
+        when(mensagemRepository.buscarChavesAnteriores(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(antiga));
+        when(mensagemRepository.buscarParaExpurgo(List.of(antiga.getId())))
+                .thenReturn(List.of(mensagem));
+
+        // Act
+        retencaoService.expurgarMensagensAntigas();
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object evento) ->
+                evento instanceof MensagemEvento mensagemEvento
+                        && mensagemEvento.getTipo() == TipoEventoMensagem.REMOVIDA
+                        && mensagemEvento.getMensagem() == mensagem));
+    }
+
+    @Test
+    void naoDeveRemoverNada_QuandoNaoExistemMensagensAntigas() {
+        // Arrange
+        when(mensagemRepository.buscarChavesAnteriores(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        var resultado = retencaoService.expurgarMensagensAntigas();
+
+        // Assert
+        assertThat(resultado.getRemovidas()).isZero();
+        assertThat(resultado.getLotes()).isZero();
+        verify(mensagemRepository, never()).removerPorIds(anyCollection());
+    }
+
+    @Test
+    void naoDeveExecutarExpurgoAgendado_QuandoRetencaoDesabilitada() {
+        retencaoProperties.setHabilitada(false);
+
+        retencaoService.executarExpurgoAgendado();
+
+        verify(mensagemRepository, never()).buscarChavesAnteriores(any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    private static ChaveMensagem chave(LocalDateTime dataCriacao) {
+        var id = UUID.randomUUID();
+        return new ChaveMensagem() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDataCriacao() {
+                return dataCriacao;
+            }
+        };
+    }
+}
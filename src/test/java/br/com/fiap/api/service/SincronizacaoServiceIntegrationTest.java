@@ -0,0 +1,122 @@
+package br.com.fiap.api.service;
+
+import br.com.fiap.api.exception.TokenExpiradoException;
+import br.com.fiap.api.exception.TokenInvalidoException;
+import br.com.fiap.api.model.Mensagem;
+import br.com.fiap.api.model.TokenSincronizacao;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static br.com.fiap.api.utils.MensagemHelper.gerarMensagem;
+import static br.com.fiap.api.utils.RecursosTeste.CONTEXTO_PADRAO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@ResourceLock(CONTEXTO_PADRAO)
+@Transactional
+public class SincronizacaoServiceIntegrationTest {
+
+    private static final UUID ID_ALTERADA = UUID.fromString("7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8");
+    private static final UUID ID_REMOVIDA = UUID.fromString("9ca7c72c-0957-4c7d-bdc2-325266842f21");
+    private static final UUID ID_INALTERADA = UUID.fromString("52ea107b-7b58-446f-bbde-22a20cb8c2bc");
+
+    @Autowired
+    private SincronizacaoService sincronizacaoService;
+
+    @Autowired
+    private MensagemService mensagemService;
+
+    @Test
+    void devePermitirSincronizacaoCompleta_SemToken() {
+        var alteracoes = sincronizacaoService.listarAlteracoes(null, 100);
+
+        assertThat(alteracoes.getAlteradas())
+                .extracting(Mensagem::getId)
+                .containsExactly(ID_ALTERADA, ID_REMOVIDA, ID_INALTERADA);
+        assertThat(alteracoes.getRemovidas()).isEmpty();
+        assertThat(alteracoes.getToken()).isNotBlank();
+        assertThat(alteracoes.isTemMais()).isFalse();
+    }
+
+    @Test
+    void deveRetornarApenasAlteracoesDesdeOToken_IncluindoRemocoes() {
+        // Arrange
+        var token = sincronizacaoService.listarAlteracoes(null, 100).getToken();
+        var nova = gerarMensagem();
+        nova.setConteudo("Conteúdo sincronizado " + UUID.randomUUID());
+        var registrada = mensagemService.registrarMensagem(nova);
+        var alterada = mensagemService.buscarMensagem(ID_ALTERADA);
+        alterada.setConteudo("Conteúdo alterado");
+        mensagemService.alterarMensagem(ID_ALTERADA, alterada);
+        mensagemService.removerMensagem(ID_REMOVIDA);
+
+        // Act
+        var alteracoes = sincronizacaoService.listarAlteracoes(token, 100);
+
+        // Assert
+        assertThat(alteracoes.getAlteradas())
+                .extracting(Mensagem::getId)
+                .containsExactlyInAnyOrder(registrada.getId(), ID_ALTERADA)
+                .doesNotContain(ID_INALTERADA);
+        assertThat(alteracoes.getRemovidas()).containsExactly(ID_REMOVIDA);
+        assertThat(alteracoes.getToken()).isNotEqualTo(token);
+        assertThat(sincronizacaoService.listarAlteracoes(alteracoes.getToken(), 100).getAlteradas()).isEmpty();
+    }
+
+    @Test
+    void deveRetornarMensagemCurtida_AposOToken() {
+        var token = sincronizacaoService.listarAlteracoes(null, 100).getToken();
+        mensagemService.gostarMensagem(ID_INALTERADA);
+
+        var alteracoes = sincronizacaoService.listarAlteracoes(token, 100);
+
+        assertThat(alteracoes.getAlteradas())
+                .extracting(Mensagem::getId)
+                .containsExactly(ID_INALTERADA);
+    }
+
+    @Test
+    void devePermitirPaginarAlteracoes_SeguindoOToken() {
+        var ids = new ArrayList<UUID>();
+        String token = null;
+        var paginas = 0;
+        while (true) {
+            var alteracoes = sincronizacaoService.listarAlteracoes(token, 1);
+            alteracoes.getAlteradas().forEach(mensagem -> ids.add(mensagem.getId()));
+            token = alteracoes.getToken();
+            paginas++;
+            if (!alteracoes.isTemMais()) {
+                break;
+            }
+        }
+
+        assertThat(ids).containsExactly(ID_ALTERADA, ID_REMOVIDA, ID_INALTERADA);
+        assertThat(paginas).isEqualTo(3);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoTokenExpirado() {
+        var token = new TokenSincronizacao(LocalDateTime.now().minusDays(31), UUID.randomUUID()).codificar();
+
+        assertThatThrownBy(() -> sincronizacaoService.listarAlteracoes(token, 100))
+                .isInstanceOf(TokenExpiradoException.class);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoTokenInvalido() {
+        assertThatThrownBy(() -> sincronizacaoService.listarAlteracoes("nao-e-um-token", 100))
+                .isInstanceOf(TokenInvalidoException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.fiap.api.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+// Registrado em src/test/resources/config/application-test.yml (hibernate.session_factory.statement_inspector).
+// Conta apenas os comandos emitidos na thread que chamou medir(), o que isola a medição de tarefas em segundo plano
+// e de testes paralelos.
+public class ContadorSql implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CONTAGEM = new ThreadLocal<>();
+
+    private static final int SELECT = 0;
+    private static final int INSERT = 1;
+    private static final int UPDATE = 2;
+    private static final int DELETE = 3;
+
+    @Override
+    public String inspect(String sql) {
+        var contagem = CONTAGEM.get();
+        if (contagem != null) {
+            var tipo = tipo(sql);
+            if (tipo >= 0) {
+                contagem[tipo]++;
+            }
+        }
+        return sql;
+    }
+
+    public static <T> Medicao<T> medir(Operacao<T> operacao) throws Exception {
+        var anterior = CONTAGEM.get();
+        var contagem = new int[4];
+        CONTAGEM.set(contagem);
+        try {
+            var resultado = operacao.executar();
+            return new Medicao<>(resultado,
+                    new ContagemSql(contagem[SELECT], contagem[INSERT], contagem[UPDATE], contagem[DELETE]));
+        } finally {
+            CONTAGEM.set(anterior);
+        }
+    }
+
+    private static int tipo(String sql) {
+        var comando = sql.stripLeading();
+        var fim = 0;
+        while (fim < comando.length() && Character.isLetter(comando.charAt(fim))) {
+            fim++;
+        }
+        return switch (comando.substring(0, fim).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> SELECT;
+            case "insert", "merge" -> INSERT;
+            case "update" -> UPDATE;
+            case "delete" -> DELETE;
+            default -> -1;
+        };
+    }
+
+    @FunctionalInterface
+    public interface Operacao<T> {
+        T executar() throws Exception;
+    }
+
+    public record Medicao<T>(T resultado, ContagemSql contagem) {
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.fiap.api.utils;
+
+public record ContagemSql(int select, int insert, int update, int delete) {
+
+    public static ContagemSql selects(int select) {
+        return new ContagemSql(select, 0, 0, 0);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.fiap.api.utils;
+
+// Chaves de @ResourceLock para classes que compartilham estado quando executadas em paralelo.
+public abstract class RecursosTeste {
+
+    // Classes com a mesma configuração reutilizam o contexto em cache e, com ele, o banco H2 e as estatísticas do Hibernate.
+    public static final String CONTEXTO_PADRAO = "contexto-padrao";
+}
@@ -0,0 +1,15 @@
+package br.com.fiap.api.utils;
+
+import br.com.fiap.api.config.FragmentacaoProperties;
+import br.com.fiap.api.repository.RoteadorFragmentos;
+import br.com.fiap.api.repository.RoteadorFragmentosImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.mockito.Mockito.mock;
+
+public abstract class RoteadorFragmentosHelper {
+
+    public static RoteadorFragmentos fragmentoUnico() {
+        return new RoteadorFragmentosImpl(new FragmentacaoProperties(), mock(PlatformTransactionManager.class));
+    }
+}
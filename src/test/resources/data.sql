@@ -1,6 +1,6 @@
 INSERT INTO mensagem
-    (ID, USUARIO, CONTEUDO, DATA_CRIACAO, GOSTEI)
+    (ID, USUARIO, CONTEUDO, DATA_CRIACAO, GOSTEI, ATUALIZADO_EM, RESPOSTAS)
 VALUES
-    ('7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8','Adam','Conteudo da Mensagem 01', '2023-01-15 00:00:00.10000', 0),
-    ('9ca7c72c-0957-4c7d-bdc2-325266842f21','Eve','Conteudo da Mensagem 02', '2023-01-15 00:00:00.20000', 0),
-    ('52ea107b-7b58-446f-bbde-22a20cb8c2bc','Seth','Conteudo da Mensagem 03', '2023-01-15 00:00:00.30000', 0);
\ No newline at end of file
+    ('7714f0bd-eb6c-4e8a-85f4-4d70674c1ba8','Adam','Conteudo da Mensagem 01', '2023-01-15 00:00:00.10000', 0, '2023-01-15 00:00:00.10000', 0),
+    ('9ca7c72c-0957-4c7d-bdc2-325266842f21','Eve','Conteudo da Mensagem 02', '2023-01-15 00:00:00.20000', 0, '2023-01-15 00:00:00.20000', 0),
+    ('52ea107b-7b58-446f-bbde-22a20cb8c2bc','Seth','Conteudo da Mensagem 03', '2023-01-15 00:00:00.30000', 0, '2023-01-15 00:00:00.30000', 0);
\ No newline at end of file